@@ -21,6 +21,7 @@
  */
 package net.markenwerk.commons.iterators;
 
+import java.util.Collection;
 import java.util.NoSuchElementException;
 
 /**
@@ -33,7 +34,8 @@ import java.util.NoSuchElementException;
  * @author Torsten Krause (tk at markenwerk dot net)
  * @since 3.1.1
  */
-public abstract class AbstractIndexedIterator<Payload> extends AbstractProtectedBidirectionalIterator<Payload> {
+public abstract class AbstractIndexedIterator<Payload> extends AbstractProtectedBidirectionalIterator<Payload> implements
+		SizedIterator<Payload> {
 
 	private final int maxIndex;
 
@@ -68,11 +70,7 @@ public abstract class AbstractIndexedIterator<Payload> extends AbstractProtected
 
 	@Override
 	public final Payload next() throws NoSuchElementException {
-		if (!hasNext()) {
-			throw new NoSuchElementException("This iterator has no next element");
-		} else {
-			return get(index++);
-		}
+		return get(stepForward());
 	}
 
 	@Override
@@ -82,10 +80,189 @@ public abstract class AbstractIndexedIterator<Payload> extends AbstractProtected
 
 	@Override
 	public final Payload previous() throws NoSuchElementException {
+		return get(stepBackward());
+	}
+
+	/**
+	 * Returns the characteristics of this {@link AbstractIndexedIterator}.
+	 * Subclasses may add further characteristics.
+	 * 
+	 * @return The characteristics, which are
+	 *         {@link CharacterizedIterator#ORDERED ordered},
+	 *         {@link CharacterizedIterator#SIZED sized} and
+	 *         {@link CharacterizedIterator#SUBSIZED subsized}.
+	 * @since 3.3.0
+	 */
+	@Override
+	public int characteristics() {
+		return ORDERED | SIZED | SUBSIZED;
+	}
+
+	/**
+	 * Returns the amount of remaining elements.
+	 * 
+	 * @return The amount of remaining elements.
+	 * @since 3.3.0
+	 */
+	@Override
+	public final long estimateSize() {
+		return maxIndex - index;
+	}
+
+	/**
+	 * Returns the amount of remaining elements.
+	 * 
+	 * @return The amount of remaining elements.
+	 * @since 3.3.0
+	 */
+	@Override
+	public final long remaining() {
+		return maxIndex - index;
+	}
+
+	/**
+	 * Moves this {@link AbstractIndexedIterator} in front of the first element,
+	 * such that the next call to {@link AbstractIndexedIterator#next()} yields
+	 * the first element.
+	 * 
+	 * @since 3.3.0
+	 */
+	public final void moveToStart() {
+		index = 0;
+	}
+
+	/**
+	 * Moves this {@link AbstractIndexedIterator} behind the last element, such
+	 * that the next call to {@link AbstractIndexedIterator#previous()} yields
+	 * the last element.
+	 * 
+	 * <p>
+	 * This allows to iterate backwards without iterating forwards first. Use a
+	 * {@link ReversedIterator} to iterate backwards with
+	 * {@link ReversedIterator#next()}.
+	 * 
+	 * @since 3.3.0
+	 */
+	public final void moveToEnd() {
+		index = maxIndex;
+	}
+
+	/**
+	 * Skips up to the given amount of elements in constant time, such that
+	 * the skipped elements are never passed to
+	 * {@link AbstractIndexedIterator#get(int)}.
+	 * 
+	 * @param count
+	 *            The amount of elements to be skipped.
+	 * @return The amount of elements that have been skipped, which is smaller
+	 *         than the given amount, if less elements remain.
+	 * @throws IllegalArgumentException
+	 *             If the given amount is negative.
+	 * @since 3.3.0
+	 */
+	public final int skip(int count) throws IllegalArgumentException {
+		if (count < 0) {
+			throw new IllegalArgumentException("The given count is negative: " + count);
+		}
+		int skipped = Math.min(count, maxIndex - index);
+		index += skipped;
+		return skipped;
+	}
+
+	/**
+	 * Returns the current index, which is the index of the next element.
+	 * 
+	 * @return The current index.
+	 * @since 3.3.0
+	 */
+	protected final int getIndex() {
+		return index;
+	}
+
+	/**
+	 * Transfers up to the given amount of remaining elements into the given
+	 * array, starting at the given offset, and moves this
+	 * {@link AbstractIndexedIterator} behind the transferred elements.
+	 * 
+	 * @param destination
+	 *            The array to transfer the elements into.
+	 * @param offset
+	 *            The offset of the first transferred element in the given
+	 *            array.
+	 * @param length
+	 *            The maximum amount of elements to be transferred.
+	 * @return The amount of transferred elements, which is smaller than the
+	 *         given length, if less elements remain.
+	 * @throws IllegalArgumentException
+	 *             If the given array is {@literal null}, if the given offset
+	 *             or the given length is negative or if the given range
+	 *             exceeds the given array.
+	 * @since 3.3.0
+	 */
+	public int drainTo(Payload[] destination, int offset, int length) throws IllegalArgumentException {
+		DrainSupport.checkRange(destination, offset, length);
+		int count = Math.min(length, maxIndex - index);
+		for (int i = 0; i < count; i++) {
+			destination[offset + i] = get(index++);
+		}
+		return count;
+	}
+
+	/**
+	 * Transfers all remaining elements into the given {@link Collection} and
+	 * moves this {@link AbstractIndexedIterator} behind the last element.
+	 * 
+	 * @param destination
+	 *            The {@link Collection} to transfer the elements into.
+	 * @return The amount of transferred elements.
+	 * @throws IllegalArgumentException
+	 *             If the given {@link Collection} is {@literal null}.
+	 * @since 3.3.0
+	 */
+	public int drainTo(Collection<? super Payload> destination) throws IllegalArgumentException {
+		DrainSupport.checkCollection(destination);
+		int count = maxIndex - index;
+		while (index < maxIndex) {
+			destination.add(get(index++));
+		}
+		return count;
+	}
+
+	/**
+	 * Moves this {@link AbstractIndexedIterator} one step forward and returns
+	 * the index of the next element. This allows subclasses to yield the next
+	 * element without going through {@link AbstractIndexedIterator#get(int)}.
+	 * 
+	 * @return The index of the next element.
+	 * @throws NoSuchElementException
+	 *             If this {@link AbstractIndexedIterator} has no next element.
+	 * @since 3.3.0
+	 */
+	protected final int stepForward() throws NoSuchElementException {
+		if (!hasNext()) {
+			throw new NoSuchElementException("This iterator has no next element");
+		} else {
+			return index++;
+		}
+	}
+
+	/**
+	 * Moves this {@link AbstractIndexedIterator} one step backward and returns
+	 * the index of the previous element. This allows subclasses to yield the
+	 * previous element without going through
+	 * {@link AbstractIndexedIterator#get(int)}.
+	 * 
+	 * @return The index of the previous element.
+	 * @throws NoSuchElementException
+	 *             If this {@link AbstractIndexedIterator} has no previous
+	 *             element.
+	 * @since 3.3.0
+	 */
+	protected final int stepBackward() throws NoSuchElementException {
 		if (!hasPrevious()) {
 			throw new NoSuchElementException("This iterator has no previous element");
 		} else {
-			return get(--index);
+			return --index;
 		}
 	}
 
@@ -0,0 +1,296 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterators;
+
+import java.util.Collection;
+import java.util.NoSuchElementException;
+
+/**
+ * An {@link AbstractLongIndexedIterator} is an abstract base implementation
+ * for {@link ProtectedBidirectionalIterator} implementations that holds the
+ * current index as a {@code long} value and implements the index-related
+ * methods.
+ * 
+ * <p>
+ * Unlike an {@link AbstractIndexedIterator}, an
+ * {@link AbstractLongIndexedIterator} isn't limited to
+ * {@link Integer#MAX_VALUE} elements and can be split into two
+ * {@link AbstractLongIndexedIterator AbstractLongIndexedIterators} that
+ * iterate over disjoint ranges of indices, i.e. to be used by different
+ * threads.
+ * 
+ * @param <Payload>
+ *            The payload type.
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 3.3.0
+ */
+public abstract class AbstractLongIndexedIterator<Payload> extends AbstractProtectedBidirectionalIterator<Payload> implements
+		SizedIterator<Payload> {
+
+	private final long maxIndex;
+
+	private long minIndex;
+
+	private long index;
+
+	/**
+	 * Creates a new {@link AbstractLongIndexedIterator}.
+	 * 
+	 * @param minIndex
+	 *            The minimum index and start index to be used.
+	 * @param maxIndex
+	 *            The maximum index.
+	 * @throws IllegalArgumentException
+	 *             If the given minimum index is negative or if the given
+	 *             maximum index is smaller than the minimum index.
+	 */
+	protected AbstractLongIndexedIterator(long minIndex, long maxIndex) throws IllegalArgumentException {
+		if (minIndex < 0) {
+			throw new IllegalArgumentException("The given minimum index is negative: " + minIndex);
+		} else if (maxIndex < minIndex) {
+			throw new IllegalArgumentException("The given maximum index is smaller than the given minimum index '"
+					+ minIndex + "': " + maxIndex);
+		}
+		this.minIndex = minIndex;
+		this.maxIndex = maxIndex;
+		this.index = minIndex;
+	}
+
+	@Override
+	public final boolean hasNext() {
+		return index < maxIndex;
+	}
+
+	@Override
+	public final Payload next() throws NoSuchElementException {
+		return get(stepForward());
+	}
+
+	@Override
+	public final boolean hasPrevious() {
+		return index > minIndex;
+	}
+
+	@Override
+	public final Payload previous() throws NoSuchElementException {
+		return get(stepBackward());
+	}
+
+	/**
+	 * Returns the characteristics of this {@link AbstractLongIndexedIterator}.
+	 * Subclasses may add further characteristics.
+	 * 
+	 * @return The characteristics, which are
+	 *         {@link CharacterizedIterator#ORDERED ordered},
+	 *         {@link CharacterizedIterator#SIZED sized} and
+	 *         {@link CharacterizedIterator#SUBSIZED subsized}.
+	 */
+	@Override
+	public int characteristics() {
+		return ORDERED | SIZED | SUBSIZED;
+	}
+
+	/**
+	 * Returns the amount of remaining elements.
+	 * 
+	 * @return The amount of remaining elements.
+	 */
+	@Override
+	public final long estimateSize() {
+		return maxIndex - index;
+	}
+
+	/**
+	 * Returns the amount of remaining elements.
+	 * 
+	 * @return The amount of remaining elements.
+	 */
+	@Override
+	public final long remaining() {
+		return maxIndex - index;
+	}
+
+	/**
+	 * Moves this {@link AbstractLongIndexedIterator} in front of the first
+	 * element, such that the next call to
+	 * {@link AbstractLongIndexedIterator#next()} yields the first element.
+	 */
+	public final void moveToStart() {
+		index = minIndex;
+	}
+
+	/**
+	 * Moves this {@link AbstractLongIndexedIterator} behind the last element,
+	 * such that the next call to {@link AbstractLongIndexedIterator#previous()}
+	 * yields the last element.
+	 */
+	public final void moveToEnd() {
+		index = maxIndex;
+	}
+
+	/**
+	 * Skips up to the given amount of elements in constant time, such that
+	 * the skipped elements are never passed to
+	 * {@link AbstractLongIndexedIterator#get(long)}.
+	 * 
+	 * @param count
+	 *            The amount of elements to be skipped.
+	 * @return The amount of elements that have been skipped, which is smaller
+	 *         than the given amount, if less elements remain.
+	 * @throws IllegalArgumentException
+	 *             If the given amount is negative.
+	 */
+	public final long skip(long count) throws IllegalArgumentException {
+		if (count < 0) {
+			throw new IllegalArgumentException("The given count is negative: " + count);
+		}
+		long skipped = Math.min(count, maxIndex - index);
+		index += skipped;
+		return skipped;
+	}
+
+	/**
+	 * Returns the current index, which is the index of the next element.
+	 * 
+	 * @return The current index.
+	 */
+	protected final long getIndex() {
+		return index;
+	}
+
+	/**
+	 * Transfers up to the given amount of remaining elements into the given
+	 * array, starting at the given offset, and moves this
+	 * {@link AbstractLongIndexedIterator} behind the transferred elements.
+	 * 
+	 * @param destination
+	 *            The array to transfer the elements into.
+	 * @param offset
+	 *            The offset of the first transferred element in the given
+	 *            array.
+	 * @param length
+	 *            The maximum amount of elements to be transferred.
+	 * @return The amount of transferred elements, which is smaller than the
+	 *         given length, if less elements remain.
+	 * @throws IllegalArgumentException
+	 *             If the given array is {@literal null}, if the given offset
+	 *             or the given length is negative or if the given range
+	 *             exceeds the given array.
+	 * @since 3.3.0
+	 */
+	public int drainTo(Payload[] destination, int offset, int length) throws IllegalArgumentException {
+		DrainSupport.checkRange(destination, offset, length);
+		int count = (int) Math.min(length, maxIndex - index);
+		for (int i = 0; i < count; i++) {
+			destination[offset + i] = get(index++);
+		}
+		return count;
+	}
+
+	/**
+	 * Transfers all remaining elements into the given {@link Collection} and
+	 * moves this {@link AbstractLongIndexedIterator} behind the last element.
+	 * 
+	 * @param destination
+	 *            The {@link Collection} to transfer the elements into.
+	 * @return The amount of transferred elements.
+	 * @throws IllegalArgumentException
+	 *             If the given {@link Collection} is {@literal null}.
+	 * @since 3.3.0
+	 */
+	public long drainTo(Collection<? super Payload> destination) throws IllegalArgumentException {
+		DrainSupport.checkCollection(destination);
+		long count = maxIndex - index;
+		while (index < maxIndex) {
+			destination.add(get(index++));
+		}
+		return count;
+	}
+
+	/**
+	 * Moves this {@link AbstractLongIndexedIterator} one step forward and
+	 * returns the index of the next element.
+	 * 
+	 * @return The index of the next element.
+	 * @throws NoSuchElementException
+	 *             If this {@link AbstractLongIndexedIterator} has no next
+	 *             element.
+	 */
+	protected final long stepForward() throws NoSuchElementException {
+		if (!hasNext()) {
+			throw new NoSuchElementException("This iterator has no next element");
+		} else {
+			return index++;
+		}
+	}
+
+	/**
+	 * Moves this {@link AbstractLongIndexedIterator} one step backward and
+	 * returns the index of the previous element.
+	 * 
+	 * @return The index of the previous element.
+	 * @throws NoSuchElementException
+	 *             If this {@link AbstractLongIndexedIterator} has no previous
+	 *             element.
+	 */
+	protected final long stepBackward() throws NoSuchElementException {
+		if (!hasPrevious()) {
+			throw new NoSuchElementException("This iterator has no previous element");
+		} else {
+			return --index;
+		}
+	}
+
+	/**
+	 * Splits off the first half of the remaining elements. This
+	 * {@link AbstractLongIndexedIterator} is restricted to the second half of
+	 * the remaining elements and the caller is responsible to iterate over the
+	 * elements between the {@link AbstractLongIndexedIterator#getIndex()
+	 * current index}, as it was before this method has been called, and the
+	 * returned split index.
+	 * 
+	 * @return The split index, or {@literal -1}, if less than two elements
+	 *         remain.
+	 */
+	protected final long splitIndex() {
+		long remaining = maxIndex - index;
+		if (remaining < 2) {
+			return -1;
+		} else {
+			long splitIndex = index + remaining / 2;
+			minIndex = splitIndex;
+			index = splitIndex;
+			return splitIndex;
+		}
+	}
+
+	/**
+	 * Returns the payload value at the given index.
+	 * 
+	 * @param index
+	 *            The index to be used, which is guaranteed to be non-negative
+	 *            and smaller then the maximum index.
+	 * @return The payload value at the given index.
+	 */
+	protected abstract Payload get(long index);
+
+}
@@ -21,6 +21,9 @@
  */
 package net.markenwerk.commons.iterators;
 
+import java.util.Arrays;
+import java.util.Collection;
+
 /**
  * An {@link ArrayIterator} is an {@link AbstractIndexedIterator} that iterates
  * over a given payload array.
@@ -60,4 +63,23 @@ public final class ArrayIterator<Payload> extends AbstractIndexedIterator<Payloa
 		return array[index];
 	}
 
+	@Override
+	public int drainTo(Payload[] destination, int offset, int length) throws IllegalArgumentException {
+		DrainSupport.checkRange(destination, offset, length);
+		int count = (int) Math.min(length, remaining());
+		System.arraycopy(array, getIndex(), destination, offset, count);
+		skip(count);
+		return count;
+	}
+
+	@Override
+	public int drainTo(Collection<? super Payload> destination) throws IllegalArgumentException {
+		DrainSupport.checkCollection(destination);
+		int index = getIndex();
+		int count = (int) remaining();
+		destination.addAll(Arrays.asList(array).subList(index, index + count));
+		skip(count);
+		return count;
+	}
+
 }
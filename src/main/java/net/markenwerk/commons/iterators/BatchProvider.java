@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterators;
+
+import java.util.List;
+
+import net.markenwerk.commons.exceptions.ProvisioningException;
+import net.markenwerk.commons.interfaces.Provider;
+
+/**
+ * A {@link BatchProvider} is the batch counterpart of a {@link Provider} that
+ * provides multiple values with a single call. It is used by a
+ * {@link BatchingInfiniteIterator}.
+ * 
+ * @param <Payload>
+ *            The payload type.
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 3.3.0
+ */
+public interface BatchProvider<Payload> {
+
+	/**
+	 * Provides a batch of values.
+	 * 
+	 * <p>
+	 * The returned {@link List} may still be read by the caller, possibly in
+	 * another thread, while this method is called again. Every call must
+	 * therefore return a new {@link List} that isn't modified afterwards, i.e.
+	 * a single {@link List} must not be cleared and refilled for every batch.
+	 * 
+	 * @param count
+	 *            The desired amount of values, which is always positive.
+	 * @return The provided values, which must contain at least one and should
+	 *         contain the desired amount of values. The returned {@link List}
+	 *         is not modified by the caller and must not be modified by this
+	 *         {@link BatchProvider} afterwards.
+	 * @throws ProvisioningException
+	 *             If providing values failed.
+	 */
+	public List<? extends Payload> provide(int count) throws ProvisioningException;
+
+}
@@ -0,0 +1,215 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterators;
+
+import java.io.Closeable;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import net.markenwerk.commons.exceptions.ProvisioningException;
+
+/**
+ * A {@link BatchingInfiniteIterator} is an {@link AbstractProtectedIterator}
+ * that infinitely iterates, using a {@link BatchProvider}, to provide batches
+ * of further elements.
+ * 
+ * <p>
+ * Unlike an {@link InfiniteIterator}, that asks its provider once for every
+ * element, a {@link BatchingInfiniteIterator} asks the given
+ * {@link BatchProvider} for a batch of a given size and yields the elements
+ * of that batch, before it asks for the next batch.
+ * 
+ * <p>
+ * If an {@link ExecutorService} is given, the next batch is requested by the
+ * given {@link ExecutorService}, as soon as half of the current batch has been
+ * yielded, such that the {@link BatchProvider} is usually never called in the
+ * calling thread. The given {@link BatchProvider} is never called
+ * concurrently, but it is called while the previous batch is still being
+ * yielded and must therefore return a new {@link List} for every batch. A
+ * {@link BatchingInfiniteIterator} that is no longer needed should be closed
+ * with {@link BatchingInfiniteIterator#close()}, which cancels an outstanding
+ * request. Otherwise, an outstanding request is completed by the given
+ * {@link ExecutorService} and its result is discarded.
+ * 
+ * @param <Payload>
+ *            The payload type.
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 3.3.0
+ */
+public final class BatchingInfiniteIterator<Payload> extends AbstractProtectedIterator<Payload> implements Closeable {
+
+	private final BatchProvider<? extends Payload> provider;
+
+	private final int batchSize;
+
+	private final ExecutorService executor;
+
+	private List<? extends Payload> batch;
+
+	private int index;
+
+	private Future<List<? extends Payload>> pendingBatch;
+
+	private boolean closed;
+
+	/**
+	 * Creates a new {@link BatchingInfiniteIterator}.
+	 * 
+	 * @param provider
+	 *            The {@link BatchProvider} to be used.
+	 * @param batchSize
+	 *            The amount of elements to be requested per batch.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link BatchProvider} is {@literal null} or if
+	 *             the given batch size is not positive.
+	 */
+	public BatchingInfiniteIterator(BatchProvider<? extends Payload> provider, int batchSize)
+			throws IllegalArgumentException {
+		this(provider, batchSize, null);
+	}
+
+	/**
+	 * Creates a new {@link BatchingInfiniteIterator}.
+	 * 
+	 * @param provider
+	 *            The {@link BatchProvider} to be used.
+	 * @param batchSize
+	 *            The amount of elements to be requested per batch.
+	 * @param executor
+	 *            The {@link ExecutorService} to request batches with, or
+	 *            {@literal null}, to request all batches in the calling
+	 *            thread.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link BatchProvider} is {@literal null} or if
+	 *             the given batch size is not positive.
+	 */
+	public BatchingInfiniteIterator(BatchProvider<? extends Payload> provider, int batchSize,
+			ExecutorService executor) throws IllegalArgumentException {
+		if (null == provider) {
+			throw new IllegalArgumentException("The given provider is null");
+		} else if (batchSize < 1) {
+			throw new IllegalArgumentException("The given batch size is not positive: " + batchSize);
+		}
+		this.provider = provider;
+		this.batchSize = batchSize;
+		this.executor = executor;
+	}
+
+	/**
+	 * Returns whether this {@link BatchingInfiniteIterator} has a next
+	 * element, which is the case, until it has been closed.
+	 * 
+	 * @return Whether this {@link BatchingInfiniteIterator} hasn't been closed.
+	 */
+	@Override
+	public boolean hasNext() {
+		return !closed;
+	}
+
+	/**
+	 * Returns an element of the current batch provided by the
+	 * {@link BatchProvider}.
+	 * 
+	 * @throws NoSuchElementException
+	 *             If this {@link BatchingInfiniteIterator} has been closed.
+	 * @throws ProvisioningException
+	 *             If the {@link BatchProvider} failed to provide a batch or
+	 *             provided an empty batch.
+	 * @throws IllegalStateException
+	 *             If the calling thread has been interrupted while waiting for
+	 *             the next batch.
+	 */
+	@Override
+	public Payload next() throws NoSuchElementException, ProvisioningException, IllegalStateException {
+		if (closed) {
+			throw new NoSuchElementException("This iterator has no next element");
+		} else if (null == batch || index == batch.size()) {
+			batch = nextBatch();
+			index = 0;
+		}
+		Payload value = batch.get(index++);
+		if (null != executor && null == pendingBatch && batch.size() - index <= batch.size() / 2) {
+			pendingBatch = executor.submit(new Callable<List<? extends Payload>>() {
+
+				@Override
+				public List<? extends Payload> call() throws ProvisioningException {
+					return provide();
+				}
+
+			});
+		}
+		return value;
+	}
+
+	private List<? extends Payload> nextBatch() {
+		if (null == pendingBatch) {
+			return provide();
+		} else {
+			try {
+				if (pendingBatch.isDone()) {
+					return FutureSupport.await(pendingBatch);
+				} else {
+					PipelineListener listener = PipelineEvents.getListener();
+					long startTime = null == listener ? 0 : System.nanoTime();
+					List<? extends Payload> nextBatch = FutureSupport.await(pendingBatch);
+					if (null != listener) {
+						listener.onPrefetchStalled(this, System.nanoTime() - startTime);
+					}
+					return nextBatch;
+				}
+			} finally {
+				pendingBatch = null;
+			}
+		}
+	}
+
+	/**
+	 * Cancels an outstanding request for the next batch and discards the
+	 * current batch. A closed {@link BatchingInfiniteIterator} has no next
+	 * element.
+	 */
+	@Override
+	public void close() {
+		if (!closed) {
+			closed = true;
+			batch = null;
+			if (null != pendingBatch) {
+				pendingBatch.cancel(true);
+				pendingBatch = null;
+			}
+		}
+	}
+
+	private List<? extends Payload> provide() {
+		List<? extends Payload> values = provider.provide(batchSize);
+		if (null == values || values.isEmpty()) {
+			throw new ProvisioningException("The given provider provided an empty batch");
+		}
+		return values;
+	}
+
+}
@@ -53,9 +53,42 @@ public final class BooleanArrayIterator extends AbstractIndexedIterator<Boolean>
 		return array.length;
 	}
 
+	/**
+	 * Transfers up to the given amount of remaining {@code boolean} values into
+	 * the given {@code boolean[]}, starting at the given offset, and moves this
+	 * {@link BooleanArrayIterator} behind the transferred values.
+	 * 
+	 * @param destination
+	 *            The {@code boolean[]} to transfer the values into.
+	 * @param offset
+	 *            The offset of the first transferred value in the given
+	 *            {@code boolean[]}.
+	 * @param length
+	 *            The maximum amount of values to be transferred.
+	 * @return The amount of transferred values, which is smaller than the
+	 *         given length, if less values remain.
+	 * @throws IllegalArgumentException
+	 *             If the given {@code boolean[]} is {@literal null}, if the
+	 *             given offset or the given length is negative or if the given
+	 *             range exceeds the given {@code boolean[]}.
+	 * @since 3.3.0
+	 */
+	public int drainTo(boolean[] destination, int offset, int length) throws IllegalArgumentException {
+		DrainSupport.checkRange(destination, offset, length);
+		int count = (int) Math.min(length, remaining());
+		System.arraycopy(array, getIndex(), destination, offset, count);
+		skip(count);
+		return count;
+	}
+
 	@Override
 	public Boolean get(int index) {
 		return array[index];
 	}
 
+	@Override
+	public int characteristics() {
+		return super.characteristics() | NONNULL;
+	}
+
 }
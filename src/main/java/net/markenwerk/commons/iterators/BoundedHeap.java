@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterators;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * A {@link BoundedHeap} holds the largest values, according to a given
+ * {@link Comparator}, of all values that have been offered to it, up to a
+ * given capacity. Of multiple equal values, the values that have been offered
+ * earlier are preferred.
+ * 
+ * @param <Payload>
+ *            The payload type.
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 3.3.0
+ */
+final class BoundedHeap<Payload> {
+
+	private final int capacity;
+
+	private final Comparator<? super Payload> comparator;
+
+	private Object[] values;
+
+	private long[] sequences;
+
+	private long nextSequence;
+
+	private int size;
+
+	BoundedHeap(int capacity, Comparator<? super Payload> comparator) {
+		this.capacity = capacity;
+		this.comparator = comparator;
+		this.values = new Object[Math.min(capacity, 16)];
+		this.sequences = new long[values.length];
+	}
+
+	void offer(Payload value) {
+		if (size < capacity) {
+			if (size == values.length) {
+				int length = (int) Math.min(capacity, 2L * size);
+				values = Arrays.copyOf(values, length);
+				sequences = Arrays.copyOf(sequences, length);
+			}
+			values[size] = value;
+			sequences[size] = nextSequence++;
+			siftUp(size++);
+		} else if (comparator.compare(get(0), value) < 0) {
+			values[0] = value;
+			sequences[0] = nextSequence++;
+			siftDown(0, size);
+		}
+	}
+
+	void offerAll(BoundedHeap<? extends Payload> heap) {
+		for (int i = 0; i < heap.size; i++) {
+			offer(heap.get(i));
+		}
+	}
+
+	/**
+	 * Returns the held values in descending order, where equal values are
+	 * returned in the order they have been offered, and empties this
+	 * {@link BoundedHeap}.
+	 */
+	Object[] drain() {
+		for (int i = size - 1; i > 0; i--) {
+			swap(0, i);
+			siftDown(0, i);
+		}
+		Object[] drained = new Object[size];
+		System.arraycopy(values, 0, drained, 0, size);
+		values = new Object[0];
+		sequences = new long[0];
+		size = 0;
+		return drained;
+	}
+
+	private void siftUp(int index) {
+		while (index > 0) {
+			int parent = (index - 1) >>> 1;
+			if (precedes(index, parent)) {
+				swap(index, parent);
+				index = parent;
+			} else {
+				break;
+			}
+		}
+	}
+
+	private void siftDown(int index, int size) {
+		while (true) {
+			int smallest = index;
+			int left = 2 * index + 1;
+			int right = left + 1;
+			if (left < size && precedes(left, smallest)) {
+				smallest = left;
+			}
+			if (right < size && precedes(right, smallest)) {
+				smallest = right;
+			}
+			if (smallest == index) {
+				break;
+			}
+			swap(index, smallest);
+			index = smallest;
+		}
+	}
+
+	private boolean precedes(int first, int second) {
+		int comparison = comparator.compare(get(first), get(second));
+		return comparison < 0 || (0 == comparison && sequences[first] > sequences[second]);
+	}
+
+	@SuppressWarnings("unchecked")
+	private Payload get(int index) {
+		return (Payload) values[index];
+	}
+
+	private void swap(int first, int second) {
+		Object value = values[first];
+		values[first] = values[second];
+		values[second] = value;
+		long sequence = sequences[first];
+		sequences[first] = sequences[second];
+		sequences[second] = sequence;
+	}
+
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterators;
+
+import java.nio.Buffer;
+import java.util.Arrays;
+
+/**
+ * {@link BufferSegments} provides the index arithmetic for iterators that
+ * treat a sequence of {@link Buffer Buffers} as a single sequence of values.
+ * 
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 3.3.0
+ */
+final class BufferSegments {
+
+	private BufferSegments() {
+	}
+
+	/**
+	 * Returns the index of the first remaining value of every given
+	 * {@link Buffer}, followed by the total amount of remaining values.
+	 */
+	static long[] offsets(Buffer[] buffers) throws IllegalArgumentException {
+		if (null == buffers) {
+			throw new IllegalArgumentException("The given array of buffers is null");
+		}
+		long[] offsets = new long[buffers.length + 1];
+		for (int i = 0; i < buffers.length; i++) {
+			if (null == buffers[i]) {
+				throw new IllegalArgumentException("The given buffer at index '" + i + "' is null");
+			}
+			offsets[i + 1] = offsets[i] + buffers[i].remaining();
+		}
+		return offsets;
+	}
+
+	/**
+	 * Returns the index of the {@link Buffer} that holds the value at the
+	 * given index, trying the given hint first.
+	 */
+	static int segment(long[] offsets, long index, int hint) {
+		if (offsets[hint] <= index && index < offsets[hint + 1]) {
+			return hint;
+		} else {
+			int position = Arrays.binarySearch(offsets, 0, offsets.length - 1, index);
+			if (position < 0) {
+				position = -position - 2;
+			}
+			while (offsets[position] == offsets[position + 1]) {
+				position++;
+			}
+			return position;
+		}
+	}
+
+}
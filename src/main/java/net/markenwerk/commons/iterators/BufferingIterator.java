@@ -0,0 +1,231 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterators;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * A {@link BufferingIterator} is an {@link AbstractProtectedIterator} that can
+ * be wrapped around a given {@link Iterator}, takes all values from the given
+ * {@link Iterator} when it is created and yields them afterwards.
+ * 
+ * <p>
+ * Up to a given memory limit, values are buffered in memory. All further
+ * values are spilled, in blocks of a fixed size, to a temporary file with a
+ * given {@link Serializer} and read back block by block. The temporary file is
+ * deleted, as soon as the {@link BufferingIterator} has no next element or
+ * when {@link BufferingIterator#close()} is called.
+ * 
+ * @param <Payload>
+ *            The payload type.
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 3.3.0
+ */
+public final class BufferingIterator<Payload> extends AbstractProtectedIterator<Payload> implements SizedIterator<Payload>,
+		Closeable {
+
+	private static final int BLOCK_SIZE = 1024;
+
+	private final List<Payload> memory;
+
+	private final SpillFile<Payload> spillFile;
+
+	private final List<Long> blockPositions = new ArrayList<Long>();
+
+	private final Object[] block = new Object[BLOCK_SIZE];
+
+	private int lastBlockLength;
+
+	private int memoryIndex;
+
+	private int blockIndex;
+
+	private int blockOffset;
+
+	private int blockLength;
+
+	private long remaining;
+
+	private boolean closed;
+
+	/**
+	 * Creates a new {@link BufferingIterator}.
+	 * 
+	 * @param iterator
+	 *            The {@link Iterator} to iterate over.
+	 * @param memoryLimit
+	 *            The amount of values to be buffered in memory.
+	 * @param serializer
+	 *            The {@link Serializer} to be used to spill values.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link Iterator} is {@literal null}, if the
+	 *             given memory limit is negative or if the given
+	 *             {@link Serializer} is {@literal null}.
+	 * @throws SpillException
+	 *             If spilling values to the temporary file failed.
+	 */
+	public BufferingIterator(Iterator<? extends Payload> iterator, int memoryLimit, Serializer<Payload> serializer)
+			throws IllegalArgumentException, SpillException {
+		if (null == iterator) {
+			throw new IllegalArgumentException("The given iterator is null");
+		} else if (memoryLimit < 0) {
+			throw new IllegalArgumentException("The given memory limit is negative: " + memoryLimit);
+		} else if (null == serializer) {
+			throw new IllegalArgumentException("The given serializer is null");
+		}
+		memory = new ArrayList<Payload>(CharacteristicsSupport.capacity(iterator, memoryLimit, 10));
+		spillFile = new SpillFile<Payload>(serializer);
+		try {
+			buffer(iterator, memoryLimit);
+		} catch (RuntimeException e) {
+			spillFile.delete();
+			throw e;
+		}
+	}
+
+	private void buffer(Iterator<? extends Payload> iterator, int memoryLimit) {
+		int blockFill = 0;
+		while (iterator.hasNext()) {
+			Payload value = iterator.next();
+			remaining++;
+			if (memory.size() < memoryLimit) {
+				memory.add(value);
+			} else {
+				block[blockFill++] = value;
+				if (BLOCK_SIZE == blockFill) {
+					spill(blockFill);
+					blockFill = 0;
+				}
+			}
+		}
+		if (0 != blockFill) {
+			spill(blockFill);
+		}
+	}
+
+	private void spill(int length) {
+		PipelineListener listener = PipelineEvents.getListener();
+		long startTime = null == listener ? 0 : System.nanoTime();
+		long startLength = spillFile.length();
+		if (blockPositions.isEmpty()) {
+			blockPositions.add(startLength);
+		}
+		spillFile.append(block, length);
+		blockPositions.add(spillFile.length());
+		lastBlockLength = length;
+		Arrays.fill(block, null);
+		if (null != listener) {
+			listener.onSpilled(this, length, spillFile.length() - startLength, System.nanoTime() - startTime);
+		}
+	}
+
+	@Override
+	public boolean hasNext() {
+		if (memoryIndex < memory.size() || blockOffset < blockLength) {
+			return true;
+		} else if (!closed && blockIndex < blockPositions.size() - 1) {
+			return true;
+		} else {
+			close();
+			return false;
+		}
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public Payload next() throws NoSuchElementException, SpillException {
+		if (!hasNext()) {
+			throw new NoSuchElementException("This iterator has no next element");
+		} else if (memoryIndex < memory.size()) {
+			remaining--;
+			return memory.set(memoryIndex++, null);
+		} else {
+			if (blockOffset == blockLength) {
+				boolean lastBlock = blockIndex == blockPositions.size() - 2;
+				blockLength = lastBlock ? lastBlockLength : BLOCK_SIZE;
+				blockOffset = 0;
+				spillFile.read(blockPositions.get(blockIndex), blockPositions.get(blockIndex + 1), block, blockLength);
+				blockIndex++;
+			}
+			Payload value = (Payload) block[blockOffset];
+			block[blockOffset++] = null;
+			remaining--;
+			return value;
+		}
+	}
+
+	/**
+	 * Returns the characteristics of this {@link BufferingIterator}.
+	 * 
+	 * @return The characteristics, which are
+	 *         {@link CharacterizedIterator#ORDERED ordered} and
+	 *         {@link CharacterizedIterator#SIZED sized}.
+	 */
+	@Override
+	public int characteristics() {
+		return ORDERED | SIZED;
+	}
+
+	/**
+	 * Returns the amount of remaining values.
+	 * 
+	 * @return The amount of remaining values.
+	 */
+	@Override
+	public long estimateSize() {
+		return remaining;
+	}
+
+	/**
+	 * Returns the amount of values, that have been taken from the given
+	 * {@link Iterator}, but not yet been yielded.
+	 * 
+	 * @return The amount of remaining values.
+	 */
+	@Override
+	public long remaining() {
+		return remaining;
+	}
+
+	/**
+	 * Deletes the temporary file that values have been spilled to. Values that
+	 * have been spilled, but not yet yielded, can't be yielded afterwards.
+	 * 
+	 * @throws SpillException
+	 *             If closing the temporary file failed.
+	 */
+	@Override
+	public void close() throws SpillException {
+		if (!closed) {
+			closed = true;
+			remaining = memory.size() - memoryIndex + blockLength - blockOffset;
+			spillFile.delete();
+		}
+	}
+
+}
@@ -53,8 +53,42 @@ public final class CharacterArrayIterator extends AbstractIndexedIterator<Charac
 		return array.length;
 	}
 
+	/**
+	 * Transfers up to the given amount of remaining {@code char} values into
+	 * the given {@code char[]}, starting at the given offset, and moves this
+	 * {@link CharacterArrayIterator} behind the transferred values.
+	 * 
+	 * @param destination
+	 *            The {@code char[]} to transfer the values into.
+	 * @param offset
+	 *            The offset of the first transferred value in the given
+	 *            {@code char[]}.
+	 * @param length
+	 *            The maximum amount of values to be transferred.
+	 * @return The amount of transferred values, which is smaller than the
+	 *         given length, if less values remain.
+	 * @throws IllegalArgumentException
+	 *             If the given {@code char[]} is {@literal null}, if the
+	 *             given offset or the given length is negative or if the given
+	 *             range exceeds the given {@code char[]}.
+	 * @since 3.3.0
+	 */
+	public int drainTo(char[] destination, int offset, int length) throws IllegalArgumentException {
+		DrainSupport.checkRange(destination, offset, length);
+		int count = (int) Math.min(length, remaining());
+		System.arraycopy(array, getIndex(), destination, offset, count);
+		skip(count);
+		return count;
+	}
+
 	@Override
 	public Character get(int index) {
 		return array[index];
 	}
+
+	@Override
+	public int characteristics() {
+		return super.characteristics() | NONNULL;
+	}
+
 }
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterators;
+
+import java.util.Iterator;
+
+/**
+ * {@link CharacteristicsSupport} derives the characteristics of iterators that
+ * wrap other iterators.
+ * 
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 3.3.0
+ */
+final class CharacteristicsSupport {
+
+	private CharacteristicsSupport() {
+	}
+
+	/**
+	 * Returns the characteristics of the given {@link Iterator}, if it is a
+	 * {@link CharacterizedIterator}, or no characteristics otherwise.
+	 */
+	static int characteristics(Iterator<?> iterator) {
+		if (iterator instanceof CharacterizedIterator) {
+			return ((CharacterizedIterator<?>) iterator).characteristics();
+		} else {
+			return 0;
+		}
+	}
+
+	/**
+	 * Returns the estimated size of the given {@link Iterator}, if it is a
+	 * {@link CharacterizedIterator}, or {@link Long#MAX_VALUE} otherwise.
+	 */
+	static long estimateSize(Iterator<?> iterator) {
+		if (iterator instanceof CharacterizedIterator) {
+			return ((CharacterizedIterator<?>) iterator).estimateSize();
+		} else {
+			return Long.MAX_VALUE;
+		}
+	}
+
+	/**
+	 * Returns the exact amount of values the given {@link Iterator} will yield,
+	 * if it is {@link CharacterizedIterator#SIZED sized}, or {@code -1}
+	 * otherwise.
+	 */
+	static long exactSize(Iterator<?> iterator) {
+		if (iterator instanceof SizedIterator) {
+			return ((SizedIterator<?>) iterator).remaining();
+		} else if (0 != (characteristics(iterator) & CharacterizedIterator.SIZED)) {
+			return estimateSize(iterator);
+		} else {
+			return -1;
+		}
+	}
+
+	/**
+	 * Returns the initial capacity of a buffer for the values of the given
+	 * {@link Iterator}, which is the exact amount of values, if known, or the
+	 * given fallback capacity otherwise, but never more than the given limit
+	 * and at least one.
+	 */
+	static int capacity(Iterator<?> iterator, int limit, int fallbackCapacity) {
+		long exactSize = exactSize(iterator);
+		return (int) Math.max(1, Math.min(limit, -1 == exactSize ? fallbackCapacity : exactSize));
+	}
+
+	/**
+	 * Returns the sum of the given estimated sizes, which is
+	 * {@link Long#MAX_VALUE}, if the sum overflows.
+	 */
+	static long add(long first, long second) {
+		long sum = first + second;
+		return sum < 0 ? Long.MAX_VALUE : sum;
+	}
+
+	/**
+	 * Returns whether all given values are not {@literal null}.
+	 */
+	static boolean nonNull(Object[] values) {
+		for (Object value : values) {
+			if (null == value) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+}
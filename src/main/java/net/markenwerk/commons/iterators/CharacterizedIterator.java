@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterators;
+
+import java.util.Iterator;
+
+/**
+ * A {@link CharacterizedIterator} is an {@link Iterator} that reports
+ * characteristics of the values it yields and an estimate of the amount of
+ * values it yields.
+ * 
+ * <p>
+ * The characteristics and their values are the same as the characteristics of
+ * a {@code java.util.Spliterator}. The reported characteristics and the
+ * reported estimated size can therefore be used to create a
+ * {@code java.util.Spliterator} with accurate characteristics, i.e. with
+ * {@code Spliterators.spliterator(iterator, iterator.estimateSize(), iterator.characteristics())}
+ * .
+ * 
+ * @param <Payload>
+ *            The payload type.
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 3.3.0
+ */
+public interface CharacterizedIterator<Payload> extends Iterator<Payload> {
+
+	/**
+	 * Characteristic that signifies that the values are yielded in a defined
+	 * order.
+	 */
+	public static final int ORDERED = 0x00000010;
+
+	/**
+	 * Characteristic that signifies that no two yielded values are equal.
+	 */
+	public static final int DISTINCT = 0x00000001;
+
+	/**
+	 * Characteristic that signifies that the values are yielded in their
+	 * natural order.
+	 */
+	public static final int SORTED = 0x00000004;
+
+	/**
+	 * Characteristic that signifies that the
+	 * {@link CharacterizedIterator#estimateSize() estimated size} is exact.
+	 */
+	public static final int SIZED = 0x00000040;
+
+	/**
+	 * Characteristic that signifies that no yielded value is {@literal null}.
+	 */
+	public static final int NONNULL = 0x00000100;
+
+	/**
+	 * Characteristic that signifies that the source of the values can't be
+	 * modified.
+	 */
+	public static final int IMMUTABLE = 0x00000400;
+
+	/**
+	 * Characteristic that signifies that the source of the values may be
+	 * modified concurrently.
+	 */
+	public static final int CONCURRENT = 0x00001000;
+
+	/**
+	 * Characteristic that signifies that every part, the values may be split
+	 * into, is {@link CharacterizedIterator#SIZED sized}.
+	 */
+	public static final int SUBSIZED = 0x00004000;
+
+	/**
+	 * Returns the characteristics of this {@link CharacterizedIterator}.
+	 * 
+	 * @return The characteristics, as a combination of the characteristic
+	 *         constants of {@link CharacterizedIterator}.
+	 */
+	public int characteristics();
+
+	/**
+	 * Returns an estimate of the amount of values that this
+	 * {@link CharacterizedIterator} will yield.
+	 * 
+	 * @return The estimate, which is exact, if this
+	 *         {@link CharacterizedIterator} is
+	 *         {@link CharacterizedIterator#SIZED sized}, or
+	 *         {@link Long#MAX_VALUE}, if the amount is unknown.
+	 */
+	public long estimateSize();
+
+}
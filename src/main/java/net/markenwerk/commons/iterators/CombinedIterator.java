@@ -30,15 +30,26 @@ import java.util.NoSuchElementException;
  * {@link Iterator} by iterating over all given {@link Iterator Iterators} in
  * the order they were given.
  * 
+ * <p>
+ * If the {@link Iterator Iterators} are given as an array, a
+ * {@link CombinedIterator} reports the characteristics that all given
+ * {@link Iterator Iterators} have in common and the sum of their estimated
+ * sizes. Otherwise, the given {@link Iterator Iterators} aren't known in
+ * advance and no characteristics are reported.
+ * 
  * @param <Payload>
  *            The payload type.
  * @author Torsten Krause (tk at markenwerk dot net)
  * @since 1.0.0
  */
-public final class CombinedIterator<Payload> implements Iterator<Payload> {
+public final class CombinedIterator<Payload> implements CharacterizedIterator<Payload> {
 
 	private final Iterator<? extends Iterator<? extends Payload>> iterators;
 
+	private final Iterator<? extends Payload>[] array;
+
+	private final PipelineTracker tracker = PipelineTracker.create(this);
+
 	private Iterator<? extends Payload> currentIterator;
 
 	private boolean nextPrepared;
@@ -62,6 +73,7 @@ public final class CombinedIterator<Payload> implements Iterator<Payload> {
 			throw new IllegalArgumentException("The given array of iterators is null");
 		}
 		this.iterators = new ArrayIterator<Iterator<? extends Payload>>(iterators);
+		this.array = iterators;
 	}
 
 	/**
@@ -79,6 +91,7 @@ public final class CombinedIterator<Payload> implements Iterator<Payload> {
 			throw new IllegalArgumentException("The given iterable of iterators is null");
 		}
 		this.iterators = iterators.iterator();
+		this.array = null;
 	}
 
 	/**
@@ -96,6 +109,7 @@ public final class CombinedIterator<Payload> implements Iterator<Payload> {
 			throw new IllegalArgumentException("The given iterator of iterators is null");
 		}
 		this.iterators = iterators;
+		this.array = null;
 	}
 
 	@Override
@@ -126,6 +140,9 @@ public final class CombinedIterator<Payload> implements Iterator<Payload> {
 
 	private void prepareNext() {
 		if (!nextPrepared) {
+			if (null != tracker) {
+				tracker.preparing();
+			}
 			hasNext = false;
 			if (null != currentIterator && currentIterator.hasNext()) {
 				hasNext = true;
@@ -136,6 +153,57 @@ public final class CombinedIterator<Payload> implements Iterator<Payload> {
 				}
 			}
 			nextPrepared = true;
+			if (null != tracker) {
+				tracker.prepared(hasNext);
+			}
+		}
+	}
+
+	/**
+	 * Returns the characteristics that the current and all remaining given
+	 * {@link Iterator Iterators} have in common, if the {@link Iterator
+	 * Iterators} were given as an array, or no characteristics otherwise.
+	 * 
+	 * @return The characteristics.
+	 * @since 3.3.0
+	 */
+	@Override
+	public int characteristics() {
+		if (null == array) {
+			return 0;
+		} else {
+			int characteristics = ORDERED | SIZED | SUBSIZED | NONNULL | IMMUTABLE;
+			if (null != currentIterator) {
+				characteristics &= CharacteristicsSupport.characteristics(currentIterator);
+			}
+			for (int i = ((ArrayIterator<?>) iterators).getIndex(); i < array.length; i++) {
+				characteristics &= CharacteristicsSupport.characteristics(array[i]);
+			}
+			return characteristics;
+		}
+	}
+
+	/**
+	 * Returns the sum of the estimated sizes of the current and all remaining
+	 * given {@link Iterator Iterators}, if the {@link Iterator Iterators} were
+	 * given as an array, or {@link Long#MAX_VALUE} otherwise.
+	 * 
+	 * @return The estimated size.
+	 * @since 3.3.0
+	 */
+	@Override
+	public long estimateSize() {
+		if (null == array) {
+			return Long.MAX_VALUE;
+		} else {
+			long estimatedSize = 0;
+			if (null != currentIterator) {
+				estimatedSize = CharacteristicsSupport.estimateSize(currentIterator);
+			}
+			for (int i = ((ArrayIterator<?>) iterators).getIndex(); i < array.length; i++) {
+				estimatedSize = CharacteristicsSupport.add(estimatedSize, CharacteristicsSupport.estimateSize(array[i]));
+			}
+			return estimatedSize;
 		}
 	}
 
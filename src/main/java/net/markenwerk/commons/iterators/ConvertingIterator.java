@@ -38,12 +38,14 @@ import net.markenwerk.commons.interfaces.Converter;
  * @author Torsten Krause (tk at markenwerk dot net)
  * @since 1.0.0
  */
-public final class ConvertingIterator<From, To> implements Iterator<To> {
+public final class ConvertingIterator<From, To> implements CharacterizedIterator<To> {
 
 	private final Iterator<? extends From> iterator;
 
 	private final Converter<? super From, ? extends To> converter;
 
+	private final PipelineTracker tracker = PipelineTracker.create(this);
+
 	private boolean nextPrepared;
 
 	private boolean nextDetected;
@@ -103,6 +105,9 @@ public final class ConvertingIterator<From, To> implements Iterator<To> {
 
 	private void prepareNext() {
 		if (!nextPrepared) {
+			if (null != tracker) {
+				tracker.preparing();
+			}
 			next = null;
 			nextDetected = false;
 			while (!nextDetected && iterator.hasNext()) {
@@ -111,7 +116,35 @@ public final class ConvertingIterator<From, To> implements Iterator<To> {
 				nextDetected = true;
 			}
 			nextPrepared = true;
+			if (null != tracker) {
+				tracker.prepared(nextDetected);
+			}
 		}
 	}
 
+	/**
+	 * Returns the order and size related characteristics of the given
+	 * {@link Iterator}.
+	 * 
+	 * @return The characteristics.
+	 * @since 3.3.0
+	 */
+	@Override
+	public int characteristics() {
+		return CharacteristicsSupport.characteristics(iterator) & (ORDERED | SIZED | SUBSIZED);
+	}
+
+	/**
+	 * Returns the estimated size of the given {@link Iterator}, including a
+	 * value that has already been converted, but not yet been yielded.
+	 * 
+	 * @return The estimated size.
+	 * @since 3.3.0
+	 */
+	@Override
+	public long estimateSize() {
+		long estimatedSize = CharacteristicsSupport.estimateSize(iterator);
+		return nextPrepared && nextDetected ? CharacteristicsSupport.add(estimatedSize, 1) : estimatedSize;
+	}
+
 }
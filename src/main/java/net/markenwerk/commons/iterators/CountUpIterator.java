@@ -21,6 +21,8 @@
  */
 package net.markenwerk.commons.iterators;
 
+import java.util.NoSuchElementException;
+
 /**
  * A {@link CountUpIterator} is an {@link AbstractIndexedIterator} that yields
  * all integer value between a given lower bound and a given upper bound.
@@ -28,7 +30,7 @@ package net.markenwerk.commons.iterators;
  * @author Torsten Krause (tk at markenwerk dot net)
  * @since 1.0.0
  */
-public final class CountUpIterator extends AbstractIndexedIterator<Integer> {
+public final class CountUpIterator extends AbstractIndexedIterator<Integer> implements IntegerIterator {
 
 	private final int offset;
 
@@ -54,4 +56,14 @@ public final class CountUpIterator extends AbstractIndexedIterator<Integer> {
 		return offset + index;
 	}
 
+	@Override
+	public int nextInteger() throws NoSuchElementException {
+		return offset + stepForward();
+	}
+
+	@Override
+	public int characteristics() {
+		return super.characteristics() | NONNULL | DISTINCT | SORTED;
+	}
+
 }
@@ -0,0 +1,249 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterators;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import net.markenwerk.commons.interfaces.Predicate;
+
+/**
+ * A {@link DeduplicatingIterator} is an {@link Iterator} that can be wrapped
+ * around a given {@link Iterator} and filters out values that have already
+ * been yielded.
+ * 
+ * <p>
+ * A {@link DeduplicatingIterator} can be created in one of three modes:
+ * 
+ * <ul>
+ * <li>With a given {@link Set}, that is used to record all yielded values. This
+ * filters out every duplicate value, but the memory consumption depends on the
+ * given {@link Set}.</li>
+ * <li>With a given window size. This filters out every value that is equal to
+ * one of the given amount of most recently encountered distinct values and
+ * never records more values than the given window size.</li>
+ * <li>With a given amount of expected values and a given false positive rate.
+ * This uses a Bloom filter, whose size is determined by the given parameters,
+ * to record all yielded values. This filters out every duplicate value, but
+ * also, with roughly the given false positive rate (as long as the amount of
+ * distinct values doesn't exceed the given amount of expected values),
+ * filters out values that haven't been yielded before.</li>
+ * </ul>
+ * 
+ * <p>
+ * Except for the first mode, the memory consumption of a
+ * {@link DeduplicatingIterator} is bounded when it is created.
+ * 
+ * @param <Payload>
+ *            The payload type.
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 3.3.0
+ */
+public final class DeduplicatingIterator<Payload> implements Iterator<Payload> {
+
+	private static final class SetPredicate<Payload> implements Predicate<Payload> {
+
+		private final Set<? super Payload> set;
+
+		private SetPredicate(Set<? super Payload> set) {
+			this.set = set;
+		}
+
+		@Override
+		public boolean test(Payload payload) {
+			return set.add(payload);
+		}
+
+	}
+
+	private static final class WindowPredicate<Payload> implements Predicate<Payload> {
+
+		private final Map<Payload, Boolean> window;
+
+		private WindowPredicate(final int windowSize) {
+			window = new LinkedHashMap<Payload, Boolean>(16, 0.75f, true) {
+
+				private static final long serialVersionUID = 1L;
+
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<Payload, Boolean> eldest) {
+					return size() > windowSize;
+				}
+
+			};
+		}
+
+		@Override
+		public boolean test(Payload payload) {
+			return null == window.put(payload, Boolean.TRUE);
+		}
+
+	}
+
+	private static final class BloomFilterPredicate<Payload> implements Predicate<Payload> {
+
+		private static final double LN_2 = Math.log(2);
+
+		private static final long MAX_BITS = (long) Integer.MAX_VALUE * Long.SIZE;
+
+		private final long[] bits;
+
+		private final long numberOfBits;
+
+		private final int numberOfHashes;
+
+		private BloomFilterPredicate(int expectedValues, double falsePositiveRate) {
+			double optimalBits = Math.ceil(-expectedValues * Math.log(falsePositiveRate) / (LN_2 * LN_2));
+			numberOfBits = Math.max(Long.SIZE, Math.min(MAX_BITS, (long) optimalBits));
+			numberOfHashes = Math.max(1, (int) Math.round(-Math.log(falsePositiveRate) / LN_2));
+			bits = new long[(int) ((numberOfBits + Long.SIZE - 1) / Long.SIZE)];
+		}
+
+		@Override
+		public boolean test(Payload payload) {
+			long hash = mix(null == payload ? 0 : payload.hashCode());
+			long firstHash = hash & 0xFFFFFFFFL;
+			long secondHash = (hash >>> 32) | 1;
+			boolean added = false;
+			for (int i = 0; i < numberOfHashes; i++) {
+				long bit = (firstHash + i * secondHash) % numberOfBits;
+				int index = (int) (bit >>> 6);
+				long mask = 1L << bit;
+				if (0 == (bits[index] & mask)) {
+					bits[index] |= mask;
+					added = true;
+				}
+			}
+			return added;
+		}
+
+		private static long mix(long hash) {
+			hash ^= hash >>> 33;
+			hash *= 0xFF51AFD7ED558CCDL;
+			hash ^= hash >>> 33;
+			hash *= 0xC4CEB9FE1A85EC53L;
+			hash ^= hash >>> 33;
+			return hash;
+		}
+
+	}
+
+	private final Iterator<Payload> iterator;
+
+	/**
+	 * Creates a new {@link DeduplicatingIterator} that uses the given
+	 * {@link Set} to record all yielded values.
+	 * 
+	 * @param iterator
+	 *            The {@link Iterator} to iterate over.
+	 * @param set
+	 *            The {@link Set} to be used.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link Iterator} is {@literal null} or if the
+	 *             given {@link Set} is {@literal null}.
+	 */
+	public DeduplicatingIterator(Iterator<? extends Payload> iterator, Set<? super Payload> set)
+			throws IllegalArgumentException {
+		if (null == set) {
+			throw new IllegalArgumentException("The given set is null");
+		}
+		this.iterator = new FilteredIterator<Payload>(iterator, new SetPredicate<Payload>(set));
+	}
+
+	/**
+	 * Creates a new {@link DeduplicatingIterator} that records the given
+	 * amount of most recently encountered distinct values.
+	 * 
+	 * @param iterator
+	 *            The {@link Iterator} to iterate over.
+	 * @param windowSize
+	 *            The amount of most recently encountered distinct values to be
+	 *            recorded.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link Iterator} is {@literal null} or if the
+	 *             given window size is not positive.
+	 */
+	public DeduplicatingIterator(Iterator<? extends Payload> iterator, int windowSize)
+			throws IllegalArgumentException {
+		if (windowSize < 1) {
+			throw new IllegalArgumentException("The given window size is not positive: " + windowSize);
+		}
+		this.iterator = new FilteredIterator<Payload>(iterator, new WindowPredicate<Payload>(windowSize));
+	}
+
+	/**
+	 * Creates a new {@link DeduplicatingIterator} that uses a Bloom filter to
+	 * record all yielded values.
+	 * 
+	 * <p>
+	 * The Bloom filter uses the {@link Object#hashCode() hash code} of every
+	 * value. Distinct values with the same hash code are therefore considered
+	 * to be duplicates.
+	 * 
+	 * @param iterator
+	 *            The {@link Iterator} to iterate over.
+	 * @param expectedValues
+	 *            The expected amount of distinct values.
+	 * @param falsePositiveRate
+	 *            The desired rate of values that are falsely considered to be
+	 *            duplicates.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link Iterator} is {@literal null}, if the
+	 *             given amount of expected values is not positive or if the
+	 *             given false positive rate is not between {@literal 0} and
+	 *             {@literal 1}.
+	 */
+	public DeduplicatingIterator(Iterator<? extends Payload> iterator, int expectedValues, double falsePositiveRate)
+			throws IllegalArgumentException {
+		if (expectedValues < 1) {
+			throw new IllegalArgumentException("The given amount of expected values is not positive: "
+					+ expectedValues);
+		} else if (!(falsePositiveRate > 0 && falsePositiveRate < 1)) {
+			throw new IllegalArgumentException("The given false positive rate is not between 0 and 1: "
+					+ falsePositiveRate);
+		}
+		this.iterator = new FilteredIterator<Payload>(iterator, new BloomFilterPredicate<Payload>(expectedValues,
+				falsePositiveRate));
+	}
+
+	@Override
+	public boolean hasNext() {
+		return iterator.hasNext();
+	}
+
+	@Override
+	public Payload next() throws NoSuchElementException {
+		return iterator.next();
+	}
+
+	@Override
+	public void remove() throws IllegalStateException, UnsupportedOperationException {
+		iterator.remove();
+	}
+
+}
@@ -21,14 +21,16 @@
  */
 package net.markenwerk.commons.iterators;
 
+import java.util.NoSuchElementException;
+
 /**
- * A {@link DoubleArrayIterator} is an {@link AbstractIndexedIterator} that
- * iterates over a given {@code double[]}.
+ * A {@link DoubleArrayIterator} is an {@link AbstractIndexedIterator} and a
+ * {@link DoubleIterator} that iterates over a given {@code double[]}.
  * 
  * @author Torsten Krause (tk at markenwerk dot net)
  * @since 1.0.0
  */
-public final class DoubleArrayIterator extends AbstractIndexedIterator<Double> {
+public final class DoubleArrayIterator extends AbstractIndexedIterator<Double> implements DoubleIterator {
 
 	private final double[] array;
 
@@ -53,9 +55,54 @@ public final class DoubleArrayIterator extends AbstractIndexedIterator<Double> {
 		return array.length;
 	}
 
+	/**
+	 * Returns the {@code double[]} this {@link DoubleArrayIterator} iterates over.
+	 */
+	double[] getArray() {
+		return array;
+	}
+
+	/**
+	 * Transfers up to the given amount of remaining {@code double} values into
+	 * the given {@code double[]}, starting at the given offset, and moves this
+	 * {@link DoubleArrayIterator} behind the transferred values.
+	 * 
+	 * @param destination
+	 *            The {@code double[]} to transfer the values into.
+	 * @param offset
+	 *            The offset of the first transferred value in the given
+	 *            {@code double[]}.
+	 * @param length
+	 *            The maximum amount of values to be transferred.
+	 * @return The amount of transferred values, which is smaller than the
+	 *         given length, if less values remain.
+	 * @throws IllegalArgumentException
+	 *             If the given {@code double[]} is {@literal null}, if the
+	 *             given offset or the given length is negative or if the given
+	 *             range exceeds the given {@code double[]}.
+	 * @since 3.3.0
+	 */
+	public int drainTo(double[] destination, int offset, int length) throws IllegalArgumentException {
+		DrainSupport.checkRange(destination, offset, length);
+		int count = (int) Math.min(length, remaining());
+		System.arraycopy(array, getIndex(), destination, offset, count);
+		skip(count);
+		return count;
+	}
+
 	@Override
 	public Double get(int index) {
 		return array[index];
 	}
 
+	@Override
+	public double nextDouble() throws NoSuchElementException {
+		return array[stepForward()];
+	}
+
+	@Override
+	public int characteristics() {
+		return super.characteristics() | NONNULL;
+	}
+
 }
@@ -0,0 +1,189 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterators;
+
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.util.NoSuchElementException;
+
+/**
+ * A {@link DoubleBufferIterator} is an {@link AbstractLongIndexedIterator} and
+ * a {@link DoubleIterator} that iterates over the remaining {@code double}
+ * values of a sequence of given {@link DoubleBuffer DoubleBuffers}.
+ * 
+ * <p>
+ * Because the {@link DoubleBuffer DoubleBuffers} may be views of direct
+ * {@link ByteBuffer ByteBuffers} (see {@link ByteBuffer#asDoubleBuffer()}), a
+ * {@link DoubleBufferIterator} allows to iterate over values that are held
+ * outside of the Java heap. Because every {@link DoubleBuffer} is limited to
+ * {@link Integer#MAX_VALUE} values, the sequence may be split into multiple
+ * segments that are treated as a single sequence that is indexed with
+ * {@code long} values.
+ * 
+ * <p>
+ * A {@link DoubleBufferIterator} only uses absolute get operations on
+ * independent views of the given {@link DoubleBuffer DoubleBuffers}. Their
+ * positions are therefore not changed and the results of
+ * {@link DoubleBufferIterator#split()} can be used concurrently.
+ * 
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 3.3.0
+ */
+public final class DoubleBufferIterator extends AbstractLongIndexedIterator<Double> implements DoubleIterator {
+
+	private final DoubleBuffer[] buffers;
+
+	private final long[] offsets;
+
+	private int segment;
+
+	/**
+	 * Creates a new {@link DoubleBufferIterator}.
+	 * 
+	 * @param buffers
+	 *            The {@link DoubleBuffer DoubleBuffers} to iterate over.
+	 * @throws IllegalArgumentException
+	 *             If the given array of {@link DoubleBuffer DoubleBuffers} is
+	 *             {@literal null} or if any of the given {@link DoubleBuffer
+	 *             DoubleBuffers} is {@literal null}.
+	 */
+	public DoubleBufferIterator(DoubleBuffer... buffers) throws IllegalArgumentException {
+		this(slice(buffers), BufferSegments.offsets(buffers));
+	}
+
+	private DoubleBufferIterator(DoubleBuffer[] buffers, long[] offsets) {
+		this(buffers, offsets, 0, offsets[buffers.length]);
+	}
+
+	private DoubleBufferIterator(DoubleBuffer[] buffers, long[] offsets, long minIndex, long maxIndex) {
+		super(minIndex, maxIndex);
+		this.buffers = buffers;
+		this.offsets = offsets;
+	}
+
+	private static DoubleBuffer[] slice(DoubleBuffer[] buffers) {
+		if (null == buffers) {
+			throw new IllegalArgumentException("The given array of buffers is null");
+		}
+		DoubleBuffer[] slices = new DoubleBuffer[buffers.length];
+		for (int i = 0; i < buffers.length; i++) {
+			if (null == buffers[i]) {
+				throw new IllegalArgumentException("The given buffer at index '" + i + "' is null");
+			}
+			slices[i] = buffers[i].slice();
+		}
+		return slices;
+	}
+
+	@Override
+	public double nextDouble() throws NoSuchElementException {
+		return getDouble(stepForward());
+	}
+
+	/**
+	 * Returns the previous {@code double} value.
+	 * 
+	 * @return The previous {@code double} value in the iteration.
+	 * @throws NoSuchElementException
+	 *             If this {@link DoubleBufferIterator} has no previous element.
+	 */
+	public double previousDouble() throws NoSuchElementException {
+		return getDouble(stepBackward());
+	}
+
+	/**
+	 * Splits off a {@link DoubleBufferIterator} that iterates over the first
+	 * half of the remaining values. This {@link DoubleBufferIterator} will only
+	 * iterate over the second half of the remaining values.
+	 * 
+	 * @return A {@link DoubleBufferIterator} that iterates over the first half
+	 *         of the remaining values, or {@literal null}, if less than two
+	 *         values remain.
+	 */
+	public DoubleBufferIterator split() {
+		long index = getIndex();
+		long splitIndex = splitIndex();
+		if (-1 == splitIndex) {
+			return null;
+		} else {
+			return new DoubleBufferIterator(buffers, offsets, index, splitIndex);
+		}
+	}
+
+	/**
+	 * Transfers up to the given amount of remaining {@code double} values into
+	 * the given {@code double[]}, starting at the given offset, and moves this
+	 * {@link DoubleBufferIterator} behind the transferred values.
+	 * 
+	 * <p>
+	 * The values are transferred with a bulk get operation on an independent
+	 * view of every affected {@link DoubleBuffer}.
+	 * 
+	 * @param destination
+	 *            The {@code double[]} to transfer the values into.
+	 * @param offset
+	 *            The offset of the first transferred value in the given
+	 *            {@code double[]}.
+	 * @param length
+	 *            The maximum amount of values to be transferred.
+	 * @return The amount of transferred values, which is smaller than the
+	 *         given length, if less values remain.
+	 * @throws IllegalArgumentException
+	 *             If the given {@code double[]} is {@literal null}, if the
+	 *             given offset or the given length is negative or if the given
+	 *             range exceeds the given {@code double[]}.
+	 * @since 3.3.0
+	 */
+	public int drainTo(double[] destination, int offset, int length) throws IllegalArgumentException {
+		DrainSupport.checkRange(destination, offset, length);
+		int count = (int) Math.min(length, remaining());
+		long index = getIndex();
+		int transferred = 0;
+		while (transferred < count) {
+			segment = BufferSegments.segment(offsets, index, segment);
+			DoubleBuffer buffer = buffers[segment].duplicate();
+			buffer.position((int) (index - offsets[segment]));
+			int chunk = Math.min(count - transferred, buffer.remaining());
+			buffer.get(destination, offset + transferred, chunk);
+			transferred += chunk;
+			index += chunk;
+		}
+		skip(count);
+		return count;
+	}
+
+	@Override
+	protected Double get(long index) {
+		return getDouble(index);
+	}
+
+	private double getDouble(long index) {
+		segment = BufferSegments.segment(offsets, index, segment);
+		return buffers[segment].get((int) (index - offsets[segment]));
+	}
+
+	@Override
+	public int characteristics() {
+		return super.characteristics() | NONNULL;
+	}
+
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.markenwerk.commons.iterators;
+
+import java.util.NoSuchElementException;
+
+/**
+ * A {@link DoubleFilteredIterator} is a {@link DoubleIterator} that can be
+ * wrapped around a given {@link DoubleIterator} and filters out all values that
+ * don't satisfy a given {@link DoublePredicate}.
+ * 
+ * <p>
+ * If the given {@link DoubleIterator} is a {@link DoubleArrayIterator}, the
+ * backing {@code double[]} is scanned directly, instead of retrieving every
+ * value through the given {@link DoubleIterator}.
+ * 
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 3.3.0
+ */
+public final class DoubleFilteredIterator extends AbstractProtectedIterator<Double> implements DoubleIterator,
+		CharacterizedIterator<Double> {
+
+	private final DoubleIterator iterator;
+
+	private final DoubleArrayIterator arrayIterator;
+
+	private final DoublePredicate predicate;
+
+	private final boolean satisfying;
+
+	private boolean nextPrepared;
+
+	private boolean nextDetected;
+
+	private double next;
+
+	/**
+	 * Creates a new {@link DoubleFilteredIterator}.
+	 * 
+	 * @param iterator
+	 *            The {@link DoubleIterator} to iterate over.
+	 * @param predicate
+	 *            The {@link DoublePredicate} to be used.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link DoubleIterator} is {@literal null} or if
+	 *             the given {@link DoublePredicate} is {@literal null}.
+	 */
+	public DoubleFilteredIterator(DoubleIterator iterator, DoublePredicate predicate) throws IllegalArgumentException {
+		this(iterator, predicate, false);
+	}
+
+	/**
+	 * Creates a new {@link DoubleFilteredIterator}.
+	 * 
+	 * @param iterator
+	 *            The {@link DoubleIterator} to iterate over.
+	 * @param predicate
+	 *            The {@link DoublePredicate} to be used.
+	 * @param invertPredicate
+	 *            Whether to invert the given {@link DoublePredicate}.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link DoubleIterator} is {@literal null} or if
+	 *             the given {@link DoublePredicate} is {@literal null}.
+	 */
+	public DoubleFilteredIterator(DoubleIterator iterator, DoublePredicate predicate, boolean invertPredicate)
+			throws IllegalArgumentException {
+		if (null == iterator) {
+			throw new IllegalArgumentException("The given iterator is null");
+		} else if (null == predicate) {
+			throw new IllegalArgumentException("The given predicate is null");
+		}
+		this.iterator = iterator;
+		this.arrayIterator = iterator instanceof DoubleArrayIterator ? (DoubleArrayIterator) iterator : null;
+		this.predicate = predicate;
+		this.satisfying = !invertPredicate;
+	}
+
+	@Override
+	public boolean hasNext() {
+		prepareNext();
+		return nextDetected;
+	}
+
+	@Override
+	public Double next() throws NoSuchElementException {
+		return nextDouble();
+	}
+
+	@Override
+	public double nextDouble() throws NoSuchElementException {
+		if (!hasNext()) {
+			throw new NoSuchElementException("This iterator has no next element");
+		} else {
+			nextPrepared = false;
+			return next;
+		}
+	}
+
+	private void prepareNext() {
+		if (!nextPrepared) {
+			nextDetected = null == arrayIterator ? detectNext() : scanNext();
+			nextPrepared = true;
+		}
+	}
+
+	private boolean detectNext() {
+		while (iterator.hasNext()) {
+			double value = iterator.nextDouble();
+			if (satisfying == predicate.test(value)) {
+				next = value;
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private boolean scanNext() {
+		double[] array = arrayIterator.getArray();
+		int startIndex = arrayIterator.getIndex();
+		int index = startIndex;
+		try {
+			while (index < array.length) {
+				double value = array[index++];
+				if (satisfying == predicate.test(value)) {
+					next = value;
+					return true;
+				}
+			}
+			return false;
+		} finally {
+			arrayIterator.skip(index - startIndex);
+		}
+	}
+
+	/**
+	 * Returns the characteristics of the given {@link DoubleIterator}, except
+	 * for the size related characteristics, and
+	 * {@link CharacterizedIterator#NONNULL}.
+	 * 
+	 * @return The characteristics.
+	 */
+	@Override
+	public int characteristics() {
+		return (CharacteristicsSupport.characteristics(iterator) & ~(SIZED | SUBSIZED)) | NONNULL;
+	}
+
+	/**
+	 * Returns the estimated size of the given {@link DoubleIterator}, which is
+	 * an upper bound for the amount of values this
+	 * {@link DoubleFilteredIterator} will yield.
+	 * 
+	 * @return The estimated size.
+	 */
+	@Override
+	public long estimateSize() {
+		long estimatedSize = CharacteristicsSupport.estimateSize(iterator);
+		return nextPrepared && nextDetected ? CharacteristicsSupport.add(estimatedSize, 1) : estimatedSize;
+	}
+
+}
@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterators;
+
+import java.util.NoSuchElementException;
+
+/**
+ * A {@link DoubleTopKIterator} is an {@link AbstractProtectedIterator} and a
+ * {@link DoubleIterator} that can be wrapped around a given
+ * {@link DoubleIterator} and yields the largest values of all values yielded by
+ * the given {@link DoubleIterator}, up to a given amount, in descending order.
+ * 
+ * <p>
+ * This is the primitive counterpart of a {@link TopKIterator} that uses the
+ * natural order of {@code double} values, as defined by
+ * {@link Double#compare(double, double)}, and doesn't box any value, unless
+ * {@link DoubleTopKIterator#next()} is called.
+ * 
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 3.3.0
+ */
+public final class DoubleTopKIterator extends AbstractProtectedIterator<Double> implements DoubleIterator {
+
+	private final DoubleIterator iterator;
+
+	private final int size;
+
+	private final boolean invertOrder;
+
+	private double[] values;
+
+	private int count;
+
+	private int index;
+
+	/**
+	 * Creates a new {@link DoubleTopKIterator}.
+	 * 
+	 * @param iterator
+	 *            The {@link DoubleIterator} to iterate over.
+	 * @param size
+	 *            The maximum amount of values to be yielded.
+	 * @throws IllegalArgumentException
+	 *             If the given {@link DoubleIterator} is {@literal null} or if
+	 *             the given size is not positive.
+	 */
+	public DoubleTopKIterator(DoubleIterator iterator, int size) throws IllegalArgumentException {
+		this(iterator, size, false);
+	}
+
+	/**
+	 * Creates a new {@link DoubleTopKIterator}.
+	 * 
+	 * @param iterator
+	 *            The {@link DoubleIterator} to iterate over.
+	 * @param size
+	 *            The maximum amount of values to be yielded.
+	 * @param invertOrder
+	 *            Whether to yield the smallest values in ascending order,
+	 *            instead of the largest values in descending order.
+	 * @throws IllegalArgumentException
+	 *             If the given {@link DoubleIterator} is {@literal null} or if
+	 *             the given size is not positive.
+	 */
+	public DoubleTopKIterator(DoubleIterator iterator, int size, boolean invertOrder) throws IllegalArgumentException {
+		if (null == iterator) {
+			throw new IllegalArgumentException("The given iterator is null");
+		} else if (size < 1) {
+			throw new IllegalArgumentException("The given size is not positive: " + size);
+		}
+		this.iterator = iterator;
+		this.size = size;
+		this.invertOrder = invertOrder;
+	}
+
+	@Override
+	public boolean hasNext() {
+		if (null == values) {
+			select();
+		}
+		return index < count;
+	}
+
+	private void select() {
+		values = new double[Math.min(size, 16)];
+		while (iterator.hasNext()) {
+			double value = iterator.nextDouble();
+			if (count < size) {
+				if (count == values.length) {
+					double[] grown = new double[(int) Math.min(size, 2L * count)];
+					System.arraycopy(values, 0, grown, 0, count);
+					values = grown;
+				}
+				values[count] = value;
+				siftUp(count++);
+			} else if (precedes(values[0], value)) {
+				values[0] = value;
+				siftDown(count);
+			}
+		}
+		for (int i = count - 1; i > 0; i--) {
+			double value = values[0];
+			values[0] = values[i];
+			values[i] = value;
+			siftDown(i);
+		}
+	}
+
+	private void siftUp(int index) {
+		double value = values[index];
+		while (index > 0) {
+			int parent = (index - 1) >>> 1;
+			if (precedes(value, values[parent])) {
+				values[index] = values[parent];
+				index = parent;
+			} else {
+				break;
+			}
+		}
+		values[index] = value;
+	}
+
+	private void siftDown(int size) {
+		double value = values[0];
+		int index = 0;
+		while (true) {
+			int child = 2 * index + 1;
+			if (child >= size) {
+				break;
+			}
+			if (child + 1 < size && precedes(values[child + 1], values[child])) {
+				child++;
+			}
+			if (precedes(values[child], value)) {
+				values[index] = values[child];
+				index = child;
+			} else {
+				break;
+			}
+		}
+		values[index] = value;
+	}
+
+	private boolean precedes(double first, double second) {
+		int comparison = Double.compare(first, second);
+		return invertOrder ? comparison > 0 : comparison < 0;
+	}
+
+	@Override
+	public Double next() throws NoSuchElementException {
+		return nextDouble();
+	}
+
+	@Override
+	public double nextDouble() throws NoSuchElementException {
+		if (!hasNext()) {
+			throw new NoSuchElementException("This iterator has no next element");
+		} else {
+			return values[index++];
+		}
+	}
+
+}
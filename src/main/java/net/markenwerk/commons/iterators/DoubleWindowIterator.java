@@ -0,0 +1,243 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterators;
+
+import java.util.NoSuchElementException;
+
+/**
+ * A {@link DoubleWindowIterator} is an {@link AbstractProtectedIterator} that
+ * can be wrapped around a given {@link DoubleIterator} and yields windows of a
+ * given size over the values of the given {@link DoubleIterator}, where every
+ * window starts a given step after the start of the previous window.
+ * 
+ * <p>
+ * This is the primitive counterpart of a {@link WindowIterator}. Every yielded
+ * {@link DoubleWindow} is a read-only view of a circular buffer that is reused
+ * for every window and is therefore only valid until
+ * {@link DoubleWindowIterator#next()} is called again. The
+ * {@link DoubleWindow#getSum() sum} of every window is maintained
+ * incrementally, using compensated summation, such that it isn't necessary to
+ * add up all values of every window. Non-finite values are counted separately
+ * and never added to the compensated sum, such that the sum of every window
+ * that only contains finite values is finite, even if an earlier window
+ * contained {@link Double#NaN} or infinite values. If finite values overflow
+ * the compensated sum, it is recomputed from the values of the window, once
+ * such values have been removed from the window.
+ * 
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 3.3.0
+ */
+public final class DoubleWindowIterator extends AbstractProtectedIterator<DoubleWindow> {
+
+	private final class Window implements DoubleWindow {
+
+		@Override
+		public int size() {
+			return size;
+		}
+
+		@Override
+		public double get(int index) throws IndexOutOfBoundsException {
+			if (index < 0 || index >= size) {
+				throw new IndexOutOfBoundsException("The given index is not within the window: " + index);
+			}
+			int position = start + index;
+			return buffer[position < size ? position : position - size];
+		}
+
+		@Override
+		public double getSum() {
+			return sum();
+		}
+
+		@Override
+		public double getAverage() {
+			return sum() / size;
+		}
+
+	}
+
+	private final DoubleIterator iterator;
+
+	private final int size;
+
+	private final int step;
+
+	private final double[] buffer;
+
+	private final double[] staged;
+
+	private final DoubleWindow window = new Window();
+
+	private int start;
+
+	private double sum;
+
+	private double compensation;
+
+	private int nanCount;
+
+	private int positiveInfinityCount;
+
+	private int negativeInfinityCount;
+
+	private boolean filled;
+
+	private boolean nextPrepared;
+
+	private boolean nextDetected;
+
+	/**
+	 * Creates a new {@link DoubleWindowIterator}.
+	 * 
+	 * @param iterator
+	 *            The {@link DoubleIterator} to iterate over.
+	 * @param size
+	 *            The size of every window.
+	 * @param step
+	 *            The distance between the start of consecutive windows.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link DoubleIterator} is {@literal null}, if
+	 *             the given size is not positive or if the given step is not
+	 *             positive.
+	 */
+	public DoubleWindowIterator(DoubleIterator iterator, int size, int step) throws IllegalArgumentException {
+		if (null == iterator) {
+			throw new IllegalArgumentException("The given iterator is null");
+		} else if (size < 1) {
+			throw new IllegalArgumentException("The given size is not positive: " + size);
+		} else if (step < 1) {
+			throw new IllegalArgumentException("The given step is not positive: " + step);
+		}
+		this.iterator = iterator;
+		this.size = size;
+		this.step = step;
+		this.buffer = new double[size];
+		this.staged = new double[Math.min(size, step)];
+	}
+
+	@Override
+	public boolean hasNext() {
+		prepareNext();
+		return nextDetected;
+	}
+
+	@Override
+	public DoubleWindow next() throws NoSuchElementException {
+		if (!hasNext()) {
+			throw new NoSuchElementException("This iterator has no next element");
+		} else {
+			nextPrepared = false;
+			if (!filled) {
+				filled = true;
+				for (int i = 0; i < size; i++) {
+					add(buffer[i], 1);
+				}
+			} else {
+				for (int i = 0, n = staged.length; i < n; i++) {
+					add(staged[i], 1);
+					add(buffer[start], -1);
+					buffer[start] = staged[i];
+					start = start + 1 == size ? 0 : start + 1;
+				}
+				if (isNonFinite(sum) || isNonFinite(compensation)) {
+					recomputeSum();
+				}
+			}
+			return window;
+		}
+	}
+
+	private void add(double value, int sign) {
+		if (Double.isNaN(value)) {
+			nanCount += sign;
+		} else if (Double.POSITIVE_INFINITY == value) {
+			positiveInfinityCount += sign;
+		} else if (Double.NEGATIVE_INFINITY == value) {
+			negativeInfinityCount += sign;
+		} else {
+			double signed = sign * value;
+			double total = sum + signed;
+			if (Math.abs(sum) >= Math.abs(signed)) {
+				compensation += (sum - total) + signed;
+			} else {
+				compensation += (signed - total) + sum;
+			}
+			sum = total;
+		}
+	}
+
+	private void recomputeSum() {
+		sum = 0;
+		compensation = 0;
+		for (int i = 0; i < size; i++) {
+			if (!isNonFinite(buffer[i])) {
+				add(buffer[i], 1);
+			}
+		}
+	}
+
+	private static boolean isNonFinite(double value) {
+		return Double.isNaN(value) || Double.isInfinite(value);
+	}
+
+	private double sum() {
+		if (0 != nanCount || (0 != positiveInfinityCount && 0 != negativeInfinityCount)) {
+			return Double.NaN;
+		} else if (0 != positiveInfinityCount) {
+			return Double.POSITIVE_INFINITY;
+		} else if (0 != negativeInfinityCount) {
+			return Double.NEGATIVE_INFINITY;
+		} else {
+			return isNonFinite(sum) ? sum : sum + compensation;
+		}
+	}
+
+	private void prepareNext() {
+		if (!nextPrepared) {
+			if (!filled) {
+				nextDetected = stage(buffer, size, 0);
+			} else {
+				nextDetected = stage(staged, staged.length, step - staged.length);
+			}
+			nextPrepared = true;
+		}
+	}
+
+	private boolean stage(double[] target, int length, int skip) {
+		for (int i = 0; i < skip; i++) {
+			if (!iterator.hasNext()) {
+				return false;
+			}
+			iterator.nextDouble();
+		}
+		for (int i = 0; i < length; i++) {
+			if (!iterator.hasNext()) {
+				return false;
+			}
+			target[i] = iterator.nextDouble();
+		}
+		return true;
+	}
+
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterators;
+
+import java.lang.reflect.Array;
+import java.util.Collection;
+
+/**
+ * {@link DrainSupport} validates the arguments of the bulk transfer
+ * operations.
+ * 
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 3.3.0
+ */
+final class DrainSupport {
+
+	private DrainSupport() {
+	}
+
+	/**
+	 * Checks that the given array is not {@literal null} and that the given
+	 * range lies within the given array.
+	 */
+	static void checkRange(Object array, int offset, int length) throws IllegalArgumentException {
+		if (null == array) {
+			throw new IllegalArgumentException("The given array is null");
+		} else if (offset < 0) {
+			throw new IllegalArgumentException("The given offset is negative: " + offset);
+		} else if (length < 0) {
+			throw new IllegalArgumentException("The given length is negative: " + length);
+		} else if (offset > Array.getLength(array) - length) {
+			throw new IllegalArgumentException("The given range exceeds the given array of length '"
+					+ Array.getLength(array) + "': " + offset + " + " + length);
+		}
+	}
+
+	/**
+	 * Checks that the given {@link Collection} is not {@literal null}.
+	 */
+	static void checkCollection(Collection<?> collection) throws IllegalArgumentException {
+		if (null == collection) {
+			throw new IllegalArgumentException("The given collection is null");
+		}
+	}
+
+}
@@ -50,6 +50,8 @@ public final class FilteredIterator<Payload> implements Iterator<Payload> {
 
 	private final boolean satisfying;
 
+	private final PipelineTracker tracker = PipelineTracker.create(this);
+
 	private boolean nextPrepared;
 
 	private boolean nextDetected;
@@ -130,6 +132,9 @@ public final class FilteredIterator<Payload> implements Iterator<Payload> {
 
 	private void prepareNext() {
 		if (!nextPrepared) {
+			if (null != tracker) {
+				tracker.preparing();
+			}
 			next = null;
 			nextDetected = false;
 			while (!nextDetected && iterator.hasNext()) {
@@ -140,6 +145,9 @@ public final class FilteredIterator<Payload> implements Iterator<Payload> {
 				}
 			}
 			nextPrepared = true;
+			if (null != tracker) {
+				tracker.prepared(nextDetected);
+			}
 		}
 	}
 
@@ -0,0 +1,255 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterators;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import net.markenwerk.commons.interfaces.Converter;
+
+/**
+ * A {@link GroupingIterator} is an {@link AbstractProtectedIterator} that can
+ * be wrapped around a given {@link Iterator} and yields a {@link Group} for
+ * every run of consecutive values of the given {@link Iterator} that have the
+ * same key, as determined by a given {@link Converter}.
+ * 
+ * <p>
+ * If the given {@link Iterator} yields its values sorted by key, every key is
+ * yielded exactly once. Only the values of a single run are held in memory.
+ * 
+ * <p>
+ * A {@link GroupingIterator} can either stream the values of every run or
+ * buffer them:
+ * 
+ * <ul>
+ * <li>A streaming {@link GroupingIterator} yields {@link Group Groups} that
+ * take their values directly from the given {@link Iterator}. Calling
+ * {@link GroupingIterator#hasNext()} or {@link GroupingIterator#next()} skips
+ * all remaining values of the current {@link Group}.</li>
+ * <li>A buffering {@link GroupingIterator} collects all values of a run into a
+ * buffer that is reused for every run, before the {@link Group} is yielded.
+ * Calling {@link GroupingIterator#hasNext()} doesn't affect the current
+ * {@link Group}.</li>
+ * </ul>
+ * 
+ * <p>
+ * In both cases, a {@link Group} yields no further values, after
+ * {@link GroupingIterator#next()} has been called again.
+ * 
+ * @param <Key>
+ *            The key type.
+ * @param <Payload>
+ *            The payload type.
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 3.3.0
+ */
+public final class GroupingIterator<Key, Payload> extends AbstractProtectedIterator<Group<Key, Payload>> {
+
+	private final class StreamingGroup extends AbstractProtectedIterator<Payload> implements Group<Key, Payload> {
+
+		private final Key key;
+
+		private final int generation;
+
+		private StreamingGroup(Key key, int generation) {
+			this.key = key;
+			this.generation = generation;
+		}
+
+		@Override
+		public Key getKey() {
+			return key;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return generation == GroupingIterator.this.generation && pendingInCurrentRun();
+		}
+
+		@Override
+		public Payload next() throws NoSuchElementException {
+			if (!hasNext()) {
+				throw new NoSuchElementException("This group has no next element");
+			} else {
+				Payload next = pending;
+				fetch();
+				return next;
+			}
+		}
+
+	}
+
+	private final class BufferedGroup extends AbstractProtectedIterator<Payload> implements Group<Key, Payload> {
+
+		private final Key key;
+
+		private final int generation;
+
+		private int index;
+
+		private BufferedGroup(Key key, int generation) {
+			this.key = key;
+			this.generation = generation;
+		}
+
+		@Override
+		public Key getKey() {
+			return key;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return generation == GroupingIterator.this.generation && index < buffer.size();
+		}
+
+		@Override
+		public Payload next() throws NoSuchElementException {
+			if (!hasNext()) {
+				throw new NoSuchElementException("This group has no next element");
+			} else {
+				return buffer.get(index++);
+			}
+		}
+
+	}
+
+	private final Iterator<? extends Payload> iterator;
+
+	private final Converter<? super Payload, ? extends Key> converter;
+
+	private final List<Payload> buffer;
+
+	private boolean started;
+
+	private boolean groupOpen;
+
+	private int generation;
+
+	private Key currentKey;
+
+	private boolean pendingExists;
+
+	private Payload pending;
+
+	private Key pendingKey;
+
+	/**
+	 * Creates a new streaming {@link GroupingIterator}.
+	 * 
+	 * @param iterator
+	 *            The {@link Iterator} to iterate over.
+	 * @param converter
+	 *            The {@link Converter} to be used to determine the key of a
+	 *            value.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link Iterator} is {@literal null} or if the
+	 *             given {@link Converter} is {@literal null}.
+	 */
+	public GroupingIterator(Iterator<? extends Payload> iterator, Converter<? super Payload, ? extends Key> converter)
+			throws IllegalArgumentException {
+		this(iterator, converter, false);
+	}
+
+	/**
+	 * Creates a new {@link GroupingIterator}.
+	 * 
+	 * @param iterator
+	 *            The {@link Iterator} to iterate over.
+	 * @param converter
+	 *            The {@link Converter} to be used to determine the key of a
+	 *            value.
+	 * @param buffering
+	 *            Whether to collect all values of a run into a buffer, before
+	 *            yielding the {@link Group}.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link Iterator} is {@literal null} or if the
+	 *             given {@link Converter} is {@literal null}.
+	 */
+	public GroupingIterator(Iterator<? extends Payload> iterator,
+			Converter<? super Payload, ? extends Key> converter, boolean buffering) throws IllegalArgumentException {
+		if (null == iterator) {
+			throw new IllegalArgumentException("The given iterator is null");
+		} else if (null == converter) {
+			throw new IllegalArgumentException("The given converter is null");
+		}
+		this.iterator = iterator;
+		this.converter = converter;
+		this.buffer = buffering ? new ArrayList<Payload>() : null;
+	}
+
+	@Override
+	public boolean hasNext() {
+		if (!started) {
+			fetch();
+			started = true;
+		} else if (groupOpen) {
+			while (pendingInCurrentRun()) {
+				fetch();
+			}
+			groupOpen = false;
+			generation++;
+		}
+		return pendingExists;
+	}
+
+	@Override
+	public Group<Key, Payload> next() throws NoSuchElementException {
+		if (!hasNext()) {
+			throw new NoSuchElementException("This iterator has no next element");
+		} else {
+			currentKey = pendingKey;
+			if (null == buffer) {
+				groupOpen = true;
+				return new StreamingGroup(currentKey, generation);
+			} else {
+				generation++;
+				buffer.clear();
+				while (pendingInCurrentRun()) {
+					buffer.add(pending);
+					fetch();
+				}
+				return new BufferedGroup(currentKey, generation);
+			}
+		}
+	}
+
+	private void fetch() {
+		if (iterator.hasNext()) {
+			pending = iterator.next();
+			pendingKey = converter.convert(pending);
+			pendingExists = true;
+		} else {
+			pending = null;
+			pendingKey = null;
+			pendingExists = false;
+		}
+	}
+
+	private boolean pendingInCurrentRun() {
+		return pendingExists && (null == currentKey ? null == pendingKey : currentKey.equals(pendingKey));
+	}
+
+}
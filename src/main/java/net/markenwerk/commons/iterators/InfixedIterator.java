@@ -39,7 +39,9 @@ import java.util.NoSuchElementException;
  * @author Torsten Krause (tk at markenwerk dot net)
  * @since 1.1.6
  */
-public final class InfixedIterator<Payload> implements Iterator<Payload> {
+public final class InfixedIterator<Payload> implements CharacterizedIterator<Payload> {
+
+	private static final int CHARACTERISTICS = ORDERED | SIZED | SUBSIZED | NONNULL | IMMUTABLE | CONCURRENT;
 
 	private final Iterator<? extends Payload> iterator;
 
@@ -110,4 +112,40 @@ public final class InfixedIterator<Payload> implements Iterator<Payload> {
 		}
 	}
 
+	/**
+	 * Returns the characteristics of the given {@link Iterator}, except for
+	 * characteristics that depend on the values, like
+	 * {@link CharacterizedIterator#SORTED}, that can't be guaranteed in the
+	 * presence of infixes.
+	 * 
+	 * @return The characteristics.
+	 * @since 3.3.0
+	 */
+	@Override
+	public int characteristics() {
+		int characteristics = CharacteristicsSupport.characteristics(iterator) & CHARACTERISTICS;
+		return CharacteristicsSupport.nonNull(infixes) ? characteristics : characteristics & ~NONNULL;
+	}
+
+	/**
+	 * Returns the estimated size of the given {@link Iterator} plus the amount
+	 * of infixes that remain to be yielded.
+	 * 
+	 * @return The estimated size.
+	 * @since 3.3.0
+	 */
+	@Override
+	public long estimateSize() {
+		long remainingInfixes = infixing ? infixes.length - 1 - infixIndex : 0;
+		long remainingValues = CharacteristicsSupport.estimateSize(iterator);
+		if (0 != remainingValues && 0 != infixes.length) {
+			long remainingGroups = remainingValues - 1;
+			if (remainingGroups > (Long.MAX_VALUE - remainingValues) / infixes.length) {
+				return Long.MAX_VALUE;
+			}
+			remainingInfixes += remainingGroups * infixes.length;
+		}
+		return CharacteristicsSupport.add(remainingValues, remainingInfixes);
+	}
+
 }
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterators;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * An {@link Instrumentation} holds the {@link StageStatistics} of all stages of
+ * an iterator pipeline and creates {@link StageSnapshot StageSnapshots} of all
+ * stages at once.
+ * 
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 3.3.0
+ */
+public final class Instrumentation {
+
+	private final List<StageStatistics> stages = new CopyOnWriteArrayList<StageStatistics>();
+
+	private final int samplingInterval;
+
+	/**
+	 * Creates a new {@link Instrumentation} that times every call.
+	 */
+	public Instrumentation() {
+		this(1);
+	}
+
+	/**
+	 * Creates a new {@link Instrumentation}.
+	 * 
+	 * @param samplingInterval
+	 *            The sampling interval to be used, which is the amount of calls
+	 *            of an operation per timed call.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given sampling interval is not positive.
+	 */
+	public Instrumentation(int samplingInterval) throws IllegalArgumentException {
+		if (samplingInterval <= 0) {
+			throw new IllegalArgumentException("The given sampling interval is not positive: " + samplingInterval);
+		}
+		this.samplingInterval = samplingInterval;
+	}
+
+	/**
+	 * Adds a new stage to this {@link Instrumentation}.
+	 * 
+	 * @param name
+	 *            The name of the stage.
+	 * @return The {@link StageStatistics} of the new stage.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given name is {@literal null}.
+	 */
+	public StageStatistics addStage(String name) throws IllegalArgumentException {
+		StageStatistics stage = new StageStatistics(name, samplingInterval);
+		stages.add(stage);
+		return stage;
+	}
+
+	/**
+	 * Creates a {@link StageSnapshot} of every stage, in the order in which the
+	 * stages have been added.
+	 * 
+	 * @return The {@link StageSnapshot StageSnapshots}.
+	 */
+	public List<StageSnapshot> snapshot() {
+		List<StageSnapshot> snapshots = new ArrayList<StageSnapshot>(stages.size());
+		for (StageStatistics stage : stages) {
+			snapshots.add(stage.snapshot());
+		}
+		return snapshots;
+	}
+
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterators;
+
+import net.markenwerk.commons.exceptions.ConversionException;
+import net.markenwerk.commons.interfaces.Converter;
+
+/**
+ * An {@link InstrumentedConverter} is a {@link Converter} that can be wrapped
+ * around a given {@link Converter} and records the amount of converted values
+ * and the time spent in converting values in a given {@link StageStatistics}.
+ * 
+ * <p>
+ * An {@link InstrumentedConverter} is intended to be used with a
+ * {@link ConvertingIterator}, in order to measure the cost of a conversion
+ * stage.
+ * 
+ * @param <From>
+ *            The type to convert values from.
+ * @param <To>
+ *            The type to convert values to.
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 3.3.0
+ */
+public final class InstrumentedConverter<From, To> implements Converter<From, To> {
+
+	private final Converter<? super From, ? extends To> converter;
+
+	private final OperationCounter conversionCounter;
+
+	/**
+	 * Creates a new {@link InstrumentedConverter}.
+	 * 
+	 * @param converter
+	 *            The {@link Converter} to be used.
+	 * @param statistics
+	 *            The {@link StageStatistics} to be used.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link Converter} is {@literal null} or if the
+	 *             given {@link StageStatistics} is {@literal null}.
+	 */
+	public InstrumentedConverter(Converter<? super From, ? extends To> converter, StageStatistics statistics)
+			throws IllegalArgumentException {
+		if (null == converter) {
+			throw new IllegalArgumentException("The given converter is null");
+		} else if (null == statistics) {
+			throw new IllegalArgumentException("The given statistics is null");
+		}
+		this.converter = converter;
+		conversionCounter = statistics.getConversionCounter();
+	}
+
+	@Override
+	public To convert(From from) throws ConversionException {
+		long start = conversionCounter.start();
+		try {
+			return converter.convert(from);
+		} finally {
+			conversionCounter.stop(start);
+		}
+	}
+
+}
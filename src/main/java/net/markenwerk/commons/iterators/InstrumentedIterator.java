@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterators;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * An {@link InstrumentedIterator} is an {@link Iterator} that can be wrapped
+ * around a given {@link Iterator} and records the calls to
+ * {@link InstrumentedIterator#hasNext()} and
+ * {@link InstrumentedIterator#next()}, as well as the time spent in these
+ * calls, in a given {@link StageStatistics}.
+ * 
+ * <p>
+ * The recorded time includes the time spent in the given {@link Iterator} and
+ * therefore in all preceding stages of the pipeline.
+ * 
+ * @param <Payload>
+ *            The payload type.
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 3.3.0
+ */
+public final class InstrumentedIterator<Payload> implements CharacterizedIterator<Payload> {
+
+	private final Iterator<? extends Payload> iterator;
+
+	private final OperationCounter hasNextCounter;
+
+	private final OperationCounter nextCounter;
+
+	/**
+	 * Creates a new {@link InstrumentedIterator}.
+	 * 
+	 * @param iterator
+	 *            The {@link Iterator} to iterate over.
+	 * @param statistics
+	 *            The {@link StageStatistics} to be used.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link Iterator} is {@literal null} or if the
+	 *             given {@link StageStatistics} is {@literal null}.
+	 */
+	public InstrumentedIterator(Iterator<? extends Payload> iterator, StageStatistics statistics)
+			throws IllegalArgumentException {
+		if (null == iterator) {
+			throw new IllegalArgumentException("The given iterator is null");
+		} else if (null == statistics) {
+			throw new IllegalArgumentException("The given statistics is null");
+		}
+		this.iterator = iterator;
+		hasNextCounter = statistics.getHasNextCounter();
+		nextCounter = statistics.getNextCounter();
+	}
+
+	@Override
+	public boolean hasNext() {
+		long start = hasNextCounter.start();
+		try {
+			return iterator.hasNext();
+		} finally {
+			hasNextCounter.stop(start);
+		}
+	}
+
+	@Override
+	public Payload next() throws NoSuchElementException {
+		long start = nextCounter.start();
+		try {
+			return iterator.next();
+		} finally {
+			nextCounter.stop(start);
+		}
+	}
+
+	@Override
+	public void remove() throws IllegalStateException, UnsupportedOperationException {
+		iterator.remove();
+	}
+
+	/**
+	 * Returns the characteristics of the given {@link Iterator}.
+	 * 
+	 * @return The characteristics.
+	 */
+	@Override
+	public int characteristics() {
+		return CharacteristicsSupport.characteristics(iterator);
+	}
+
+	/**
+	 * Returns the estimated size of the given {@link Iterator}.
+	 * 
+	 * @return The estimated size.
+	 */
+	@Override
+	public long estimateSize() {
+		return CharacteristicsSupport.estimateSize(iterator);
+	}
+
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterators;
+
+import net.markenwerk.commons.exceptions.PredicateException;
+import net.markenwerk.commons.interfaces.Predicate;
+
+/**
+ * An {@link InstrumentedPredicate} is a {@link Predicate} that can be wrapped
+ * around a given {@link Predicate} and records the amount of tested values, the
+ * amount of values that satisfied the given {@link Predicate} and the time
+ * spent in testing values in a given {@link StageStatistics}.
+ * 
+ * <p>
+ * An {@link InstrumentedPredicate} is intended to be used with a
+ * {@link FilteredIterator}, in order to measure the selectivity of a filter
+ * stage.
+ * 
+ * @param <Payload>
+ *            The payload type.
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 3.3.0
+ */
+public final class InstrumentedPredicate<Payload> implements Predicate<Payload> {
+
+	private final Predicate<? super Payload> predicate;
+
+	private final StageStatistics statistics;
+
+	private final OperationCounter testCounter;
+
+	/**
+	 * Creates a new {@link InstrumentedPredicate}.
+	 * 
+	 * @param predicate
+	 *            The {@link Predicate} to be used.
+	 * @param statistics
+	 *            The {@link StageStatistics} to be used.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link Predicate} is {@literal null} or if the
+	 *             given {@link StageStatistics} is {@literal null}.
+	 */
+	public InstrumentedPredicate(Predicate<? super Payload> predicate, StageStatistics statistics)
+			throws IllegalArgumentException {
+		if (null == predicate) {
+			throw new IllegalArgumentException("The given predicate is null");
+		} else if (null == statistics) {
+			throw new IllegalArgumentException("The given statistics is null");
+		}
+		this.predicate = predicate;
+		this.statistics = statistics;
+		testCounter = statistics.getTestCounter();
+	}
+
+	@Override
+	public boolean test(Payload payload) throws PredicateException {
+		long start = testCounter.start();
+		try {
+			boolean satisfied = predicate.test(payload);
+			if (satisfied) {
+				statistics.recordSatisfiedTest();
+			}
+			return satisfied;
+		} finally {
+			testCounter.stop(start);
+		}
+	}
+
+}
@@ -21,14 +21,16 @@
  */
 package net.markenwerk.commons.iterators;
 
+import java.util.NoSuchElementException;
+
 /**
- * An {@link IntegerArrayIterator} is an {@link AbstractIndexedIterator} that
- * iterates over a given {@code int[]}.
+ * An {@link IntegerArrayIterator} is an {@link AbstractIndexedIterator} and an
+ * {@link IntegerIterator} that iterates over a given {@code int[]}.
  * 
  * @author Torsten Krause (tk at markenwerk dot net)
  * @since 1.0.0
  */
-public final class IntegerArrayIterator extends AbstractIndexedIterator<Integer> {
+public final class IntegerArrayIterator extends AbstractIndexedIterator<Integer> implements IntegerIterator {
 
 	private final int[] array;
 
@@ -53,9 +55,54 @@ public final class IntegerArrayIterator extends AbstractIndexedIterator<Integer>
 		return array.length;
 	}
 
+	/**
+	 * Returns the {@code int[]} this {@link IntegerArrayIterator} iterates over.
+	 */
+	int[] getArray() {
+		return array;
+	}
+
+	/**
+	 * Transfers up to the given amount of remaining {@code int} values into the
+	 * given {@code int[]}, starting at the given offset, and moves this
+	 * {@link IntegerArrayIterator} behind the transferred values.
+	 * 
+	 * @param destination
+	 *            The {@code int[]} to transfer the values into.
+	 * @param offset
+	 *            The offset of the first transferred value in the given
+	 *            {@code int[]}.
+	 * @param length
+	 *            The maximum amount of values to be transferred.
+	 * @return The amount of transferred values, which is smaller than the
+	 *         given length, if less values remain.
+	 * @throws IllegalArgumentException
+	 *             If the given {@code int[]} is {@literal null}, if the
+	 *             given offset or the given length is negative or if the given
+	 *             range exceeds the given {@code int[]}.
+	 * @since 3.3.0
+	 */
+	public int drainTo(int[] destination, int offset, int length) throws IllegalArgumentException {
+		DrainSupport.checkRange(destination, offset, length);
+		int count = (int) Math.min(length, remaining());
+		System.arraycopy(array, getIndex(), destination, offset, count);
+		skip(count);
+		return count;
+	}
+
 	@Override
 	public Integer get(int index) {
 		return array[index];
 	}
 
+	@Override
+	public int nextInteger() throws NoSuchElementException {
+		return array[stepForward()];
+	}
+
+	@Override
+	public int characteristics() {
+		return super.characteristics() | NONNULL;
+	}
+
 }
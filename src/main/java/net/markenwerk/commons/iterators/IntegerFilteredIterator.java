@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.markenwerk.commons.iterators;
+
+import java.util.NoSuchElementException;
+
+/**
+ * An {@link IntegerFilteredIterator} is a {@link IntegerIterator} that can be
+ * wrapped around a given {@link IntegerIterator} and filters out all values
+ * that don't satisfy a given {@link IntegerPredicate}.
+ * 
+ * <p>
+ * If the given {@link IntegerIterator} is a {@link IntegerArrayIterator}, the
+ * backing {@code int[]} is scanned directly, instead of retrieving every value
+ * through the given {@link IntegerIterator}.
+ * 
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 3.3.0
+ */
+public final class IntegerFilteredIterator extends AbstractProtectedIterator<Integer> implements IntegerIterator,
+		CharacterizedIterator<Integer> {
+
+	private final IntegerIterator iterator;
+
+	private final IntegerArrayIterator arrayIterator;
+
+	private final IntegerPredicate predicate;
+
+	private final boolean satisfying;
+
+	private boolean nextPrepared;
+
+	private boolean nextDetected;
+
+	private int next;
+
+	/**
+	 * Creates a new {@link IntegerFilteredIterator}.
+	 * 
+	 * @param iterator
+	 *            The {@link IntegerIterator} to iterate over.
+	 * @param predicate
+	 *            The {@link IntegerPredicate} to be used.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link IntegerIterator} is {@literal null} or if
+	 *             the given {@link IntegerPredicate} is {@literal null}.
+	 */
+	public IntegerFilteredIterator(IntegerIterator iterator, IntegerPredicate predicate) throws IllegalArgumentException {
+		this(iterator, predicate, false);
+	}
+
+	/**
+	 * Creates a new {@link IntegerFilteredIterator}.
+	 * 
+	 * @param iterator
+	 *            The {@link IntegerIterator} to iterate over.
+	 * @param predicate
+	 *            The {@link IntegerPredicate} to be used.
+	 * @param invertPredicate
+	 *            Whether to invert the given {@link IntegerPredicate}.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link IntegerIterator} is {@literal null} or if
+	 *             the given {@link IntegerPredicate} is {@literal null}.
+	 */
+	public IntegerFilteredIterator(IntegerIterator iterator, IntegerPredicate predicate, boolean invertPredicate)
+			throws IllegalArgumentException {
+		if (null == iterator) {
+			throw new IllegalArgumentException("The given iterator is null");
+		} else if (null == predicate) {
+			throw new IllegalArgumentException("The given predicate is null");
+		}
+		this.iterator = iterator;
+		this.arrayIterator = iterator instanceof IntegerArrayIterator ? (IntegerArrayIterator) iterator : null;
+		this.predicate = predicate;
+		this.satisfying = !invertPredicate;
+	}
+
+	@Override
+	public boolean hasNext() {
+		prepareNext();
+		return nextDetected;
+	}
+
+	@Override
+	public Integer next() throws NoSuchElementException {
+		return nextInteger();
+	}
+
+	@Override
+	public int nextInteger() throws NoSuchElementException {
+		if (!hasNext()) {
+			throw new NoSuchElementException("This iterator has no next element");
+		} else {
+			nextPrepared = false;
+			return next;
+		}
+	}
+
+	private void prepareNext() {
+		if (!nextPrepared) {
+			nextDetected = null == arrayIterator ? detectNext() : scanNext();
+			nextPrepared = true;
+		}
+	}
+
+	private boolean detectNext() {
+		while (iterator.hasNext()) {
+			int value = iterator.nextInteger();
+			if (satisfying == predicate.test(value)) {
+				next = value;
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private boolean scanNext() {
+		int[] array = arrayIterator.getArray();
+		int startIndex = arrayIterator.getIndex();
+		int index = startIndex;
+		try {
+			while (index < array.length) {
+				int value = array[index++];
+				if (satisfying == predicate.test(value)) {
+					next = value;
+					return true;
+				}
+			}
+			return false;
+		} finally {
+			arrayIterator.skip(index - startIndex);
+		}
+	}
+
+	/**
+	 * Returns the characteristics of the given {@link IntegerIterator}, except
+	 * for the size related characteristics, and
+	 * {@link CharacterizedIterator#NONNULL}.
+	 * 
+	 * @return The characteristics.
+	 */
+	@Override
+	public int characteristics() {
+		return (CharacteristicsSupport.characteristics(iterator) & ~(SIZED | SUBSIZED)) | NONNULL;
+	}
+
+	/**
+	 * Returns the estimated size of the given {@link IntegerIterator}, which is
+	 * an upper bound for the amount of values this
+	 * {@link IntegerFilteredIterator} will yield.
+	 * 
+	 * @return The estimated size.
+	 */
+	@Override
+	public long estimateSize() {
+		long estimatedSize = CharacteristicsSupport.estimateSize(iterator);
+		return nextPrepared && nextDetected ? CharacteristicsSupport.add(estimatedSize, 1) : estimatedSize;
+	}
+
+}
@@ -0,0 +1,330 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterators;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * An {@link InterleavingIterator} is an {@link Iterator} that wraps around a
+ * sequence of given {@link Iterator Iterators} and combines them into a single
+ * {@link Iterator} by taking turns in iterating over all given {@link Iterator
+ * Iterators} in the order they were given.
+ * 
+ * <p>
+ * Every given {@link Iterator} has a weight, that determines how many values
+ * are taken from that {@link Iterator} per turn. Unless weights are given, all
+ * {@link Iterator Iterators} have a weight of {@literal 1}, such that one value
+ * is taken from every {@link Iterator} in turn. Exhausted {@link Iterator
+ * Iterators} are dropped in constant time.
+ * 
+ * <p>
+ * Like a {@link CombinedIterator}, an {@link InterleavingIterator} takes the
+ * next {@link Iterator} from the given sequence of {@link Iterator Iterators}
+ * only when its first turn comes. The first round therefore never ends for an
+ * infinite sequence of {@link Iterator Iterators}, such that every
+ * {@link Iterator} only has a single turn. If weights are given, the given
+ * sequence of {@link Iterator Iterators} is collected when the
+ * {@link InterleavingIterator} is created, in order to match it against the
+ * given weights.
+ * 
+ * @param <Payload>
+ *            The payload type.
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 3.3.0
+ */
+public final class InterleavingIterator<Payload> implements Iterator<Payload> {
+
+	private static final class Node<Payload> {
+
+		private final Iterator<? extends Payload> iterator;
+
+		private final int weight;
+
+		private int budget;
+
+		private Node<Payload> next;
+
+		private Node(Iterator<? extends Payload> iterator, int weight) {
+			this.iterator = iterator;
+			this.weight = weight;
+			this.budget = weight;
+		}
+
+	}
+
+	private Iterator<? extends Iterator<? extends Payload>> iterators;
+
+	private int[] weights;
+
+	private int count;
+
+	private Node<Payload> last;
+
+	private Node<Payload> current;
+
+	private Node<Payload> previous;
+
+	private Iterator<? extends Payload> lastIterator;
+
+	private boolean nextPrepared;
+
+	/**
+	 * Creates a new {@link InterleavingIterator}.
+	 * 
+	 * @param iterators
+	 *            The {@link Iterator Iterators} to iterate over.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given sequence of {@link Iterator Iterators} is
+	 *             {@literal null}.
+	 */
+	public InterleavingIterator(Iterator<? extends Payload>... iterators) throws IllegalArgumentException {
+		if (null == iterators) {
+			throw new IllegalArgumentException("The given array of iterators is null");
+		}
+		this.iterators = new ArrayIterator<Iterator<? extends Payload>>(iterators);
+	}
+
+	/**
+	 * Creates a new {@link InterleavingIterator}.
+	 * 
+	 * @param iterators
+	 *            The {@link Iterator Iterators} to iterate over.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link Iterable} of {@link Iterator Iterators}
+	 *             is {@literal null}.
+	 */
+	public InterleavingIterator(Iterable<? extends Iterator<? extends Payload>> iterators)
+			throws IllegalArgumentException {
+		if (null == iterators) {
+			throw new IllegalArgumentException("The given iterable of iterators is null");
+		}
+		this.iterators = iterators.iterator();
+	}
+
+	/**
+	 * Creates a new {@link InterleavingIterator}.
+	 * 
+	 * <p>
+	 * The given {@link Iterator} of {@link Iterator Iterators} is consumed
+	 * lazily, one {@link Iterator} per turn, and may be infinite.
+	 * 
+	 * @param iterators
+	 *            The {@link Iterator Iterators} to iterate over.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link Iterator} of {@link Iterator Iterators}
+	 *             is {@literal null}.
+	 */
+	public InterleavingIterator(Iterator<? extends Iterator<? extends Payload>> iterators)
+			throws IllegalArgumentException {
+		if (null == iterators) {
+			throw new IllegalArgumentException("The given iterator of iterators is null");
+		}
+		this.iterators = iterators;
+	}
+
+	/**
+	 * Creates a new {@link InterleavingIterator}.
+	 * 
+	 * @param weights
+	 *            The weights of the given {@link Iterator Iterators}.
+	 * @param iterators
+	 *            The {@link Iterator Iterators} to iterate over.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given weights are {@literal null}, if the given
+	 *             sequence of {@link Iterator Iterators} is {@literal null},
+	 *             if the amount of given weights doesn't match the amount of
+	 *             given {@link Iterator Iterators} or if a given weight is not
+	 *             positive.
+	 */
+	public InterleavingIterator(int[] weights, Iterator<? extends Payload>... iterators)
+			throws IllegalArgumentException {
+		if (null == weights) {
+			throw new IllegalArgumentException("The given array of weights is null");
+		} else if (null == iterators) {
+			throw new IllegalArgumentException("The given array of iterators is null");
+		}
+		link(new ArrayIterator<Iterator<? extends Payload>>(iterators), weights);
+	}
+
+	/**
+	 * Creates a new {@link InterleavingIterator}.
+	 * 
+	 * @param weights
+	 *            The weights of the given {@link Iterator Iterators}.
+	 * @param iterators
+	 *            The {@link Iterator Iterators} to iterate over.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given weights are {@literal null}, if the given
+	 *             {@link Iterable} of {@link Iterator Iterators} is
+	 *             {@literal null}, if the amount of given weights doesn't match
+	 *             the amount of given {@link Iterator Iterators} or if a given
+	 *             weight is not positive.
+	 */
+	public InterleavingIterator(int[] weights, Iterable<? extends Iterator<? extends Payload>> iterators)
+			throws IllegalArgumentException {
+		if (null == weights) {
+			throw new IllegalArgumentException("The given array of weights is null");
+		} else if (null == iterators) {
+			throw new IllegalArgumentException("The given iterable of iterators is null");
+		}
+		link(iterators.iterator(), weights);
+	}
+
+	/**
+	 * Creates a new {@link InterleavingIterator}.
+	 * 
+	 * <p>
+	 * The given {@link Iterator} of {@link Iterator Iterators} is consumed
+	 * eagerly, in order to match it against the given weights, but never
+	 * beyond one more {@link Iterator} than there are weights.
+	 * 
+	 * @param weights
+	 *            The weights of the given {@link Iterator Iterators}.
+	 * @param iterators
+	 *            The {@link Iterator Iterators} to iterate over.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given weights are {@literal null}, if the given
+	 *             {@link Iterator} of {@link Iterator Iterators} is
+	 *             {@literal null}, if the amount of given weights doesn't match
+	 *             the amount of given {@link Iterator Iterators} or if a given
+	 *             weight is not positive.
+	 */
+	public InterleavingIterator(int[] weights, Iterator<? extends Iterator<? extends Payload>> iterators)
+			throws IllegalArgumentException {
+		if (null == weights) {
+			throw new IllegalArgumentException("The given array of weights is null");
+		} else if (null == iterators) {
+			throw new IllegalArgumentException("The given iterator of iterators is null");
+		}
+		link(iterators, weights);
+	}
+
+	private void link(Iterator<? extends Iterator<? extends Payload>> iterators, int[] weights) {
+		this.iterators = iterators;
+		this.weights = weights;
+		while (null != pull()) {
+		}
+		current = null == last ? null : last.next;
+		previous = last;
+	}
+
+	private Node<Payload> pull() {
+		if (null == iterators) {
+			return null;
+		} else if (!iterators.hasNext()) {
+			iterators = null;
+			if (null != weights && count != weights.length) {
+				throw new IllegalArgumentException("The given amount of weights '" + weights.length
+						+ "' doesn't match the given amount of iterators: " + count);
+			}
+			return null;
+		} else {
+			int weight = weight(weights, count++);
+			Node<Payload> node = new Node<Payload>(iterators.next(), weight);
+			if (null == last) {
+				node.next = node;
+			} else {
+				node.next = last.next;
+				last.next = node;
+			}
+			last = node;
+			return node;
+		}
+	}
+
+	private static int weight(int[] weights, int index) {
+		if (null == weights) {
+			return 1;
+		} else if (index >= weights.length) {
+			throw new IllegalArgumentException("The given amount of weights is too small: " + weights.length);
+		} else if (weights[index] < 1) {
+			throw new IllegalArgumentException("The given weight at index '" + index + "' is not positive: "
+					+ weights[index]);
+		}
+		return weights[index];
+	}
+
+	@Override
+	public boolean hasNext() {
+		prepareNext();
+		return null != current;
+	}
+
+	@Override
+	public Payload next() throws NoSuchElementException {
+		if (!hasNext()) {
+			throw new NoSuchElementException("This iterator has no next element");
+		} else {
+			nextPrepared = false;
+			lastIterator = current.iterator;
+			Payload next = lastIterator.next();
+			if (0 == --current.budget) {
+				current.budget = current.weight;
+				previous = current;
+				current = current == last && null != pull() ? last : current.next;
+			}
+			return next;
+		}
+	}
+
+	@Override
+	public void remove() throws IllegalStateException, UnsupportedOperationException {
+		if (null == lastIterator) {
+			throw new IllegalStateException("Method next() hasn't been called yet");
+		} else {
+			lastIterator.remove();
+		}
+	}
+
+	private void prepareNext() {
+		if (!nextPrepared) {
+			if (null == current) {
+				current = pull();
+				previous = current;
+			}
+			while (null != current && !current.iterator.hasNext()) {
+				if (current == previous) {
+					last = null;
+					current = pull();
+					previous = current;
+				} else {
+					previous.next = current.next;
+					if (current == last) {
+						last = previous;
+						current = null != pull() ? last : previous.next;
+					} else {
+						current = current.next;
+					}
+				}
+			}
+			nextPrepared = true;
+		}
+	}
+
+}
@@ -0,0 +1,246 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterators;
+
+import java.util.Iterator;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * An {@link IteratorPublisher} is a {@link Publisher} that publishes the
+ * values yielded by a given {@link Iterator} to a single {@link Subscriber}.
+ * 
+ * <p>
+ * Values are only taken from the given {@link Iterator} if the
+ * {@link Subscriber} has signaled demand for them. Every signal of demand is
+ * answered with as many values as have been requested and are available,
+ * without buffering any value. Values are published either in the thread that
+ * signals demand or, if an {@link Executor} is given, by the given
+ * {@link Executor}. Signaling demand while values are published, i.e. from
+ * within {@link Subscriber#onNext(Object)}, doesn't publish further values
+ * recursively, but increases the amount of values that are published by the
+ * ongoing publication.
+ * 
+ * <p>
+ * {@link Subscriber#onComplete()} is signaled as soon as the given
+ * {@link Iterator} has no next element, without waiting for further demand.
+ * This is also checked when the {@link Subscriber} subscribes, such that an
+ * empty {@link Iterator} is completed without any demand.
+ * If the given {@link Iterator} throws an exception or yields
+ * {@literal null}, {@link Subscriber#onError(Throwable)} is signaled.
+ * 
+ * <p>
+ * Because the given {@link Iterator} can only be consumed once, an
+ * {@link IteratorPublisher} can only be subscribed to once. Every further
+ * {@link Subscriber} receives an {@link IllegalStateException}.
+ * 
+ * @param <Payload>
+ *            The payload type.
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 3.3.0
+ */
+public final class IteratorPublisher<Payload> implements Publisher<Payload> {
+
+	private final AtomicBoolean subscribed = new AtomicBoolean();
+
+	private final Iterator<? extends Payload> iterator;
+
+	private final Executor executor;
+
+	/**
+	 * Creates a new {@link IteratorPublisher} that publishes values in the
+	 * thread that signals demand.
+	 * 
+	 * @param iterator
+	 *            The {@link Iterator} to iterate over.
+	 * @throws IllegalArgumentException
+	 *             If the given {@link Iterator} is {@literal null}.
+	 */
+	public IteratorPublisher(Iterator<? extends Payload> iterator) throws IllegalArgumentException {
+		this(iterator, null);
+	}
+
+	/**
+	 * Creates a new {@link IteratorPublisher}.
+	 * 
+	 * @param iterator
+	 *            The {@link Iterator} to iterate over.
+	 * @param executor
+	 *            The {@link Executor} to publish values with, or
+	 *            {@literal null}, to publish values in the thread that signals
+	 *            demand.
+	 * @throws IllegalArgumentException
+	 *             If the given {@link Iterator} is {@literal null}.
+	 */
+	public IteratorPublisher(Iterator<? extends Payload> iterator, Executor executor)
+			throws IllegalArgumentException {
+		if (null == iterator) {
+			throw new IllegalArgumentException("The given iterator is null");
+		}
+		this.iterator = iterator;
+		this.executor = executor;
+	}
+
+	@Override
+	public void subscribe(Subscriber<? super Payload> subscriber) throws NullPointerException {
+		if (null == subscriber) {
+			throw new NullPointerException("The given subscriber is null");
+		} else if (subscribed.compareAndSet(false, true)) {
+			IteratorSubscription<Payload> subscription = new IteratorSubscription<Payload>(iterator, subscriber,
+					executor);
+			subscriber.onSubscribe(subscription);
+			subscription.drain();
+		} else {
+			subscriber.onSubscribe(new RejectedSubscription());
+			subscriber.onError(new IllegalStateException("This publisher has already been subscribed to"));
+		}
+	}
+
+	private static final class IteratorSubscription<Payload> implements Subscription, Runnable {
+
+		private final AtomicLong demand = new AtomicLong();
+
+		private final AtomicInteger pendingDrains = new AtomicInteger();
+
+		private final Subscriber<? super Payload> subscriber;
+
+		private final Executor executor;
+
+		private Iterator<? extends Payload> iterator;
+
+		private volatile boolean cancelled;
+
+		private volatile IllegalArgumentException invalidRequest;
+
+		public IteratorSubscription(Iterator<? extends Payload> iterator, Subscriber<? super Payload> subscriber,
+				Executor executor) {
+			this.iterator = iterator;
+			this.subscriber = subscriber;
+			this.executor = executor;
+		}
+
+		@Override
+		public void request(long count) {
+			if (count <= 0) {
+				invalidRequest = new IllegalArgumentException("The requested amount of values is not positive: "
+						+ count);
+			} else {
+				long current;
+				long updated;
+				do {
+					current = demand.get();
+					updated = current + count < 0 ? Long.MAX_VALUE : current + count;
+				} while (!demand.compareAndSet(current, updated));
+			}
+			drain();
+		}
+
+		private void drain() {
+			if (0 == pendingDrains.getAndIncrement()) {
+				if (null == executor) {
+					run();
+				} else {
+					executor.execute(this);
+				}
+			}
+		}
+
+		@Override
+		public void cancel() {
+			cancelled = true;
+			if (0 == pendingDrains.getAndIncrement()) {
+				iterator = null;
+			}
+		}
+
+		@Override
+		public void run() {
+			int missed = 1;
+			do {
+				if (null == iterator) {
+					return;
+				} else if (cancelled) {
+					iterator = null;
+					return;
+				} else if (null != invalidRequest) {
+					fail(invalidRequest);
+					return;
+				}
+				long requested = demand.get();
+				long published = 0;
+				while (published != requested && !cancelled) {
+					Payload next;
+					try {
+						if (!iterator.hasNext()) {
+							break;
+						}
+						next = iterator.next();
+						if (null == next) {
+							throw new NullPointerException("The given iterator yielded null");
+						}
+					} catch (RuntimeException e) {
+						fail(e);
+						return;
+					}
+					subscriber.onNext(next);
+					published++;
+				}
+				try {
+					if (!cancelled && !iterator.hasNext()) {
+						iterator = null;
+						subscriber.onComplete();
+						return;
+					}
+				} catch (RuntimeException e) {
+					fail(e);
+					return;
+				}
+				if (0 != published && Long.MAX_VALUE != requested) {
+					demand.addAndGet(-published);
+				}
+				missed = pendingDrains.addAndGet(-missed);
+			} while (0 != missed);
+		}
+
+		private void fail(Throwable throwable) {
+			iterator = null;
+			cancelled = true;
+			subscriber.onError(throwable);
+		}
+
+	}
+
+	private static final class RejectedSubscription implements Subscription {
+
+		@Override
+		public void request(long count) {
+		}
+
+		@Override
+		public void cancel() {
+		}
+
+	}
+
+}
@@ -21,14 +21,16 @@
  */
 package net.markenwerk.commons.iterators;
 
+import java.util.NoSuchElementException;
+
 /**
- * A {@link LongArrayIterator} is an {@link AbstractIndexedIterator} that
- * iterates over a given {@code long[]}.
+ * A {@link LongArrayIterator} is an {@link AbstractIndexedIterator} and a
+ * {@link LongIterator} that iterates over a given {@code long[]}.
  *
  * @author Torsten Krause (tk at markenwerk dot net)
  * @since 1.0.0
  */
-public final class LongArrayIterator extends AbstractIndexedIterator<Long> {
+public final class LongArrayIterator extends AbstractIndexedIterator<Long> implements LongIterator {
 
 	private final long[] array;
 
@@ -53,9 +55,54 @@ public final class LongArrayIterator extends AbstractIndexedIterator<Long> {
 		return array.length;
 	}
 
+	/**
+	 * Returns the {@code long[]} this {@link LongArrayIterator} iterates over.
+	 */
+	long[] getArray() {
+		return array;
+	}
+
+	/**
+	 * Transfers up to the given amount of remaining {@code long} values into
+	 * the given {@code long[]}, starting at the given offset, and moves this
+	 * {@link LongArrayIterator} behind the transferred values.
+	 * 
+	 * @param destination
+	 *            The {@code long[]} to transfer the values into.
+	 * @param offset
+	 *            The offset of the first transferred value in the given
+	 *            {@code long[]}.
+	 * @param length
+	 *            The maximum amount of values to be transferred.
+	 * @return The amount of transferred values, which is smaller than the
+	 *         given length, if less values remain.
+	 * @throws IllegalArgumentException
+	 *             If the given {@code long[]} is {@literal null}, if the
+	 *             given offset or the given length is negative or if the given
+	 *             range exceeds the given {@code long[]}.
+	 * @since 3.3.0
+	 */
+	public int drainTo(long[] destination, int offset, int length) throws IllegalArgumentException {
+		DrainSupport.checkRange(destination, offset, length);
+		int count = (int) Math.min(length, remaining());
+		System.arraycopy(array, getIndex(), destination, offset, count);
+		skip(count);
+		return count;
+	}
+
 	@Override
 	public Long get(int index) {
 		return array[index];
 	}
 
+	@Override
+	public long nextLong() throws NoSuchElementException {
+		return array[stepForward()];
+	}
+
+	@Override
+	public int characteristics() {
+		return super.characteristics() | NONNULL;
+	}
+
 }
@@ -0,0 +1,189 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterators;
+
+import java.nio.ByteBuffer;
+import java.nio.LongBuffer;
+import java.util.NoSuchElementException;
+
+/**
+ * A {@link LongBufferIterator} is an {@link AbstractLongIndexedIterator} and a
+ * {@link LongIterator} that iterates over the remaining {@code long} values of
+ * a sequence of given {@link LongBuffer LongBuffers}.
+ * 
+ * <p>
+ * Because the {@link LongBuffer LongBuffers} may be views of direct
+ * {@link ByteBuffer ByteBuffers} (see {@link ByteBuffer#asLongBuffer()}), a
+ * {@link LongBufferIterator} allows to iterate over values that are held
+ * outside of the Java heap. Because every {@link LongBuffer} is limited to
+ * {@link Integer#MAX_VALUE} values, the sequence may be split into multiple
+ * segments that are treated as a single sequence that is indexed with
+ * {@code long} values.
+ * 
+ * <p>
+ * A {@link LongBufferIterator} only uses absolute get operations on
+ * independent views of the given {@link LongBuffer LongBuffers}. Their
+ * positions are therefore not changed and the results of
+ * {@link LongBufferIterator#split()} can be used concurrently.
+ * 
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 3.3.0
+ */
+public final class LongBufferIterator extends AbstractLongIndexedIterator<Long> implements LongIterator {
+
+	private final LongBuffer[] buffers;
+
+	private final long[] offsets;
+
+	private int segment;
+
+	/**
+	 * Creates a new {@link LongBufferIterator}.
+	 * 
+	 * @param buffers
+	 *            The {@link LongBuffer LongBuffers} to iterate over.
+	 * @throws IllegalArgumentException
+	 *             If the given array of {@link LongBuffer LongBuffers} is
+	 *             {@literal null} or if any of the given {@link LongBuffer
+	 *             LongBuffers} is {@literal null}.
+	 */
+	public LongBufferIterator(LongBuffer... buffers) throws IllegalArgumentException {
+		this(slice(buffers), BufferSegments.offsets(buffers));
+	}
+
+	private LongBufferIterator(LongBuffer[] buffers, long[] offsets) {
+		this(buffers, offsets, 0, offsets[buffers.length]);
+	}
+
+	private LongBufferIterator(LongBuffer[] buffers, long[] offsets, long minIndex, long maxIndex) {
+		super(minIndex, maxIndex);
+		this.buffers = buffers;
+		this.offsets = offsets;
+	}
+
+	private static LongBuffer[] slice(LongBuffer[] buffers) {
+		if (null == buffers) {
+			throw new IllegalArgumentException("The given array of buffers is null");
+		}
+		LongBuffer[] slices = new LongBuffer[buffers.length];
+		for (int i = 0; i < buffers.length; i++) {
+			if (null == buffers[i]) {
+				throw new IllegalArgumentException("The given buffer at index '" + i + "' is null");
+			}
+			slices[i] = buffers[i].slice();
+		}
+		return slices;
+	}
+
+	@Override
+	public long nextLong() throws NoSuchElementException {
+		return getLong(stepForward());
+	}
+
+	/**
+	 * Returns the previous {@code long} value.
+	 * 
+	 * @return The previous {@code long} value in the iteration.
+	 * @throws NoSuchElementException
+	 *             If this {@link LongBufferIterator} has no previous element.
+	 */
+	public long previousLong() throws NoSuchElementException {
+		return getLong(stepBackward());
+	}
+
+	/**
+	 * Splits off a {@link LongBufferIterator} that iterates over the first half
+	 * of the remaining values. This {@link LongBufferIterator} will only iterate
+	 * over the second half of the remaining values.
+	 * 
+	 * @return A {@link LongBufferIterator} that iterates over the first half of
+	 *         the remaining values, or {@literal null}, if less than two values
+	 *         remain.
+	 */
+	public LongBufferIterator split() {
+		long index = getIndex();
+		long splitIndex = splitIndex();
+		if (-1 == splitIndex) {
+			return null;
+		} else {
+			return new LongBufferIterator(buffers, offsets, index, splitIndex);
+		}
+	}
+
+	/**
+	 * Transfers up to the given amount of remaining {@code long} values into
+	 * the given {@code long[]}, starting at the given offset, and moves this
+	 * {@link LongBufferIterator} behind the transferred values.
+	 * 
+	 * <p>
+	 * The values are transferred with a bulk get operation on an independent
+	 * view of every affected {@link LongBuffer}.
+	 * 
+	 * @param destination
+	 *            The {@code long[]} to transfer the values into.
+	 * @param offset
+	 *            The offset of the first transferred value in the given
+	 *            {@code long[]}.
+	 * @param length
+	 *            The maximum amount of values to be transferred.
+	 * @return The amount of transferred values, which is smaller than the
+	 *         given length, if less values remain.
+	 * @throws IllegalArgumentException
+	 *             If the given {@code long[]} is {@literal null}, if the
+	 *             given offset or the given length is negative or if the given
+	 *             range exceeds the given {@code long[]}.
+	 * @since 3.3.0
+	 */
+	public int drainTo(long[] destination, int offset, int length) throws IllegalArgumentException {
+		DrainSupport.checkRange(destination, offset, length);
+		int count = (int) Math.min(length, remaining());
+		long index = getIndex();
+		int transferred = 0;
+		while (transferred < count) {
+			segment = BufferSegments.segment(offsets, index, segment);
+			LongBuffer buffer = buffers[segment].duplicate();
+			buffer.position((int) (index - offsets[segment]));
+			int chunk = Math.min(count - transferred, buffer.remaining());
+			buffer.get(destination, offset + transferred, chunk);
+			transferred += chunk;
+			index += chunk;
+		}
+		skip(count);
+		return count;
+	}
+
+	@Override
+	protected Long get(long index) {
+		return getLong(index);
+	}
+
+	private long getLong(long index) {
+		segment = BufferSegments.segment(offsets, index, segment);
+		return buffers[segment].get((int) (index - offsets[segment]));
+	}
+
+	@Override
+	public int characteristics() {
+		return super.characteristics() | NONNULL;
+	}
+
+}
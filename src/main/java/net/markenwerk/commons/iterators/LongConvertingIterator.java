@@ -0,0 +1,220 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.markenwerk.commons.iterators;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * A {@link LongConvertingIterator} is a {@link LongIterator} that can be
+ * wrapped around a given {@link Iterator} and converts all values into
+ * {@code long} values with a given converter.
+ * 
+ * <p>
+ * The given {@link Iterator} may be an {@link IntegerIterator}, a
+ * {@link LongIterator} or a {@link DoubleIterator}, in which case the primitive
+ * values are converted with an {@link IntegerToLongConverter}, a
+ * {@link LongToLongConverter} or a {@link DoubleToLongConverter}, or any other
+ * {@link Iterator}, in which case the values are converted with a
+ * {@link ToLongConverter}. Together with
+ * {@link LongConvertingIterator#nextLong()}, this allows to convert values
+ * without boxing them.
+ * 
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 3.3.0
+ */
+public final class LongConvertingIterator implements LongIterator, CharacterizedIterator<Long> {
+
+	private final Iterator<?> iterator;
+
+	private final Source source;
+
+	/**
+	 * Creates a new {@link LongConvertingIterator}.
+	 * 
+	 * @param iterator
+	 *            The {@link IntegerIterator} to be used.
+	 * @param converter
+	 *            The {@link IntegerToLongConverter} to be used.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link IntegerIterator} is {@literal null} or the
+	 *             given {@link IntegerToLongConverter} is {@literal null}.
+	 */
+	public LongConvertingIterator(final IntegerIterator iterator, final IntegerToLongConverter converter)
+			throws IllegalArgumentException {
+		if (null == iterator) {
+			throw new IllegalArgumentException("The given iterator is null");
+		} else if (null == converter) {
+			throw new IllegalArgumentException("The given converter is null");
+		}
+		this.iterator = iterator;
+		this.source = new Source() {
+
+			@Override
+			public long next() {
+				return converter.convert(iterator.nextInteger());
+			}
+
+		};
+	}
+
+	/**
+	 * Creates a new {@link LongConvertingIterator}.
+	 * 
+	 * @param iterator
+	 *            The {@link LongIterator} to be used.
+	 * @param converter
+	 *            The {@link LongToLongConverter} to be used.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link LongIterator} is {@literal null} or the
+	 *             given {@link LongToLongConverter} is {@literal null}.
+	 */
+	public LongConvertingIterator(final LongIterator iterator, final LongToLongConverter converter)
+			throws IllegalArgumentException {
+		if (null == iterator) {
+			throw new IllegalArgumentException("The given iterator is null");
+		} else if (null == converter) {
+			throw new IllegalArgumentException("The given converter is null");
+		}
+		this.iterator = iterator;
+		this.source = new Source() {
+
+			@Override
+			public long next() {
+				return converter.convert(iterator.nextLong());
+			}
+
+		};
+	}
+
+	/**
+	 * Creates a new {@link LongConvertingIterator}.
+	 * 
+	 * @param iterator
+	 *            The {@link DoubleIterator} to be used.
+	 * @param converter
+	 *            The {@link DoubleToLongConverter} to be used.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link DoubleIterator} is {@literal null} or the
+	 *             given {@link DoubleToLongConverter} is {@literal null}.
+	 */
+	public LongConvertingIterator(final DoubleIterator iterator, final DoubleToLongConverter converter)
+			throws IllegalArgumentException {
+		if (null == iterator) {
+			throw new IllegalArgumentException("The given iterator is null");
+		} else if (null == converter) {
+			throw new IllegalArgumentException("The given converter is null");
+		}
+		this.iterator = iterator;
+		this.source = new Source() {
+
+			@Override
+			public long next() {
+				return converter.convert(iterator.nextDouble());
+			}
+
+		};
+	}
+
+	/**
+	 * Creates a new {@link LongConvertingIterator}.
+	 * 
+	 * @param iterator
+	 *            The {@link Iterator} to be used.
+	 * @param converter
+	 *            The {@link ToLongConverter} to be used.
+	 * @param <From>
+	 *            The type to convert values from.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link Iterator} is {@literal null} or the given
+	 *             {@link ToLongConverter} is {@literal null}.
+	 */
+	public <From> LongConvertingIterator(final Iterator<? extends From> iterator, final ToLongConverter<? super From> converter)
+			throws IllegalArgumentException {
+		if (null == iterator) {
+			throw new IllegalArgumentException("The given iterator is null");
+		} else if (null == converter) {
+			throw new IllegalArgumentException("The given converter is null");
+		}
+		this.iterator = iterator;
+		this.source = new Source() {
+
+			@Override
+			public long next() {
+				return converter.convert(iterator.next());
+			}
+
+		};
+	}
+
+	@Override
+	public boolean hasNext() {
+		return iterator.hasNext();
+	}
+
+	@Override
+	public Long next() throws NoSuchElementException {
+		return source.next();
+	}
+
+	@Override
+	public long nextLong() throws NoSuchElementException {
+		return source.next();
+	}
+
+	@Override
+	public void remove() throws IllegalStateException, UnsupportedOperationException {
+		iterator.remove();
+	}
+
+	/**
+	 * Returns the order and size related characteristics of the given
+	 * {@link Iterator} and {@link CharacterizedIterator#NONNULL}.
+	 * 
+	 * @return The characteristics.
+	 */
+	@Override
+	public int characteristics() {
+		return (CharacteristicsSupport.characteristics(iterator) & (ORDERED | SIZED | SUBSIZED)) | NONNULL;
+	}
+
+	/**
+	 * Returns the estimated size of the given {@link Iterator}.
+	 * 
+	 * @return The estimated size.
+	 */
+	@Override
+	public long estimateSize() {
+		return CharacteristicsSupport.estimateSize(iterator);
+	}
+
+	private static interface Source {
+
+		public long next();
+
+	}
+
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterators;
+
+import java.util.NoSuchElementException;
+
+/**
+ * A {@link LongCountUpIterator} is an {@link AbstractLongIndexedIterator} and
+ * a {@link LongIterator} that yields all {@code long} values between a given
+ * lower bound and a given upper bound.
+ * 
+ * <p>
+ * A {@link LongCountUpIterator} can be split into
+ * {@link LongCountUpIterator LongCountUpIterators} that yield disjoint ranges
+ * of values and can be used concurrently, i.e. to generate unique sequence
+ * numbers in multiple threads. The ranges only depend on the order of the
+ * calls to {@link LongCountUpIterator#split()}.
+ * 
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 3.3.0
+ */
+public final class LongCountUpIterator extends AbstractLongIndexedIterator<Long> implements LongIterator {
+
+	private final long offset;
+
+	/**
+	 * Creates a new {@link LongCountUpIterator} that yields all values from
+	 * the given lower bound up to {@link Long#MAX_VALUE}, but at most
+	 * {@link Long#MAX_VALUE} values.
+	 * 
+	 * @param fromLower
+	 *            The lower bound and first value to be yielded.
+	 */
+	public LongCountUpIterator(long fromLower) {
+		this(fromLower, Long.MAX_VALUE);
+	}
+
+	/**
+	 * Creates a new {@link LongCountUpIterator}.
+	 * 
+	 * <p>
+	 * If {@code fromLower == toUpper}, only one value will be yielded. If
+	 * {@code fromLower > toUpper}, no value will be yielded. At most
+	 * {@link Long#MAX_VALUE} values will be yielded.
+	 * 
+	 * @param fromLower
+	 *            The lower bound and first value to be yielded.
+	 * @param toUpper
+	 *            The upper bound and last value to be yielded.
+	 */
+	public LongCountUpIterator(long fromLower, long toUpper) {
+		this(fromLower, 0, size(fromLower, toUpper));
+	}
+
+	private LongCountUpIterator(long offset, long minIndex, long maxIndex) {
+		super(minIndex, maxIndex);
+		this.offset = offset;
+	}
+
+	private static long size(long fromLower, long toUpper) {
+		if (fromLower > toUpper) {
+			return 0;
+		} else {
+			long size = toUpper - fromLower + 1;
+			return size <= 0 ? Long.MAX_VALUE : size;
+		}
+	}
+
+	@Override
+	public long nextLong() throws NoSuchElementException {
+		return offset + stepForward();
+	}
+
+	/**
+	 * Splits off a {@link LongCountUpIterator} that yields the first half of
+	 * the remaining values. This {@link LongCountUpIterator} will only yield
+	 * the second half of the remaining values.
+	 * 
+	 * @return A {@link LongCountUpIterator} that yields the first half of the
+	 *         remaining values, or {@literal null}, if less than two values
+	 *         remain.
+	 */
+	public LongCountUpIterator split() {
+		long index = getIndex();
+		long splitIndex = splitIndex();
+		if (-1 == splitIndex) {
+			return null;
+		} else {
+			return new LongCountUpIterator(offset, index, splitIndex);
+		}
+	}
+
+	@Override
+	protected Long get(long index) {
+		return offset + index;
+	}
+
+	@Override
+	public int characteristics() {
+		return super.characteristics() | NONNULL | DISTINCT | SORTED;
+	}
+
+}
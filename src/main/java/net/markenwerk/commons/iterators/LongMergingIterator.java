@@ -0,0 +1,189 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterators;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * A {@link LongMergingIterator} is an {@link AbstractProtectedIterator} and a
+ * {@link LongIterator} that wraps around a sequence of given
+ * {@link LongIterator LongIterators}, that each yield their values in
+ * ascending order, and merges them into a single {@link LongIterator} that
+ * yields all values of all given {@link LongIterator LongIterators} in
+ * ascending order.
+ * 
+ * <p>
+ * This is the primitive counterpart of a {@link MergingIterator} that uses the
+ * natural order of {@code long} values and doesn't box any value, unless
+ * {@link LongMergingIterator#next()} is called.
+ * 
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 3.3.0
+ */
+public final class LongMergingIterator extends AbstractProtectedIterator<Long> implements LongIterator {
+
+	private Iterator<? extends LongIterator> iterators;
+
+	private LongIterator[] heapIterators;
+
+	private long[] heapValues;
+
+	private int heapSize;
+
+	/**
+	 * Creates a new {@link LongMergingIterator}.
+	 * 
+	 * @param iterators
+	 *            The {@link LongIterator LongIterators} to iterate over.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given sequence of {@link LongIterator LongIterators}
+	 *             is {@literal null}.
+	 */
+	public LongMergingIterator(LongIterator... iterators) throws IllegalArgumentException {
+		if (null == iterators) {
+			throw new IllegalArgumentException("The given array of iterators is null");
+		}
+		this.iterators = new ArrayIterator<LongIterator>(iterators);
+	}
+
+	/**
+	 * Creates a new {@link LongMergingIterator}.
+	 * 
+	 * @param iterators
+	 *            The {@link LongIterator LongIterators} to iterate over.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link Iterable} of {@link LongIterator
+	 *             LongIterators} is {@literal null}.
+	 */
+	public LongMergingIterator(Iterable<? extends LongIterator> iterators) throws IllegalArgumentException {
+		if (null == iterators) {
+			throw new IllegalArgumentException("The given iterable of iterators is null");
+		}
+		this.iterators = iterators.iterator();
+	}
+
+	/**
+	 * Creates a new {@link LongMergingIterator}.
+	 * 
+	 * @param iterators
+	 *            The {@link LongIterator LongIterators} to iterate over.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link Iterator} of {@link LongIterator
+	 *             LongIterators} is {@literal null}.
+	 */
+	public LongMergingIterator(Iterator<? extends LongIterator> iterators) throws IllegalArgumentException {
+		if (null == iterators) {
+			throw new IllegalArgumentException("The given iterator of iterators is null");
+		}
+		this.iterators = iterators;
+	}
+
+	@Override
+	public boolean hasNext() {
+		prepareHeap();
+		return 0 != heapSize;
+	}
+
+	@Override
+	public Long next() throws NoSuchElementException {
+		return nextLong();
+	}
+
+	@Override
+	public long nextLong() throws NoSuchElementException {
+		if (!hasNext()) {
+			throw new NoSuchElementException("This iterator has no next element");
+		} else {
+			long next = heapValues[0];
+			LongIterator iterator = heapIterators[0];
+			if (iterator.hasNext()) {
+				heapValues[0] = iterator.nextLong();
+			} else {
+				heapSize--;
+				move(heapSize, 0);
+				heapIterators[heapSize] = null;
+			}
+			siftDown(0);
+			return next;
+		}
+	}
+
+	private void prepareHeap() {
+		if (null != iterators) {
+			List<LongIterator> nonEmptyIterators = new ArrayList<LongIterator>();
+			while (iterators.hasNext()) {
+				LongIterator iterator = iterators.next();
+				if (iterator.hasNext()) {
+					nonEmptyIterators.add(iterator);
+				}
+			}
+			iterators = null;
+			heapSize = nonEmptyIterators.size();
+			heapIterators = new LongIterator[heapSize];
+			heapValues = new long[heapSize];
+			for (int i = 0; i < heapSize; i++) {
+				LongIterator iterator = nonEmptyIterators.get(i);
+				heapIterators[i] = iterator;
+				heapValues[i] = iterator.nextLong();
+			}
+			for (int i = heapSize / 2 - 1; i >= 0; i--) {
+				siftDown(i);
+			}
+		}
+	}
+
+	private void siftDown(int index) {
+		LongIterator iterator = heapIterators[index];
+		long value = heapValues[index];
+		int half = heapSize / 2;
+		while (index < half) {
+			int child = 2 * index + 1;
+			int right = child + 1;
+			if (right < heapSize && isLess(right, heapValues[child])) {
+				child = right;
+			}
+			if (!isLess(child, value)) {
+				break;
+			}
+			move(child, index);
+			index = child;
+		}
+		heapIterators[index] = iterator;
+		heapValues[index] = value;
+	}
+
+	private boolean isLess(int index, long value) {
+		return heapValues[index] < value;
+	}
+
+	private void move(int from, int to) {
+		heapIterators[to] = heapIterators[from];
+		heapValues[to] = heapValues[from];
+	}
+
+}
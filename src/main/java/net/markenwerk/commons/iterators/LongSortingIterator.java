@@ -0,0 +1,350 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterators;
+
+import java.io.Closeable;
+import java.nio.LongBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * A {@link LongSortingIterator} is an {@link AbstractProtectedIterator} and a
+ * {@link LongIterator} that can be wrapped around a given
+ * {@link LongIterator} and yields all values yielded by the given
+ * {@link LongIterator} in ascending order, even if not all values fit into
+ * memory.
+ * 
+ * <p>
+ * This is the primitive counterpart of a {@link SortingIterator} that uses the
+ * natural order of {@code long} values, sorts runs of {@code long} values
+ * without any boxing and spills them to a temporary file without any
+ * serialization overhead. The sorted runs are merged with a
+ * {@link LongMergingIterator}. Like a {@link SortingIterator}, it merges groups
+ * of adjacent spilled runs into a new temporary file, in as many passes as
+ * necessary, if there are more spilled runs than blocks of values fit into
+ * the given memory limit.
+ * 
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 3.3.0
+ */
+public final class LongSortingIterator extends AbstractProtectedIterator<Long> implements LongIterator, Closeable {
+
+	private static final int BLOCK_SIZE = 1024;
+
+	private static final int MINIMUM_SLICE_SIZE = 8192;
+
+	private final LongIterator iterator;
+
+	private final int memoryLimit;
+
+	private final ExecutorService executor;
+
+	private final long[] block = new long[BLOCK_SIZE];
+
+	private LongSpillFile spillFile = new LongSpillFile();
+
+	private LongIterator merged;
+
+	private boolean closed;
+
+	/**
+	 * Creates a new {@link LongSortingIterator}.
+	 * 
+	 * @param iterator
+	 *            The {@link LongIterator} to iterate over.
+	 * @param memoryLimit
+	 *            The amount of values to be sorted in memory at once.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link LongIterator} is {@literal null} or if
+	 *             the given memory limit is not positive.
+	 */
+	public LongSortingIterator(LongIterator iterator, int memoryLimit) throws IllegalArgumentException {
+		this(iterator, memoryLimit, null);
+	}
+
+	/**
+	 * Creates a new {@link LongSortingIterator}.
+	 * 
+	 * @param iterator
+	 *            The {@link LongIterator} to iterate over.
+	 * @param memoryLimit
+	 *            The amount of values to be sorted in memory at once.
+	 * @param executor
+	 *            The {@link ExecutorService} to sort slices of runs with, or
+	 *            {@literal null}, to sort all runs in the calling thread.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link LongIterator} is {@literal null} or if
+	 *             the given memory limit is not positive.
+	 */
+	public LongSortingIterator(LongIterator iterator, int memoryLimit, ExecutorService executor)
+			throws IllegalArgumentException {
+		if (null == iterator) {
+			throw new IllegalArgumentException("The given iterator is null");
+		} else if (memoryLimit < 1) {
+			throw new IllegalArgumentException("The given memory limit is not positive: " + memoryLimit);
+		}
+		this.iterator = iterator;
+		this.memoryLimit = memoryLimit;
+		this.executor = executor;
+	}
+
+	@Override
+	public boolean hasNext() throws SpillException {
+		if (closed) {
+			return false;
+		} else {
+			if (null == merged) {
+				try {
+					merged = new LongMergingIterator(sortRuns());
+				} catch (RuntimeException e) {
+					close();
+					throw e;
+				}
+			}
+			if (merged.hasNext()) {
+				return true;
+			} else {
+				close();
+				return false;
+			}
+		}
+	}
+
+	private List<LongIterator> sortRuns() {
+		List<LongIterator> runs = new ArrayList<LongIterator>();
+		long[] run = new long[CharacteristicsSupport.capacity(iterator, memoryLimit, BLOCK_SIZE)];
+		while (true) {
+			int count = 0;
+			while (count < memoryLimit && iterator.hasNext()) {
+				if (count == run.length) {
+					run = Arrays.copyOf(run, (int) Math.min(memoryLimit, 2L * count));
+				}
+				run[count++] = iterator.nextLong();
+			}
+			PipelineListener listener = PipelineEvents.getListener();
+			long startTime = null == listener ? 0 : System.nanoTime();
+			int[] bounds = sortSlices(run, count);
+			if (null != listener) {
+				listener.onChunkProcessed(this, count, System.nanoTime() - startTime);
+			}
+			if (iterator.hasNext()) {
+				for (int i = 0; i < bounds.length - 1; i++) {
+					runs.add(spill(run, bounds[i], bounds[i + 1]));
+				}
+			} else {
+				runs = mergeSpilledRuns(runs);
+				for (int i = 0; i < bounds.length - 1; i++) {
+					runs.add(new LongBufferIterator(LongBuffer.wrap(run, bounds[i], bounds[i + 1] - bounds[i])));
+				}
+				return runs;
+			}
+		}
+	}
+
+	private List<LongIterator> mergeSpilledRuns(List<LongIterator> runs) {
+		int fanIn = Math.max(2, memoryLimit / BLOCK_SIZE);
+		while (runs.size() > fanIn) {
+			LongSpillFile previousSpillFile = spillFile;
+			spillFile = new LongSpillFile();
+			List<LongIterator> mergedRuns = new ArrayList<LongIterator>();
+			try {
+				for (int from = 0; from < runs.size(); from += fanIn) {
+					List<LongIterator> group = runs.subList(from, Math.min(runs.size(), from + fanIn));
+					mergedRuns.add(spill(new LongMergingIterator(group)));
+				}
+			} finally {
+				previousSpillFile.delete();
+			}
+			runs = mergedRuns;
+		}
+		return runs;
+	}
+
+	private int[] sortSlices(long[] run, int count) {
+		int slices = 1;
+		if (null != executor) {
+			slices = Math.max(1, Math.min(Runtime.getRuntime().availableProcessors(), count / MINIMUM_SLICE_SIZE));
+		}
+		int[] bounds = new int[slices + 1];
+		for (int i = 0; i <= slices; i++) {
+			bounds[i] = (int) ((long) count * i / slices);
+		}
+		if (1 == slices) {
+			Arrays.sort(run, 0, count);
+		} else {
+			List<Future<Void>> sorts = new ArrayList<Future<Void>>(slices);
+			for (int i = 0; i < slices; i++) {
+				sorts.add(executor.submit(new SliceSort(run, bounds[i], bounds[i + 1])));
+			}
+			FutureSupport.awaitAll(sorts);
+		}
+		return bounds;
+	}
+
+	private LongIterator spill(long[] run, int from, int to) {
+		PipelineListener listener = PipelineEvents.getListener();
+		long startTime = null == listener ? 0 : System.nanoTime();
+		long position = -1;
+		for (int offset = from; offset < to; offset += BLOCK_SIZE) {
+			long blockPosition = spillFile.append(run, offset, Math.min(BLOCK_SIZE, to - offset));
+			if (-1 == position) {
+				position = blockPosition;
+			}
+		}
+		if (null != listener) {
+			listener.onSpilled(this, to - from, 8L * (to - from), System.nanoTime() - startTime);
+		}
+		return new SpilledSlice(spillFile, position, to - from);
+	}
+
+	private LongIterator spill(LongIterator values) {
+		PipelineListener listener = PipelineEvents.getListener();
+		long startTime = null == listener ? 0 : System.nanoTime();
+		long position = -1;
+		long count = 0;
+		while (values.hasNext()) {
+			int length = 0;
+			while (length < BLOCK_SIZE && values.hasNext()) {
+				block[length++] = values.nextLong();
+			}
+			long blockPosition = spillFile.append(block, 0, length);
+			if (-1 == position) {
+				position = blockPosition;
+			}
+			count += length;
+		}
+		if (null != listener) {
+			listener.onSpilled(this, count, 8L * count, System.nanoTime() - startTime);
+		}
+		return new SpilledSlice(spillFile, position, count);
+	}
+
+	@Override
+	public Long next() throws NoSuchElementException, SpillException {
+		return nextLong();
+	}
+
+	@Override
+	public long nextLong() throws NoSuchElementException, SpillException {
+		if (!hasNext()) {
+			throw new NoSuchElementException("This iterator has no next element");
+		} else {
+			return merged.nextLong();
+		}
+	}
+
+	/**
+	 * Deletes the temporary file that values have been spilled to. Values that
+	 * have not yet been yielded, can't be yielded afterwards.
+	 * 
+	 * @throws SpillException
+	 *             If closing the temporary file failed.
+	 */
+	@Override
+	public void close() throws SpillException {
+		if (!closed) {
+			closed = true;
+			spillFile.delete();
+		}
+	}
+
+	private static final class SliceSort implements Callable<Void> {
+
+		private final long[] run;
+
+		private final int from;
+
+		private final int to;
+
+		public SliceSort(long[] run, int from, int to) {
+			this.run = run;
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		public Void call() {
+			Arrays.sort(run, from, to);
+			return null;
+		}
+
+	}
+
+	private final class SpilledSlice extends AbstractProtectedIterator<Long> implements LongIterator {
+
+		private final LongSpillFile spillFile;
+
+		private long[] values;
+
+		private long position;
+
+		private long remaining;
+
+		private int blockOffset;
+
+		private int blockLength;
+
+		public SpilledSlice(LongSpillFile spillFile, long position, long remaining) {
+			this.spillFile = spillFile;
+			this.position = position;
+			this.remaining = remaining;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return blockOffset < blockLength || 0 != remaining;
+		}
+
+		@Override
+		public Long next() throws NoSuchElementException, SpillException {
+			return nextLong();
+		}
+
+		@Override
+		public long nextLong() throws NoSuchElementException, SpillException {
+			if (!hasNext()) {
+				throw new NoSuchElementException("This iterator has no next element");
+			} else {
+				if (blockOffset == blockLength) {
+					if (null == values) {
+						values = new long[BLOCK_SIZE];
+					}
+					blockLength = (int) Math.min(BLOCK_SIZE, remaining);
+					blockOffset = 0;
+					spillFile.read(position, values, blockLength);
+					position += blockLength * 8L;
+					remaining -= blockLength;
+				}
+				return values[blockOffset++];
+			}
+		}
+
+	}
+
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterators;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * A {@link LongSpillFile} is a temporary file that blocks of {@code long}
+ * values can be appended to and read back from, without any serialization
+ * overhead.
+ * 
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 3.3.0
+ */
+final class LongSpillFile {
+
+	private File file;
+
+	private RandomAccessFile randomAccessFile;
+
+	private FileChannel channel;
+
+	private long length;
+
+	private boolean deleted;
+
+	/**
+	 * Appends the given amount of {@code long} values from the given array,
+	 * starting at the given offset, and returns the position of the appended
+	 * block.
+	 */
+	long append(long[] values, int offset, int count) throws SpillException {
+		checkNotDeleted();
+		try {
+			open();
+			ByteBuffer buffer = ByteBuffer.allocate(count * 8);
+			buffer.asLongBuffer().put(values, offset, count);
+			long position = length;
+			while (buffer.hasRemaining()) {
+				length += channel.write(buffer, length);
+			}
+			return position;
+		} catch (IOException e) {
+			throw new SpillException("Failed to spill values to " + file, e);
+		}
+	}
+
+	/**
+	 * Reads the given amount of {@code long} values from the given position
+	 * into the given array.
+	 */
+	void read(long position, long[] values, int count) throws SpillException {
+		checkNotDeleted();
+		try {
+			ByteBuffer buffer = ByteBuffer.allocate(count * 8);
+			while (buffer.hasRemaining()) {
+				if (-1 == channel.read(buffer, position + buffer.position())) {
+					throw new IOException("Unexpected end of file");
+				}
+			}
+			buffer.flip();
+			buffer.asLongBuffer().get(values, 0, count);
+		} catch (IOException e) {
+			throw new SpillException("Failed to read spilled values from " + file, e);
+		}
+	}
+
+	/**
+	 * Closes and deletes this {@link LongSpillFile}. Appending to or reading from
+	 * this {@link LongSpillFile} afterwards fails with an
+	 * {@link IllegalStateException}.
+	 */
+	void delete() throws SpillException {
+		deleted = true;
+		if (null != file) {
+			try {
+				randomAccessFile.close();
+			} catch (IOException e) {
+				throw new SpillException("Failed to close " + file, e);
+			} finally {
+				file.delete();
+				file = null;
+				randomAccessFile = null;
+				channel = null;
+			}
+		}
+	}
+
+	private void checkNotDeleted() throws IllegalStateException {
+		if (deleted) {
+			throw new IllegalStateException("The spill file has already been deleted");
+		}
+	}
+
+	private void open() throws IOException {
+		if (null == file) {
+			file = File.createTempFile("commons-iterators-", ".spill");
+			file.deleteOnExit();
+			randomAccessFile = new RandomAccessFile(file, "rw");
+			channel = randomAccessFile.getChannel();
+		}
+	}
+
+}
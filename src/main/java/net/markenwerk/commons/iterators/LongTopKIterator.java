@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterators;
+
+import java.util.NoSuchElementException;
+
+/**
+ * A {@link LongTopKIterator} is an {@link AbstractProtectedIterator} and a
+ * {@link LongIterator} that can be wrapped around a given
+ * {@link LongIterator} and yields the largest values of all values yielded by
+ * the given {@link LongIterator}, up to a given amount, in descending order.
+ * 
+ * <p>
+ * This is the primitive counterpart of a {@link TopKIterator} that uses the
+ * natural order of {@code long} values and doesn't box any value, unless
+ * {@link LongTopKIterator#next()} is called.
+ * 
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 3.3.0
+ */
+public final class LongTopKIterator extends AbstractProtectedIterator<Long> implements LongIterator {
+
+	private final LongIterator iterator;
+
+	private final int size;
+
+	private final boolean invertOrder;
+
+	private long[] values;
+
+	private int count;
+
+	private int index;
+
+	/**
+	 * Creates a new {@link LongTopKIterator}.
+	 * 
+	 * @param iterator
+	 *            The {@link LongIterator} to iterate over.
+	 * @param size
+	 *            The maximum amount of values to be yielded.
+	 * @throws IllegalArgumentException
+	 *             If the given {@link LongIterator} is {@literal null} or if
+	 *             the given size is not positive.
+	 */
+	public LongTopKIterator(LongIterator iterator, int size) throws IllegalArgumentException {
+		this(iterator, size, false);
+	}
+
+	/**
+	 * Creates a new {@link LongTopKIterator}.
+	 * 
+	 * @param iterator
+	 *            The {@link LongIterator} to iterate over.
+	 * @param size
+	 *            The maximum amount of values to be yielded.
+	 * @param invertOrder
+	 *            Whether to yield the smallest values in ascending order,
+	 *            instead of the largest values in descending order.
+	 * @throws IllegalArgumentException
+	 *             If the given {@link LongIterator} is {@literal null} or if
+	 *             the given size is not positive.
+	 */
+	public LongTopKIterator(LongIterator iterator, int size, boolean invertOrder) throws IllegalArgumentException {
+		if (null == iterator) {
+			throw new IllegalArgumentException("The given iterator is null");
+		} else if (size < 1) {
+			throw new IllegalArgumentException("The given size is not positive: " + size);
+		}
+		this.iterator = iterator;
+		this.size = size;
+		this.invertOrder = invertOrder;
+	}
+
+	@Override
+	public boolean hasNext() {
+		if (null == values) {
+			select();
+		}
+		return index < count;
+	}
+
+	private void select() {
+		values = new long[Math.min(size, 16)];
+		while (iterator.hasNext()) {
+			long value = iterator.nextLong();
+			if (count < size) {
+				if (count == values.length) {
+					long[] grown = new long[(int) Math.min(size, 2L * count)];
+					System.arraycopy(values, 0, grown, 0, count);
+					values = grown;
+				}
+				values[count] = value;
+				siftUp(count++);
+			} else if (precedes(values[0], value)) {
+				values[0] = value;
+				siftDown(count);
+			}
+		}
+		for (int i = count - 1; i > 0; i--) {
+			long value = values[0];
+			values[0] = values[i];
+			values[i] = value;
+			siftDown(i);
+		}
+	}
+
+	private void siftUp(int index) {
+		long value = values[index];
+		while (index > 0) {
+			int parent = (index - 1) >>> 1;
+			if (precedes(value, values[parent])) {
+				values[index] = values[parent];
+				index = parent;
+			} else {
+				break;
+			}
+		}
+		values[index] = value;
+	}
+
+	private void siftDown(int size) {
+		long value = values[0];
+		int index = 0;
+		while (true) {
+			int child = 2 * index + 1;
+			if (child >= size) {
+				break;
+			}
+			if (child + 1 < size && precedes(values[child + 1], values[child])) {
+				child++;
+			}
+			if (precedes(values[child], value)) {
+				values[index] = values[child];
+				index = child;
+			} else {
+				break;
+			}
+		}
+		values[index] = value;
+	}
+
+	private boolean precedes(long first, long second) {
+		return invertOrder ? first > second : first < second;
+	}
+
+	@Override
+	public Long next() throws NoSuchElementException {
+		return nextLong();
+	}
+
+	@Override
+	public long nextLong() throws NoSuchElementException {
+		if (!hasNext()) {
+			throw new NoSuchElementException("This iterator has no next element");
+		} else {
+			return values[index++];
+		}
+	}
+
+}
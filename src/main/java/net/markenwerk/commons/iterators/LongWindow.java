@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterators;
+
+/**
+ * A {@link LongWindow} is a read-only view of a window of {@code long} values,
+ * as yielded by a {@link LongWindowIterator}.
+ * 
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 3.3.0
+ */
+public interface LongWindow {
+
+	/**
+	 * Returns the amount of values in this {@link LongWindow}.
+	 * 
+	 * @return The amount of values in this {@link LongWindow}.
+	 */
+	public int size();
+
+	/**
+	 * Returns the value at the given index.
+	 * 
+	 * @param index
+	 *            The index to be used.
+	 * @return The value at the given index.
+	 * @throws IndexOutOfBoundsException
+	 *             If the given index is negative or not smaller than the
+	 *             {@link LongWindow#size() size} of this {@link LongWindow}.
+	 */
+	public long get(int index) throws IndexOutOfBoundsException;
+
+	/**
+	 * Returns the sum of all values in this {@link LongWindow}.
+	 * 
+	 * @return The sum of all values in this {@link LongWindow}.
+	 */
+	public long getSum();
+
+	/**
+	 * Returns the average of all values in this {@link LongWindow}.
+	 * 
+	 * @return The average of all values in this {@link LongWindow}.
+	 */
+	public double getAverage();
+
+}
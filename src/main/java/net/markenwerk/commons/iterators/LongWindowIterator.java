@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterators;
+
+import java.util.NoSuchElementException;
+
+/**
+ * A {@link LongWindowIterator} is an {@link AbstractProtectedIterator} that
+ * can be wrapped around a given {@link LongIterator} and yields windows of a
+ * given size over the values of the given {@link LongIterator}, where every
+ * window starts a given step after the start of the previous window.
+ * 
+ * <p>
+ * This is the primitive counterpart of a {@link WindowIterator}. Every yielded
+ * {@link LongWindow} is a read-only view of a circular buffer that is reused
+ * for every window and is therefore only valid until
+ * {@link LongWindowIterator#next()} is called again. The
+ * {@link LongWindow#getSum() sum} of every window is maintained
+ * incrementally, such that it isn't necessary to add up all values of every
+ * window.
+ * 
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 3.3.0
+ */
+public final class LongWindowIterator extends AbstractProtectedIterator<LongWindow> {
+
+	private final class Window implements LongWindow {
+
+		@Override
+		public int size() {
+			return size;
+		}
+
+		@Override
+		public long get(int index) throws IndexOutOfBoundsException {
+			if (index < 0 || index >= size) {
+				throw new IndexOutOfBoundsException("The given index is not within the window: " + index);
+			}
+			int position = start + index;
+			return buffer[position < size ? position : position - size];
+		}
+
+		@Override
+		public long getSum() {
+			return sum;
+		}
+
+		@Override
+		public double getAverage() {
+			return (double) sum / size;
+		}
+
+	}
+
+	private final LongIterator iterator;
+
+	private final int size;
+
+	private final int step;
+
+	private final long[] buffer;
+
+	private final long[] staged;
+
+	private final LongWindow window = new Window();
+
+	private int start;
+
+	private long sum;
+
+	private boolean filled;
+
+	private boolean nextPrepared;
+
+	private boolean nextDetected;
+
+	/**
+	 * Creates a new {@link LongWindowIterator}.
+	 * 
+	 * @param iterator
+	 *            The {@link LongIterator} to iterate over.
+	 * @param size
+	 *            The size of every window.
+	 * @param step
+	 *            The distance between the start of consecutive windows.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link LongIterator} is {@literal null}, if
+	 *             the given size is not positive or if the given step is not
+	 *             positive.
+	 */
+	public LongWindowIterator(LongIterator iterator, int size, int step) throws IllegalArgumentException {
+		if (null == iterator) {
+			throw new IllegalArgumentException("The given iterator is null");
+		} else if (size < 1) {
+			throw new IllegalArgumentException("The given size is not positive: " + size);
+		} else if (step < 1) {
+			throw new IllegalArgumentException("The given step is not positive: " + step);
+		}
+		this.iterator = iterator;
+		this.size = size;
+		this.step = step;
+		this.buffer = new long[size];
+		this.staged = new long[Math.min(size, step)];
+	}
+
+	@Override
+	public boolean hasNext() {
+		prepareNext();
+		return nextDetected;
+	}
+
+	@Override
+	public LongWindow next() throws NoSuchElementException {
+		if (!hasNext()) {
+			throw new NoSuchElementException("This iterator has no next element");
+		} else {
+			nextPrepared = false;
+			if (!filled) {
+				filled = true;
+				for (int i = 0; i < size; i++) {
+					sum += buffer[i];
+				}
+			} else {
+				for (int i = 0, n = staged.length; i < n; i++) {
+					sum += staged[i] - buffer[start];
+					buffer[start] = staged[i];
+					start = start + 1 == size ? 0 : start + 1;
+				}
+			}
+			return window;
+		}
+	}
+
+	private void prepareNext() {
+		if (!nextPrepared) {
+			if (!filled) {
+				nextDetected = stage(buffer, size, 0);
+			} else {
+				nextDetected = stage(staged, staged.length, step - staged.length);
+			}
+			nextPrepared = true;
+		}
+	}
+
+	private boolean stage(long[] target, int length, int skip) {
+		for (int i = 0; i < skip; i++) {
+			if (!iterator.hasNext()) {
+				return false;
+			}
+			iterator.nextLong();
+		}
+		for (int i = 0; i < length; i++) {
+			if (!iterator.hasNext()) {
+				return false;
+			}
+			target[i] = iterator.nextLong();
+		}
+		return true;
+	}
+
+}
@@ -0,0 +1,228 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterators;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * A {@link MergingIterator} is an {@link AbstractProtectedIterator} that wraps
+ * around a sequence of given {@link Iterator Iterators}, that each yield their
+ * values in the order imposed by a given {@link Comparator}, and merges them
+ * into a single {@link Iterator} that yields all values of all given
+ * {@link Iterator Iterators} in that order.
+ * 
+ * <p>
+ * The current value of every given {@link Iterator} is kept in a binary
+ * min-heap, such that every call to {@link MergingIterator#next()} needs
+ * {@code O(log k)} comparisons, where {@code k} is the number of given
+ * {@link Iterator Iterators}. Values that are equal according to the given
+ * {@link Comparator} are yielded in the order of the given {@link Iterator
+ * Iterators}.
+ * 
+ * <p>
+ * The sequence of given {@link Iterator Iterators} is consumed and every given
+ * {@link Iterator} is asked for its first value, when
+ * {@link MergingIterator#hasNext()} or {@link MergingIterator#next()} is called
+ * for the first time.
+ * 
+ * @param <Payload>
+ *            The payload type.
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 3.3.0
+ */
+public final class MergingIterator<Payload> extends AbstractProtectedIterator<Payload> {
+
+	private final Comparator<? super Payload> comparator;
+
+	private Iterator<? extends Iterator<? extends Payload>> iterators;
+
+	private Iterator<? extends Payload>[] heapIterators;
+
+	private Payload[] heapValues;
+
+	private int[] heapOrdinals;
+
+	private int heapSize;
+
+	/**
+	 * Creates a new {@link MergingIterator}.
+	 * 
+	 * @param comparator
+	 *            The {@link Comparator} to be used.
+	 * @param iterators
+	 *            The {@link Iterator Iterators} to iterate over.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link Comparator} is {@literal null} or if the
+	 *             given sequence of {@link Iterator Iterators} is
+	 *             {@literal null}.
+	 */
+	public MergingIterator(Comparator<? super Payload> comparator, Iterator<? extends Payload>... iterators)
+			throws IllegalArgumentException {
+		if (null == comparator) {
+			throw new IllegalArgumentException("The given comparator is null");
+		} else if (null == iterators) {
+			throw new IllegalArgumentException("The given array of iterators is null");
+		}
+		this.comparator = comparator;
+		this.iterators = new ArrayIterator<Iterator<? extends Payload>>(iterators);
+	}
+
+	/**
+	 * Creates a new {@link MergingIterator}.
+	 * 
+	 * @param comparator
+	 *            The {@link Comparator} to be used.
+	 * @param iterators
+	 *            The {@link Iterator Iterators} to iterate over.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link Comparator} is {@literal null} or if the
+	 *             given {@link Iterable} of {@link Iterator Iterators} is
+	 *             {@literal null}.
+	 */
+	public MergingIterator(Comparator<? super Payload> comparator,
+			Iterable<? extends Iterator<? extends Payload>> iterators) throws IllegalArgumentException {
+		if (null == comparator) {
+			throw new IllegalArgumentException("The given comparator is null");
+		} else if (null == iterators) {
+			throw new IllegalArgumentException("The given iterable of iterators is null");
+		}
+		this.comparator = comparator;
+		this.iterators = iterators.iterator();
+	}
+
+	/**
+	 * Creates a new {@link MergingIterator}.
+	 * 
+	 * @param comparator
+	 *            The {@link Comparator} to be used.
+	 * @param iterators
+	 *            The {@link Iterator Iterators} to iterate over.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link Comparator} is {@literal null} or if the
+	 *             given {@link Iterator} of {@link Iterator Iterators} is
+	 *             {@literal null}.
+	 */
+	public MergingIterator(Comparator<? super Payload> comparator,
+			Iterator<? extends Iterator<? extends Payload>> iterators) throws IllegalArgumentException {
+		if (null == comparator) {
+			throw new IllegalArgumentException("The given comparator is null");
+		} else if (null == iterators) {
+			throw new IllegalArgumentException("The given iterator of iterators is null");
+		}
+		this.comparator = comparator;
+		this.iterators = iterators;
+	}
+
+	@Override
+	public boolean hasNext() {
+		prepareHeap();
+		return 0 != heapSize;
+	}
+
+	@Override
+	public Payload next() throws NoSuchElementException {
+		if (!hasNext()) {
+			throw new NoSuchElementException("This iterator has no next element");
+		} else {
+			Payload next = heapValues[0];
+			Iterator<? extends Payload> iterator = heapIterators[0];
+			if (iterator.hasNext()) {
+				heapValues[0] = iterator.next();
+			} else {
+				heapSize--;
+				move(heapSize, 0);
+				heapIterators[heapSize] = null;
+				heapValues[heapSize] = null;
+			}
+			siftDown(0);
+			return next;
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private void prepareHeap() {
+		if (null != iterators) {
+			List<Iterator<? extends Payload>> nonEmptyIterators = new ArrayList<Iterator<? extends Payload>>();
+			while (iterators.hasNext()) {
+				Iterator<? extends Payload> iterator = iterators.next();
+				if (iterator.hasNext()) {
+					nonEmptyIterators.add(iterator);
+				}
+			}
+			iterators = null;
+			heapSize = nonEmptyIterators.size();
+			heapIterators = (Iterator<? extends Payload>[]) new Iterator<?>[heapSize];
+			heapValues = (Payload[]) new Object[heapSize];
+			heapOrdinals = new int[heapSize];
+			for (int i = 0; i < heapSize; i++) {
+				Iterator<? extends Payload> iterator = nonEmptyIterators.get(i);
+				heapIterators[i] = iterator;
+				heapValues[i] = iterator.next();
+				heapOrdinals[i] = i;
+			}
+			for (int i = heapSize / 2 - 1; i >= 0; i--) {
+				siftDown(i);
+			}
+		}
+	}
+
+	private void siftDown(int index) {
+		Iterator<? extends Payload> iterator = heapIterators[index];
+		Payload value = heapValues[index];
+		int ordinal = heapOrdinals[index];
+		int half = heapSize / 2;
+		while (index < half) {
+			int child = 2 * index + 1;
+			int right = child + 1;
+			if (right < heapSize && isLess(right, heapValues[child], heapOrdinals[child])) {
+				child = right;
+			}
+			if (!isLess(child, value, ordinal)) {
+				break;
+			}
+			move(child, index);
+			index = child;
+		}
+		heapIterators[index] = iterator;
+		heapValues[index] = value;
+		heapOrdinals[index] = ordinal;
+	}
+
+	private boolean isLess(int index, Payload value, int ordinal) {
+		int comparison = comparator.compare(heapValues[index], value);
+		return comparison < 0 || (0 == comparison && heapOrdinals[index] < ordinal);
+	}
+
+	private void move(int from, int to) {
+		heapIterators[to] = heapIterators[from];
+		heapValues[to] = heapValues[from];
+		heapOrdinals[to] = heapOrdinals[from];
+	}
+
+}
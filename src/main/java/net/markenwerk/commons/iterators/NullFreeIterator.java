@@ -38,7 +38,7 @@ import java.util.NoSuchElementException;
  * @author Torsten Krause (tk at markenwerk dot net)
  * @since 1.0.0
  */
-public final class NullFreeIterator<Payload> implements Iterator<Payload> {
+public final class NullFreeIterator<Payload> implements CharacterizedIterator<Payload> {
 
 	private final Iterator<? extends Payload> iterator;
 
@@ -93,4 +93,31 @@ public final class NullFreeIterator<Payload> implements Iterator<Payload> {
 		}
 	}
 
+	/**
+	 * Returns the characteristics of the given {@link Iterator}, except for
+	 * the size related characteristics, and
+	 * {@link CharacterizedIterator#NONNULL}.
+	 * 
+	 * @return The characteristics.
+	 * @since 3.3.0
+	 */
+	@Override
+	public int characteristics() {
+		return (CharacteristicsSupport.characteristics(iterator) & ~(SIZED | SUBSIZED)) | NONNULL;
+	}
+
+	/**
+	 * Returns the estimated size of the given {@link Iterator}, which is an
+	 * upper bound for the amount of values this {@link NullFreeIterator} will
+	 * yield.
+	 * 
+	 * @return The estimated size.
+	 * @since 3.3.0
+	 */
+	@Override
+	public long estimateSize() {
+		long estimatedSize = CharacteristicsSupport.estimateSize(iterator);
+		return nextPrepared && null != next ? CharacteristicsSupport.add(estimatedSize, 1) : estimatedSize;
+	}
+
 }
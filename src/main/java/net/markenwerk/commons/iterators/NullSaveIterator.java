@@ -43,7 +43,7 @@ import java.util.NoSuchElementException;
  * @author Torsten Krause (tk at markenwerk dot net)
  * @since 1.0.0
  */
-public final class NullSaveIterator<Payload> implements Iterator<Payload> {
+public final class NullSaveIterator<Payload> implements CharacterizedIterator<Payload> {
 
 	private final Iterator<? extends Payload> iterator;
 
@@ -82,4 +82,26 @@ public final class NullSaveIterator<Payload> implements Iterator<Payload> {
 		iterator.remove();
 	}
 
+	/**
+	 * Returns the characteristics of the given {@link Iterator}.
+	 * 
+	 * @return The characteristics.
+	 * @since 3.3.0
+	 */
+	@Override
+	public int characteristics() {
+		return CharacteristicsSupport.characteristics(iterator);
+	}
+
+	/**
+	 * Returns the estimated size of the given {@link Iterator}.
+	 * 
+	 * @return The estimated size.
+	 * @since 3.3.0
+	 */
+	@Override
+	public long estimateSize() {
+		return CharacteristicsSupport.estimateSize(iterator);
+	}
+
 }
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterators;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * An {@link OperationCounter} counts the calls of an operation and measures
+ * the time spent in every n-th call.
+ * 
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 3.3.0
+ */
+final class OperationCounter {
+
+	private static final long UNSAMPLED = Long.MIN_VALUE;
+
+	private final int samplingInterval;
+
+	private final AtomicLong calls = new AtomicLong();
+
+	private final AtomicLong sampledCalls = new AtomicLong();
+
+	private final AtomicLong sampledNanos = new AtomicLong();
+
+	OperationCounter(int samplingInterval) {
+		this.samplingInterval = samplingInterval;
+	}
+
+	long start() {
+		long call = calls.incrementAndGet();
+		return 0 == call % samplingInterval ? System.nanoTime() : UNSAMPLED;
+	}
+
+	void stop(long start) {
+		if (UNSAMPLED != start) {
+			sampledNanos.addAndGet(System.nanoTime() - start);
+			sampledCalls.incrementAndGet();
+		}
+	}
+
+	long getCalls() {
+		return calls.get();
+	}
+
+	long getEstimatedNanos() {
+		long sampled = sampledCalls.get();
+		if (0 == sampled) {
+			return 0;
+		} else {
+			return (long) ((double) sampledNanos.get() / sampled * calls.get());
+		}
+	}
+
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterators;
+
+/**
+ * {@link PipelineEvents} holds the {@link PipelineListener} that is notified
+ * about events of iterator pipelines.
+ * 
+ * <p>
+ * Events are emitted by the {@link CombinedIterator}, the
+ * {@link FilteredIterator} and the {@link ConvertingIterator} (pipeline start
+ * and end), by the {@link BufferingIterator}, the {@link RecordingIterator},
+ * the {@link SortingIterator} and the {@link LongSortingIterator} (spill to
+ * disk and, for the latter two, runs that have been sorted), by the
+ * {@link TopKIterator} (chunks that have been processed concurrently) and by
+ * the {@link SubscribingIterator} and the {@link BatchingInfiniteIterator}
+ * (prefetch stalls).
+ * 
+ * <p>
+ * No listener is registered by default. Without a listener, emitting an event
+ * costs no more than reading a volatile field. Iterators that emit pipeline
+ * start and end events decide whether to do so, when they are created.
+ * 
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 3.3.0
+ */
+public final class PipelineEvents {
+
+	private static volatile PipelineListener listener;
+
+	private PipelineEvents() {
+	}
+
+	/**
+	 * Registers the given {@link PipelineListener}, replacing the currently
+	 * registered {@link PipelineListener}.
+	 * 
+	 * @param listener
+	 *            The {@link PipelineListener} to be registered, or
+	 *            {@literal null}, to disable events.
+	 */
+	public static void setListener(PipelineListener listener) {
+		PipelineEvents.listener = listener;
+	}
+
+	/**
+	 * Returns the currently registered {@link PipelineListener}.
+	 * 
+	 * @return The currently registered {@link PipelineListener}, or
+	 *         {@literal null}, if events are disabled.
+	 */
+	public static PipelineListener getListener() {
+		return listener;
+	}
+
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterators;
+
+import java.util.Iterator;
+
+/**
+ * A {@link PipelineListener} is notified about events of iterator pipelines,
+ * once it has been registered with
+ * {@link PipelineEvents#setListener(PipelineListener)}.
+ * 
+ * <p>
+ * Events may be emitted from multiple threads at once, e.g. if chunks of
+ * values are processed concurrently. Implementations must therefore be
+ * thread-safe. All durations are given in nanoseconds.
+ * 
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 3.3.0
+ */
+public interface PipelineListener {
+
+	/**
+	 * Called, when the given {@link Iterator} is asked for its first element.
+	 * 
+	 * @param iterator
+	 *            The {@link Iterator} that emitted this event.
+	 */
+	public void onPipelineStarted(Iterator<?> iterator);
+
+	/**
+	 * Called, when the given {@link Iterator} detected, that it has no next
+	 * element.
+	 * 
+	 * @param iterator
+	 *            The {@link Iterator} that emitted this event.
+	 * @param elementCount
+	 *            The amount of elements yielded by the given {@link Iterator}.
+	 * @param duration
+	 *            The time since the pipeline has been started.
+	 */
+	public void onPipelineEnded(Iterator<?> iterator, long elementCount, long duration);
+
+	/**
+	 * Called, when the given {@link Iterator} processed a chunk of values,
+	 * e.g. a run of values that has been sorted in memory.
+	 * 
+	 * @param iterator
+	 *            The {@link Iterator} that emitted this event.
+	 * @param elementCount
+	 *            The amount of values in the chunk.
+	 * @param duration
+	 *            The time spent in processing the chunk.
+	 */
+	public void onChunkProcessed(Iterator<?> iterator, long elementCount, long duration);
+
+	/**
+	 * Called, when the given {@link Iterator} had to wait for a value, because
+	 * no prefetched value was available.
+	 * 
+	 * @param iterator
+	 *            The {@link Iterator} that emitted this event.
+	 * @param duration
+	 *            The time spent in waiting.
+	 */
+	public void onPrefetchStalled(Iterator<?> iterator, long duration);
+
+	/**
+	 * Called, when the given {@link Iterator} spilled values to disk.
+	 * 
+	 * @param iterator
+	 *            The {@link Iterator} that emitted this event.
+	 * @param elementCount
+	 *            The amount of spilled values.
+	 * @param byteCount
+	 *            The amount of written bytes.
+	 * @param duration
+	 *            The time spent in spilling.
+	 */
+	public void onSpilled(Iterator<?> iterator, long elementCount, long byteCount, long duration);
+
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterators;
+
+import java.util.Iterator;
+
+/**
+ * A {@link PipelineTracker} emits the pipeline start and end events for a
+ * single {@link Iterator}.
+ * 
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 3.3.0
+ */
+final class PipelineTracker {
+
+	private final PipelineListener listener;
+
+	private final Iterator<?> iterator;
+
+	private boolean started;
+
+	private boolean ended;
+
+	private long startTime;
+
+	private long elementCount;
+
+	private PipelineTracker(PipelineListener listener, Iterator<?> iterator) {
+		this.listener = listener;
+		this.iterator = iterator;
+	}
+
+	static PipelineTracker create(Iterator<?> iterator) {
+		PipelineListener listener = PipelineEvents.getListener();
+		return null == listener ? null : new PipelineTracker(listener, iterator);
+	}
+
+	void preparing() {
+		if (!started) {
+			started = true;
+			startTime = System.nanoTime();
+			listener.onPipelineStarted(iterator);
+		}
+	}
+
+	void prepared(boolean hasNext) {
+		if (hasNext) {
+			elementCount++;
+		} else if (!ended) {
+			ended = true;
+			listener.onPipelineEnded(iterator, elementCount, System.nanoTime() - startTime);
+		}
+	}
+
+}
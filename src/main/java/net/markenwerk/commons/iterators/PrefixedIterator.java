@@ -39,7 +39,9 @@ import java.util.NoSuchElementException;
  * @author Torsten Krause (tk at markenwerk dot net)
  * @since 2.1.0
  */
-public final class PrefixedIterator<Payload> implements Iterator<Payload> {
+public final class PrefixedIterator<Payload> implements CharacterizedIterator<Payload> {
+
+	private static final int CHARACTERISTICS = ORDERED | SIZED | SUBSIZED | NONNULL | IMMUTABLE | CONCURRENT;
 
 	private final Iterator<? extends Payload> iterator;
 
@@ -107,4 +109,32 @@ public final class PrefixedIterator<Payload> implements Iterator<Payload> {
 		}
 	}
 
+	/**
+	 * Returns the characteristics of the given {@link Iterator}, except for
+	 * characteristics that depend on the values, like
+	 * {@link CharacterizedIterator#SORTED}, that can't be guaranteed in the
+	 * presence of prefixes.
+	 * 
+	 * @return The characteristics.
+	 * @since 3.3.0
+	 */
+	@Override
+	public int characteristics() {
+		int characteristics = CharacteristicsSupport.characteristics(iterator) & CHARACTERISTICS;
+		return CharacteristicsSupport.nonNull(prefixes) ? characteristics : characteristics & ~NONNULL;
+	}
+
+	/**
+	 * Returns the estimated size of the given {@link Iterator} plus the amount
+	 * of prefixes that remain to be yielded.
+	 * 
+	 * @return The estimated size.
+	 * @since 3.3.0
+	 */
+	@Override
+	public long estimateSize() {
+		long remainingPrefixes = prefixing ? prefixes.length - 1 - prefixIndex : 0;
+		return CharacteristicsSupport.add(CharacteristicsSupport.estimateSize(iterator), remainingPrefixes);
+	}
+
 }
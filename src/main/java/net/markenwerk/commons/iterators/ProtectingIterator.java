@@ -36,7 +36,8 @@ import java.util.NoSuchElementException;
  * @author Torsten Krause (tk at markenwerk dot net)
  * @since 1.2.0
  */
-public final class ProtectingIterator<Payload> extends AbstractProtectedIterator<Payload> {
+public final class ProtectingIterator<Payload> extends AbstractProtectedIterator<Payload> implements
+		CharacterizedIterator<Payload> {
 
 	private final Iterator<? extends Payload> iterator;
 
@@ -66,4 +67,26 @@ public final class ProtectingIterator<Payload> extends AbstractProtectedIterator
 		return iterator.next();
 	}
 
+	/**
+	 * Returns the characteristics of the given {@link Iterator}.
+	 * 
+	 * @return The characteristics.
+	 * @since 3.3.0
+	 */
+	@Override
+	public int characteristics() {
+		return CharacteristicsSupport.characteristics(iterator);
+	}
+
+	/**
+	 * Returns the estimated size of the given {@link Iterator}.
+	 * 
+	 * @return The estimated size.
+	 * @since 3.3.0
+	 */
+	@Override
+	public long estimateSize() {
+		return CharacteristicsSupport.estimateSize(iterator);
+	}
+
 }
@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterators;
+
+/**
+ * A {@link Publisher} is a provider of a potentially unbounded number of
+ * sequenced values, publishing them according to the demand received from its
+ * {@link Subscriber Subscribers}.
+ * 
+ * <p>
+ * This interface mirrors {@code java.util.concurrent.Flow.Publisher} and the
+ * Reactive Streams {@code Publisher} and follows the rules of the Reactive
+ * Streams specification, such that adapting it to either of them only
+ * requires to forward every method call.
+ * 
+ * @param <Payload>
+ *            The payload type.
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 3.3.0
+ */
+public interface Publisher<Payload> {
+
+	/**
+	 * Requests this {@link Publisher} to start publishing values to the given
+	 * {@link Subscriber}.
+	 * 
+	 * @param subscriber
+	 *            The {@link Subscriber} to publish values to.
+	 * @throws NullPointerException
+	 *             If the given {@link Subscriber} is {@literal null}.
+	 */
+	public void subscribe(Subscriber<? super Payload> subscriber) throws NullPointerException;
+
+}
@@ -0,0 +1,262 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterators;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * A {@link RecordingIterator} is an {@link AbstractProtectedIterator} that can
+ * be wrapped around a given {@link Iterator} and records every value yielded
+ * by the given {@link Iterator}, such that the sequence of values can be
+ * {@link RecordingIterator#replay() replayed} or
+ * {@link RecordingIterator#cycle() cycled} without iterating over the given
+ * {@link Iterator} again.
+ * 
+ * <p>
+ * Replaying cursors are independent of each other and of the
+ * {@link RecordingIterator} itself. Whichever of them first asks for a value
+ * that hasn't been recorded yet, takes it from the given {@link Iterator} and
+ * records it.
+ * 
+ * <p>
+ * Values are recorded in chunks of a fixed size. If a {@link Serializer} is
+ * given, every completed chunk beyond a given memory limit is spilled to a
+ * temporary file. Every cursor then holds at most one chunk of spilled values
+ * in memory. Call {@link RecordingIterator#close()} to delete the temporary
+ * file, once the recorded values are no longer needed.
+ * 
+ * @param <Payload>
+ *            The payload type.
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 3.3.0
+ */
+public final class RecordingIterator<Payload> extends AbstractProtectedIterator<Payload> implements Closeable {
+
+	private static final int CHUNK_SIZE = 1024;
+
+	private final class Cursor extends AbstractProtectedIterator<Payload> {
+
+		private final boolean cycling;
+
+		private final Object[] spilledChunk;
+
+		private int spilledChunkIndex = -1;
+
+		private int index;
+
+		private Cursor(boolean cycling) {
+			this.cycling = cycling;
+			this.spilledChunk = null == spillFile ? null : new Object[CHUNK_SIZE];
+		}
+
+		@Override
+		public boolean hasNext() {
+			if (index < size || record()) {
+				return true;
+			} else if (cycling && 0 != size) {
+				index = 0;
+				return true;
+			} else {
+				return false;
+			}
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public Payload next() throws NoSuchElementException {
+			if (!hasNext()) {
+				throw new NoSuchElementException("This iterator has no next element");
+			} else {
+				int chunkIndex = index / CHUNK_SIZE;
+				Object[] chunk = chunks.get(chunkIndex);
+				if (null == chunk) {
+					if (spilledChunkIndex != chunkIndex) {
+						spillFile.read(spillPositions.get(chunkIndex), spillPositions.get(chunkIndex + 1),
+								spilledChunk, CHUNK_SIZE);
+						spilledChunkIndex = chunkIndex;
+					}
+					chunk = spilledChunk;
+				}
+				return (Payload) chunk[index++ % CHUNK_SIZE];
+			}
+		}
+
+	}
+
+	private final Iterator<? extends Payload> iterator;
+
+	private final int memoryChunks;
+
+	private final SpillFile<Payload> spillFile;
+
+	private final List<Object[]> chunks = new ArrayList<Object[]>();
+
+	private final List<Long> spillPositions = new ArrayList<Long>();
+
+	private final Cursor cursor;
+
+	private int size;
+
+	/**
+	 * Creates a new {@link RecordingIterator} that keeps all recorded values in
+	 * memory.
+	 * 
+	 * @param iterator
+	 *            The {@link Iterator} to iterate over.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link Iterator} is {@literal null}.
+	 */
+	public RecordingIterator(Iterator<? extends Payload> iterator) throws IllegalArgumentException {
+		if (null == iterator) {
+			throw new IllegalArgumentException("The given iterator is null");
+		}
+		this.iterator = iterator;
+		this.memoryChunks = Integer.MAX_VALUE;
+		this.spillFile = null;
+		this.cursor = new Cursor(false);
+	}
+
+	/**
+	 * Creates a new {@link RecordingIterator} that spills recorded values
+	 * beyond the given memory limit to a temporary file.
+	 * 
+	 * @param iterator
+	 *            The {@link Iterator} to iterate over.
+	 * @param memoryLimit
+	 *            The amount of recorded values to be kept in memory.
+	 * @param serializer
+	 *            The {@link Serializer} to be used to spill recorded values.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link Iterator} is {@literal null}, if the
+	 *             given memory limit is negative or if the given
+	 *             {@link Serializer} is {@literal null}.
+	 */
+	public RecordingIterator(Iterator<? extends Payload> iterator, int memoryLimit, Serializer<Payload> serializer)
+			throws IllegalArgumentException {
+		if (null == iterator) {
+			throw new IllegalArgumentException("The given iterator is null");
+		} else if (memoryLimit < 0) {
+			throw new IllegalArgumentException("The given memory limit is negative: " + memoryLimit);
+		} else if (null == serializer) {
+			throw new IllegalArgumentException("The given serializer is null");
+		}
+		this.iterator = iterator;
+		this.memoryChunks = memoryLimit / CHUNK_SIZE;
+		this.spillFile = new SpillFile<Payload>(serializer);
+		this.cursor = new Cursor(false);
+	}
+
+	@Override
+	public boolean hasNext() {
+		return cursor.hasNext();
+	}
+
+	@Override
+	public Payload next() throws NoSuchElementException {
+		return cursor.next();
+	}
+
+	/**
+	 * Returns a new {@link ProtectedIterator} that yields all values of the
+	 * given {@link Iterator} from the start.
+	 * 
+	 * @return The replaying {@link ProtectedIterator}.
+	 */
+	public ProtectedIterator<Payload> replay() {
+		return new Cursor(false);
+	}
+
+	/**
+	 * Returns a new {@link ProtectedIterator} that yields all values of the
+	 * given {@link Iterator} from the start and starts over, every time it
+	 * reached the end.
+	 * 
+	 * <p>
+	 * The returned {@link ProtectedIterator} has no next element, only if the
+	 * given {@link Iterator} yields no values at all.
+	 * 
+	 * @return The cycling {@link ProtectedIterator}.
+	 */
+	public ProtectedIterator<Payload> cycle() {
+		return new Cursor(true);
+	}
+
+	/**
+	 * Deletes the temporary file that recorded values have been spilled to.
+	 * Recorded values that have been spilled can't be yielded afterwards and
+	 * any cursor that tries to do so fails with an
+	 * {@link IllegalStateException}.
+	 * 
+	 * @throws SpillException
+	 *             If closing the temporary file failed.
+	 */
+	@Override
+	public void close() throws SpillException {
+		if (null != spillFile) {
+			spillFile.delete();
+		}
+	}
+
+	private boolean record() {
+		if (!iterator.hasNext()) {
+			return false;
+		} else {
+			int chunkIndex = size / CHUNK_SIZE;
+			int chunkOffset = size % CHUNK_SIZE;
+			if (0 == chunkOffset) {
+				chunks.add(new Object[CHUNK_SIZE]);
+			}
+			Object[] chunk = chunks.get(chunkIndex);
+			chunk[chunkOffset] = iterator.next();
+			size++;
+			if (CHUNK_SIZE - 1 == chunkOffset && chunkIndex >= memoryChunks) {
+				spill(chunkIndex, chunk);
+			}
+			return true;
+		}
+	}
+
+	private void spill(int chunkIndex, Object[] chunk) {
+		PipelineListener listener = PipelineEvents.getListener();
+		long startTime = null == listener ? 0 : System.nanoTime();
+		if (spillPositions.isEmpty()) {
+			for (int i = 0; i < chunkIndex; i++) {
+				spillPositions.add(null);
+			}
+			spillPositions.add(spillFile.length());
+		}
+		long startLength = spillFile.length();
+		spillFile.append(chunk, CHUNK_SIZE);
+		spillPositions.add(spillFile.length());
+		chunks.set(chunkIndex, null);
+		if (null != listener) {
+			listener.onSpilled(this, CHUNK_SIZE, spillFile.length() - startLength, System.nanoTime() - startTime);
+		}
+	}
+
+}
@@ -37,7 +37,7 @@ import net.markenwerk.commons.interfaces.Handler;
  * @author Torsten Krause (tk at markenwerk dot net)
  * @since 2.2.0
  */
-public final class RemoveHandlerIterator<Payload> implements Iterator<Payload> {
+public final class RemoveHandlerIterator<Payload> implements CharacterizedIterator<Payload> {
 
 	private final Iterator<? extends Payload> iterator;
 
@@ -97,4 +97,26 @@ public final class RemoveHandlerIterator<Payload> implements Iterator<Payload> {
 		}
 	}
 
+	/**
+	 * Returns the characteristics of the given {@link Iterator}.
+	 * 
+	 * @return The characteristics.
+	 * @since 3.3.0
+	 */
+	@Override
+	public int characteristics() {
+		return CharacteristicsSupport.characteristics(iterator);
+	}
+
+	/**
+	 * Returns the estimated size of the given {@link Iterator}.
+	 * 
+	 * @return The estimated size.
+	 * @since 3.3.0
+	 */
+	@Override
+	public long estimateSize() {
+		return CharacteristicsSupport.estimateSize(iterator);
+	}
+
 }
@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterators;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+/**
+ * A {@link ReservoirSamplingIterator} is an {@link Iterator} that can be
+ * wrapped around a given {@link Iterator} and yields a uniform random sample
+ * of a given size of the values yielded by the given {@link Iterator}, without
+ * the need to know the amount of values in advance.
+ * 
+ * <p>
+ * The sample is drawn, when {@link ReservoirSamplingIterator#hasNext()} or
+ * {@link ReservoirSamplingIterator#next()} is called for the first time, by
+ * consuming the given {@link Iterator} with Algorithm L. Only the sample is
+ * held in memory and, instead of testing every value, Algorithm L calculates
+ * the amount of values to be skipped before the next value is to be included
+ * in the sample, such that the {@link Random} is only used a few times per
+ * included value. If the given {@link Iterator} is an
+ * {@link AbstractIndexedIterator} or an {@link AbstractLongIndexedIterator},
+ * skipped values are skipped in constant time without being retrieved.
+ * 
+ * <p>
+ * The values of the sample are yielded in no particular order. If the given
+ * {@link Iterator} yields less values than the size of the sample, all values
+ * are yielded.
+ * 
+ * @param <Payload>
+ *            The payload type.
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 3.3.0
+ */
+public final class ReservoirSamplingIterator<Payload> extends AbstractProtectedIterator<Payload> {
+
+	private final Iterator<? extends Payload> iterator;
+
+	private final int sampleSize;
+
+	private final Random random;
+
+	private List<Payload> sample;
+
+	private int index;
+
+	/**
+	 * Creates a new {@link ReservoirSamplingIterator}.
+	 * 
+	 * @param iterator
+	 *            The {@link Iterator} to iterate over.
+	 * @param sampleSize
+	 *            The size of the sample.
+	 * @throws IllegalArgumentException
+	 *             If the given {@link Iterator} is {@literal null} or if the
+	 *             given sample size is not positive.
+	 */
+	public ReservoirSamplingIterator(Iterator<? extends Payload> iterator, int sampleSize)
+			throws IllegalArgumentException {
+		this(iterator, sampleSize, new Random());
+	}
+
+	/**
+	 * Creates a new {@link ReservoirSamplingIterator}.
+	 * 
+	 * @param iterator
+	 *            The {@link Iterator} to iterate over.
+	 * @param sampleSize
+	 *            The size of the sample.
+	 * @param random
+	 *            The {@link Random} to be used.
+	 * @throws IllegalArgumentException
+	 *             If the given {@link Iterator} is {@literal null}, if the
+	 *             given sample size is not positive or if the given
+	 *             {@link Random} is {@literal null}.
+	 */
+	public ReservoirSamplingIterator(Iterator<? extends Payload> iterator, int sampleSize, Random random)
+			throws IllegalArgumentException {
+		if (null == iterator) {
+			throw new IllegalArgumentException("The given iterator is null");
+		} else if (sampleSize < 1) {
+			throw new IllegalArgumentException("The given sample size is not positive: " + sampleSize);
+		} else if (null == random) {
+			throw new IllegalArgumentException("The given random is null");
+		}
+		this.iterator = iterator;
+		this.sampleSize = sampleSize;
+		this.random = random;
+	}
+
+	@Override
+	public boolean hasNext() {
+		if (null == sample) {
+			sample = drawSample();
+		}
+		return index < sample.size();
+	}
+
+	private List<Payload> drawSample() {
+		List<Payload> sample = new ArrayList<Payload>(Math.min(sampleSize, 16));
+		while (sample.size() < sampleSize && iterator.hasNext()) {
+			sample.add(iterator.next());
+		}
+		if (sample.size() == sampleSize) {
+			double weight = Math.exp(Math.log(nextRandom()) / sampleSize);
+			while (true) {
+				long gap = (long) Math.floor(Math.log(nextRandom()) / Math.log(1 - weight));
+				SkipSupport.skip(iterator, gap);
+				if (!iterator.hasNext()) {
+					break;
+				}
+				sample.set(random.nextInt(sampleSize), iterator.next());
+				weight *= Math.exp(Math.log(nextRandom()) / sampleSize);
+			}
+		}
+		return sample;
+	}
+
+	private double nextRandom() {
+		return 1 - random.nextDouble();
+	}
+
+	@Override
+	public Payload next() throws NoSuchElementException {
+		if (!hasNext()) {
+			throw new NoSuchElementException("This iterator has no next element");
+		} else {
+			Payload next = sample.get(index);
+			sample.set(index++, null);
+			return next;
+		}
+	}
+
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterators;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+/**
+ * A {@link SamplingIterator} is an {@link Iterator} that can be wrapped around
+ * a given {@link Iterator} and only yields a sample of the values yielded by
+ * the given {@link Iterator}.
+ * 
+ * <p>
+ * A {@link SamplingIterator} either yields every value with a given
+ * probability (Bernoulli sampling) or every n-th value (stride sampling).
+ * Instead of testing every value, a {@link SamplingIterator} calculates the
+ * amount of values to be skipped before the next value is to be yielded. A
+ * Bernoulli sampling therefore only uses the {@link Random} once per yielded
+ * value, which has the same effect as testing every value.
+ * 
+ * <p>
+ * A {@link SamplingIterator} is created with
+ * {@link SamplingIterator#withProbability(Iterator, double)} or
+ * {@link SamplingIterator#everyNth(Iterator, int)}.
+ * 
+ * <p>
+ * If the given {@link Iterator} is an {@link AbstractIndexedIterator} or an
+ * {@link AbstractLongIndexedIterator}, skipped values are skipped in constant
+ * time without being retrieved.
+ * 
+ * @param <Payload>
+ *            The payload type.
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 3.3.0
+ */
+public final class SamplingIterator<Payload> extends AbstractProtectedIterator<Payload> {
+
+	private final Iterator<? extends Payload> iterator;
+
+	private final Random random;
+
+	private final double logComplement;
+
+	private final int stride;
+
+	private boolean nextPrepared;
+
+	private boolean first = true;
+
+	private SamplingIterator(Iterator<? extends Payload> iterator, Random random, double logComplement, int stride) {
+		this.iterator = iterator;
+		this.random = random;
+		this.logComplement = logComplement;
+		this.stride = stride;
+	}
+
+	/**
+	 * Creates a new {@link SamplingIterator} that yields every value with the
+	 * given probability.
+	 * 
+	 * @param <Payload>
+	 *            The payload type.
+	 * @param iterator
+	 *            The {@link Iterator} to iterate over.
+	 * @param probability
+	 *            The probability for every value to be yielded.
+	 * @return The new {@link SamplingIterator}.
+	 * @throws IllegalArgumentException
+	 *             If the given {@link Iterator} is {@literal null} or if the
+	 *             given probability is not larger than zero and at most one.
+	 */
+	public static <Payload> SamplingIterator<Payload> withProbability(Iterator<? extends Payload> iterator,
+			double probability) throws IllegalArgumentException {
+		return withProbability(iterator, probability, new Random());
+	}
+
+	/**
+	 * Creates a new {@link SamplingIterator} that yields every value with the
+	 * given probability.
+	 * 
+	 * @param <Payload>
+	 *            The payload type.
+	 * @param iterator
+	 *            The {@link Iterator} to iterate over.
+	 * @param probability
+	 *            The probability for every value to be yielded.
+	 * @param random
+	 *            The {@link Random} to be used.
+	 * @return The new {@link SamplingIterator}.
+	 * @throws IllegalArgumentException
+	 *             If the given {@link Iterator} is {@literal null}, if the
+	 *             given probability is not larger than zero and at most one or
+	 *             if the given {@link Random} is {@literal null}.
+	 */
+	public static <Payload> SamplingIterator<Payload> withProbability(Iterator<? extends Payload> iterator,
+			double probability, Random random) throws IllegalArgumentException {
+		if (null == iterator) {
+			throw new IllegalArgumentException("The given iterator is null");
+		} else if (!(probability > 0 && probability <= 1)) {
+			throw new IllegalArgumentException("The given probability is not in (0, 1]: " + probability);
+		} else if (null == random) {
+			throw new IllegalArgumentException("The given random is null");
+		}
+		return new SamplingIterator<Payload>(iterator, random, Math.log(1 - probability), 0);
+	}
+
+	/**
+	 * Creates a new {@link SamplingIterator} that yields the first value and
+	 * every n-th value thereafter.
+	 * 
+	 * @param <Payload>
+	 *            The payload type.
+	 * @param iterator
+	 *            The {@link Iterator} to iterate over.
+	 * @param stride
+	 *            The distance between two yielded values, which is {@literal 1}
+	 *            to yield every value.
+	 * @return The new {@link SamplingIterator}.
+	 * @throws IllegalArgumentException
+	 *             If the given {@link Iterator} is {@literal null} or if the
+	 *             given stride is not positive.
+	 */
+	public static <Payload> SamplingIterator<Payload> everyNth(Iterator<? extends Payload> iterator, int stride)
+			throws IllegalArgumentException {
+		if (null == iterator) {
+			throw new IllegalArgumentException("The given iterator is null");
+		} else if (stride < 1) {
+			throw new IllegalArgumentException("The given stride is not positive: " + stride);
+		}
+		return new SamplingIterator<Payload>(iterator, null, 0, stride);
+	}
+
+	@Override
+	public boolean hasNext() {
+		if (!nextPrepared) {
+			SkipSupport.skip(iterator, nextGap());
+			nextPrepared = true;
+		}
+		return iterator.hasNext();
+	}
+
+	private long nextGap() {
+		if (null == random) {
+			if (first) {
+				first = false;
+				return 0;
+			} else {
+				return stride - 1;
+			}
+		} else {
+			return (long) Math.floor(Math.log(1 - random.nextDouble()) / logComplement);
+		}
+	}
+
+	@Override
+	public Payload next() throws NoSuchElementException {
+		if (!hasNext()) {
+			throw new NoSuchElementException("This iterator has no next element");
+		} else {
+			nextPrepared = false;
+			return iterator.next();
+		}
+	}
+
+}
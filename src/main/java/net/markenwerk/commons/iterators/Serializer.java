@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterators;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * A {@link Serializer} writes payload values to a {@link DataOutput} and reads
+ * them back from a {@link DataInput}. It is used by iterators that spill
+ * payload values to disk.
+ * 
+ * @param <Payload>
+ *            The payload type.
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 3.3.0
+ */
+public interface Serializer<Payload> {
+
+	/**
+	 * Writes the given payload value to the given {@link DataOutput}.
+	 * 
+	 * @param payload
+	 *            The payload value to be written. May be {@literal null}.
+	 * @param output
+	 *            The {@link DataOutput} to write to.
+	 * @throws IOException
+	 *             If writing the given payload value failed.
+	 */
+	public void serialize(Payload payload, DataOutput output) throws IOException;
+
+	/**
+	 * Reads a payload value, that has been written with
+	 * {@link Serializer#serialize(Object, DataOutput)}, from the given
+	 * {@link DataInput}.
+	 * 
+	 * @param input
+	 *            The {@link DataInput} to read from.
+	 * @return The payload value. May be {@literal null}.
+	 * @throws IOException
+	 *             If reading a payload value failed.
+	 */
+	public Payload deserialize(DataInput input) throws IOException;
+
+}
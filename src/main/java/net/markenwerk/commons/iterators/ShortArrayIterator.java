@@ -53,9 +53,42 @@ public final class ShortArrayIterator extends AbstractIndexedIterator<Short> {
 		return array.length;
 	}
 
+	/**
+	 * Transfers up to the given amount of remaining {@code short} values into
+	 * the given {@code short[]}, starting at the given offset, and moves this
+	 * {@link ShortArrayIterator} behind the transferred values.
+	 * 
+	 * @param destination
+	 *            The {@code short[]} to transfer the values into.
+	 * @param offset
+	 *            The offset of the first transferred value in the given
+	 *            {@code short[]}.
+	 * @param length
+	 *            The maximum amount of values to be transferred.
+	 * @return The amount of transferred values, which is smaller than the
+	 *         given length, if less values remain.
+	 * @throws IllegalArgumentException
+	 *             If the given {@code short[]} is {@literal null}, if the
+	 *             given offset or the given length is negative or if the given
+	 *             range exceeds the given {@code short[]}.
+	 * @since 3.3.0
+	 */
+	public int drainTo(short[] destination, int offset, int length) throws IllegalArgumentException {
+		DrainSupport.checkRange(destination, offset, length);
+		int count = (int) Math.min(length, remaining());
+		System.arraycopy(array, getIndex(), destination, offset, count);
+		skip(count);
+		return count;
+	}
+
 	@Override
 	public Short get(int index) {
 		return array[index];
 	}
 
+	@Override
+	public int characteristics() {
+		return super.characteristics() | NONNULL;
+	}
+
 }
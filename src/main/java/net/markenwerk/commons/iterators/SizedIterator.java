@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterators;
+
+/**
+ * A {@link SizedIterator} is a {@link CharacterizedIterator} that always knows
+ * the exact amount of values it will yield.
+ * 
+ * <p>
+ * A {@link SizedIterator} is always {@link CharacterizedIterator#SIZED sized}
+ * and its {@link SizedIterator#estimateSize() estimated size} is always equal
+ * to the {@link SizedIterator#remaining() remaining} amount of values. This
+ * allows to create collections or arrays of the exact size, before the values
+ * are retrieved.
+ * 
+ * @param <Payload>
+ *            The payload type.
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 3.3.0
+ */
+public interface SizedIterator<Payload> extends CharacterizedIterator<Payload> {
+
+	/**
+	 * Returns the exact amount of values that this {@link SizedIterator} will
+	 * yield.
+	 * 
+	 * @return The amount of remaining values.
+	 */
+	public long remaining();
+
+}
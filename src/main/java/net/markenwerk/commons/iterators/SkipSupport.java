@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterators;
+
+import java.util.Iterator;
+
+/**
+ * {@link SkipSupport} skips elements of an {@link Iterator} in constant time,
+ * if the {@link Iterator} is an {@link AbstractIndexedIterator} or an
+ * {@link AbstractLongIndexedIterator}, and element by element otherwise.
+ * 
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 3.3.0
+ */
+final class SkipSupport {
+
+	private SkipSupport() {
+	}
+
+	/**
+	 * Skips up to the given amount of elements of the given {@link Iterator}.
+	 */
+	static void skip(Iterator<?> iterator, long count) {
+		if (iterator instanceof AbstractIndexedIterator) {
+			((AbstractIndexedIterator<?>) iterator).skip((int) Math.min(count, Integer.MAX_VALUE));
+		} else if (iterator instanceof AbstractLongIndexedIterator) {
+			((AbstractLongIndexedIterator<?>) iterator).skip(count);
+		} else {
+			for (long i = 0; i < count && iterator.hasNext(); i++) {
+				iterator.next();
+			}
+		}
+	}
+
+}
@@ -0,0 +1,432 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterators;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * A {@link SortingIterator} is an {@link AbstractProtectedIterator} that can
+ * be wrapped around a given {@link Iterator} and yields all values yielded by
+ * the given {@link Iterator} in ascending order, according to a given
+ * {@link Comparator}, even if not all values fit into memory.
+ * 
+ * <p>
+ * The values are sorted, when {@link SortingIterator#hasNext()} or
+ * {@link SortingIterator#next()} is called for the first time, by consuming
+ * the given {@link Iterator} in runs of values up to a given memory limit.
+ * Every run is sorted and, unless it is the last run, spilled to a temporary
+ * file with a given {@link Serializer}. The sorted runs are then merged with a
+ * {@link MergingIterator}. Sorted runs are read back block by block, such
+ * that, while merging, the values of the last run and one block of values
+ * per spilled run are held in memory. If there are more spilled runs than
+ * blocks of values fit into the given memory limit, but at least two, groups
+ * of adjacent spilled runs are merged into a new temporary file, in as many
+ * passes as necessary, before the final merge. While merging, at most the
+ * values of the last run and as many values as fit into the given memory limit
+ * (or two blocks of values, if that is more) are therefore held in memory. The
+ * temporary file is deleted, as soon as the {@link SortingIterator} has no
+ * next element or when {@link SortingIterator#close()} is called.
+ * 
+ * <p>
+ * If an {@link ExecutorService} is given, every sufficiently large run is split
+ * into slices that are sorted by the given {@link ExecutorService} and merged
+ * alongside the other runs.
+ * 
+ * <p>
+ * The sort is stable, i.e. values that are equal, according to the given
+ * {@link Comparator}, are yielded in the order they have been yielded by the
+ * given {@link Iterator}.
+ * 
+ * @param <Payload>
+ *            The payload type.
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 3.3.0
+ */
+public final class SortingIterator<Payload> extends AbstractProtectedIterator<Payload> implements Closeable {
+
+	private static final int BLOCK_SIZE = 1024;
+
+	private static final int MINIMUM_SLICE_SIZE = 8192;
+
+	private final Iterator<? extends Payload> iterator;
+
+	private final Comparator<? super Payload> comparator;
+
+	private final int memoryLimit;
+
+	private final ExecutorService executor;
+
+	private final Serializer<Payload> serializer;
+
+	private SpillFile<Payload> spillFile;
+
+	private final Object[] block = new Object[BLOCK_SIZE];
+
+	private Iterator<Payload> merged;
+
+	private boolean closed;
+
+	/**
+	 * Creates a new {@link SortingIterator}.
+	 * 
+	 * @param iterator
+	 *            The {@link Iterator} to iterate over.
+	 * @param comparator
+	 *            The {@link Comparator} to be used.
+	 * @param memoryLimit
+	 *            The amount of values to be sorted in memory at once.
+	 * @param serializer
+	 *            The {@link Serializer} to be used to spill values.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link Iterator} is {@literal null}, if the
+	 *             given {@link Comparator} is {@literal null}, if the given
+	 *             memory limit is not positive or if the given
+	 *             {@link Serializer} is {@literal null}.
+	 */
+	public SortingIterator(Iterator<? extends Payload> iterator, Comparator<? super Payload> comparator,
+			int memoryLimit, Serializer<Payload> serializer) throws IllegalArgumentException {
+		this(iterator, comparator, memoryLimit, serializer, null);
+	}
+
+	/**
+	 * Creates a new {@link SortingIterator}.
+	 * 
+	 * @param iterator
+	 *            The {@link Iterator} to iterate over.
+	 * @param comparator
+	 *            The {@link Comparator} to be used.
+	 * @param memoryLimit
+	 *            The amount of values to be sorted in memory at once.
+	 * @param serializer
+	 *            The {@link Serializer} to be used to spill values.
+	 * @param executor
+	 *            The {@link ExecutorService} to sort slices of runs with, or
+	 *            {@literal null}, to sort all runs in the calling thread.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link Iterator} is {@literal null}, if the
+	 *             given {@link Comparator} is {@literal null}, if the given
+	 *             memory limit is not positive or if the given
+	 *             {@link Serializer} is {@literal null}.
+	 */
+	public SortingIterator(Iterator<? extends Payload> iterator, Comparator<? super Payload> comparator,
+			int memoryLimit, Serializer<Payload> serializer, ExecutorService executor)
+			throws IllegalArgumentException {
+		if (null == iterator) {
+			throw new IllegalArgumentException("The given iterator is null");
+		} else if (null == comparator) {
+			throw new IllegalArgumentException("The given comparator is null");
+		} else if (memoryLimit < 1) {
+			throw new IllegalArgumentException("The given memory limit is not positive: " + memoryLimit);
+		} else if (null == serializer) {
+			throw new IllegalArgumentException("The given serializer is null");
+		}
+		this.iterator = iterator;
+		this.comparator = comparator;
+		this.memoryLimit = memoryLimit;
+		this.executor = executor;
+		this.serializer = serializer;
+		this.spillFile = new SpillFile<Payload>(serializer);
+	}
+
+	@Override
+	public boolean hasNext() throws SpillException {
+		if (closed) {
+			return false;
+		} else {
+			if (null == merged) {
+				try {
+					merged = new MergingIterator<Payload>(comparator, sortRuns());
+				} catch (RuntimeException e) {
+					close();
+					throw e;
+				}
+			}
+			if (merged.hasNext()) {
+				return true;
+			} else {
+				close();
+				return false;
+			}
+		}
+	}
+
+	private List<Iterator<Payload>> sortRuns() {
+		List<Iterator<Payload>> runs = new ArrayList<Iterator<Payload>>();
+		Object[] run = new Object[CharacteristicsSupport.capacity(iterator, memoryLimit, BLOCK_SIZE)];
+		while (true) {
+			int count = 0;
+			while (count < memoryLimit && iterator.hasNext()) {
+				if (count == run.length) {
+					run = Arrays.copyOf(run, (int) Math.min(memoryLimit, 2L * count));
+				}
+				run[count++] = iterator.next();
+			}
+			PipelineListener listener = PipelineEvents.getListener();
+			long startTime = null == listener ? 0 : System.nanoTime();
+			int[] bounds = sortSlices(run, count);
+			if (null != listener) {
+				listener.onChunkProcessed(this, count, System.nanoTime() - startTime);
+			}
+			if (iterator.hasNext()) {
+				for (int i = 0; i < bounds.length - 1; i++) {
+					runs.add(spill(run, bounds[i], bounds[i + 1]));
+				}
+				Arrays.fill(run, 0, count, null);
+			} else {
+				runs = mergeSpilledRuns(runs);
+				for (int i = 0; i < bounds.length - 1; i++) {
+					runs.add(new MemorySlice<Payload>(run, bounds[i], bounds[i + 1]));
+				}
+				return runs;
+			}
+		}
+	}
+
+	private List<Iterator<Payload>> mergeSpilledRuns(List<Iterator<Payload>> runs) {
+		int fanIn = Math.max(2, memoryLimit / BLOCK_SIZE);
+		while (runs.size() > fanIn) {
+			SpillFile<Payload> previousSpillFile = spillFile;
+			spillFile = new SpillFile<Payload>(serializer);
+			List<Iterator<Payload>> mergedRuns = new ArrayList<Iterator<Payload>>();
+			try {
+				for (int from = 0; from < runs.size(); from += fanIn) {
+					List<Iterator<Payload>> group = runs.subList(from, Math.min(runs.size(), from + fanIn));
+					mergedRuns.add(spill(new MergingIterator<Payload>(comparator, group)));
+				}
+			} finally {
+				previousSpillFile.delete();
+			}
+			runs = mergedRuns;
+		}
+		return runs;
+	}
+
+	private int[] sortSlices(Object[] run, int count) {
+		int slices = 1;
+		if (null != executor) {
+			slices = Math.max(1, Math.min(Runtime.getRuntime().availableProcessors(), count / MINIMUM_SLICE_SIZE));
+		}
+		int[] bounds = new int[slices + 1];
+		for (int i = 0; i <= slices; i++) {
+			bounds[i] = (int) ((long) count * i / slices);
+		}
+		if (1 == slices) {
+			new SliceSort<Payload>(run, 0, count, comparator).call();
+		} else {
+			List<Future<Void>> sorts = new ArrayList<Future<Void>>(slices);
+			for (int i = 0; i < slices; i++) {
+				sorts.add(executor.submit(new SliceSort<Payload>(run, bounds[i], bounds[i + 1], comparator)));
+			}
+			FutureSupport.awaitAll(sorts);
+		}
+		return bounds;
+	}
+
+	private Iterator<Payload> spill(Object[] run, int from, int to) {
+		PipelineListener listener = PipelineEvents.getListener();
+		long startTime = null == listener ? 0 : System.nanoTime();
+		long startLength = spillFile.length();
+		List<Long> blockPositions = new ArrayList<Long>();
+		blockPositions.add(startLength);
+		for (int offset = from; offset < to; offset += BLOCK_SIZE) {
+			int length = Math.min(BLOCK_SIZE, to - offset);
+			System.arraycopy(run, offset, block, 0, length);
+			spillFile.append(block, length);
+			blockPositions.add(spillFile.length());
+		}
+		Arrays.fill(block, null);
+		if (null != listener) {
+			listener.onSpilled(this, to - from, spillFile.length() - startLength, System.nanoTime() - startTime);
+		}
+		return new SpilledSlice(spillFile, blockPositions, to - from);
+	}
+
+	private Iterator<Payload> spill(Iterator<Payload> values) {
+		PipelineListener listener = PipelineEvents.getListener();
+		long startTime = null == listener ? 0 : System.nanoTime();
+		long startLength = spillFile.length();
+		List<Long> blockPositions = new ArrayList<Long>();
+		blockPositions.add(startLength);
+		long count = 0;
+		while (values.hasNext()) {
+			int length = 0;
+			while (length < BLOCK_SIZE && values.hasNext()) {
+				block[length++] = values.next();
+			}
+			spillFile.append(block, length);
+			blockPositions.add(spillFile.length());
+			count += length;
+		}
+		Arrays.fill(block, null);
+		if (null != listener) {
+			listener.onSpilled(this, count, spillFile.length() - startLength, System.nanoTime() - startTime);
+		}
+		return new SpilledSlice(spillFile, blockPositions, count);
+	}
+
+	@Override
+	public Payload next() throws NoSuchElementException, SpillException {
+		if (!hasNext()) {
+			throw new NoSuchElementException("This iterator has no next element");
+		} else {
+			return merged.next();
+		}
+	}
+
+	/**
+	 * Deletes the temporary file that values have been spilled to. Values that
+	 * have not yet been yielded, can't be yielded afterwards.
+	 * 
+	 * @throws SpillException
+	 *             If closing the temporary file failed.
+	 */
+	@Override
+	public void close() throws SpillException {
+		if (!closed) {
+			closed = true;
+			spillFile.delete();
+		}
+	}
+
+	private static final class SliceSort<Payload> implements Callable<Void> {
+
+		private final Object[] run;
+
+		private final int from;
+
+		private final int to;
+
+		private final Comparator<? super Payload> comparator;
+
+		public SliceSort(Object[] run, int from, int to, Comparator<? super Payload> comparator) {
+			this.run = run;
+			this.from = from;
+			this.to = to;
+			this.comparator = comparator;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public Void call() {
+			Arrays.sort((Payload[]) run, from, to, comparator);
+			return null;
+		}
+
+	}
+
+	private static final class MemorySlice<Payload> extends AbstractProtectedIterator<Payload> {
+
+		private final Object[] run;
+
+		private final int to;
+
+		private int index;
+
+		public MemorySlice(Object[] run, int from, int to) {
+			this.run = run;
+			this.index = from;
+			this.to = to;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return index < to;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public Payload next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException("This iterator has no next element");
+			} else {
+				Payload value = (Payload) run[index];
+				run[index++] = null;
+				return value;
+			}
+		}
+
+	}
+
+	private final class SpilledSlice extends AbstractProtectedIterator<Payload> {
+
+		private final SpillFile<Payload> spillFile;
+
+		private final List<Long> blockPositions;
+
+		private Object[] values;
+
+		private long remaining;
+
+		private int blockIndex;
+
+		private int blockOffset;
+
+		private int blockLength;
+
+		public SpilledSlice(SpillFile<Payload> spillFile, List<Long> blockPositions, long remaining) {
+			this.spillFile = spillFile;
+			this.blockPositions = blockPositions;
+			this.remaining = remaining;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return blockOffset < blockLength || 0 != remaining;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public Payload next() throws SpillException {
+			if (!hasNext()) {
+				throw new NoSuchElementException("This iterator has no next element");
+			} else {
+				if (blockOffset == blockLength) {
+					if (null == values) {
+						values = new Object[BLOCK_SIZE];
+					}
+					blockLength = (int) Math.min(BLOCK_SIZE, remaining);
+					blockOffset = 0;
+					spillFile.read(blockPositions.get(blockIndex), blockPositions.get(blockIndex + 1), values,
+							blockLength);
+					remaining -= blockLength;
+					blockIndex++;
+				}
+				Payload value = (Payload) values[blockOffset];
+				values[blockOffset++] = null;
+				return value;
+			}
+		}
+
+	}
+
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterators;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * A {@link SpillFile} is a temporary file that blocks of serialized payload
+ * values can be appended to and read back from.
+ * 
+ * @param <Payload>
+ *            The payload type.
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 3.3.0
+ */
+final class SpillFile<Payload> {
+
+	private final Serializer<Payload> serializer;
+
+	private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+	private final DataOutputStream output = new DataOutputStream(bytes);
+
+	private File file;
+
+	private RandomAccessFile randomAccessFile;
+
+	private FileChannel channel;
+
+	private long length;
+
+	private boolean deleted;
+
+	SpillFile(Serializer<Payload> serializer) {
+		this.serializer = serializer;
+	}
+
+	/**
+	 * Appends the given amount of payload values from the given array and
+	 * returns the position of the appended block.
+	 */
+	long append(Object[] values, int count) throws SpillException {
+		checkNotDeleted();
+		try {
+			open();
+			bytes.reset();
+			for (int i = 0; i < count; i++) {
+				serializer.serialize(cast(values[i]), output);
+			}
+			output.flush();
+			ByteBuffer buffer = ByteBuffer.wrap(bytes.toByteArray());
+			long position = length;
+			while (buffer.hasRemaining()) {
+				length += channel.write(buffer, length);
+			}
+			return position;
+		} catch (IOException e) {
+			throw new SpillException("Failed to spill values to " + file, e);
+		}
+	}
+
+	/**
+	 * Reads the given amount of payload values from the block at the given
+	 * position, that ends at the given end position, into the given array.
+	 */
+	void read(long position, long end, Object[] values, int count) throws SpillException {
+		checkNotDeleted();
+		try {
+			ByteBuffer buffer = ByteBuffer.allocate((int) (end - position));
+			while (buffer.hasRemaining()) {
+				if (-1 == channel.read(buffer, position + buffer.position())) {
+					throw new IOException("Unexpected end of file");
+				}
+			}
+			DataInputStream input = new DataInputStream(new ByteArrayInputStream(buffer.array()));
+			for (int i = 0; i < count; i++) {
+				values[i] = serializer.deserialize(input);
+			}
+		} catch (IOException e) {
+			throw new SpillException("Failed to read spilled values from " + file, e);
+		}
+	}
+
+	/**
+	 * Returns the current length of this {@link SpillFile}.
+	 */
+	long length() {
+		return length;
+	}
+
+	/**
+	 * Closes and deletes this {@link SpillFile}. Appending to or reading from
+	 * this {@link SpillFile} afterwards fails with an
+	 * {@link IllegalStateException}.
+	 */
+	void delete() throws SpillException {
+		deleted = true;
+		if (null != file) {
+			try {
+				randomAccessFile.close();
+			} catch (IOException e) {
+				throw new SpillException("Failed to close " + file, e);
+			} finally {
+				file.delete();
+				file = null;
+				randomAccessFile = null;
+				channel = null;
+			}
+		}
+	}
+
+	private void checkNotDeleted() throws IllegalStateException {
+		if (deleted) {
+			throw new IllegalStateException("The spill file has already been deleted");
+		}
+	}
+
+	private void open() throws IOException {
+		if (null == file) {
+			file = File.createTempFile("commons-iterators-", ".spill");
+			file.deleteOnExit();
+			randomAccessFile = new RandomAccessFile(file, "rw");
+			channel = randomAccessFile.getChannel();
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private Payload cast(Object value) {
+		return (Payload) value;
+	}
+
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterators;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A {@link SplittableRandomIterator} is an {@link AbstractProtectedIterator}
+ * and a {@link LongIterator} that infinitely yields pseudorandom {@code long}
+ * values.
+ * 
+ * <p>
+ * The values are generated with the SplitMix64 algorithm, which is also used
+ * by {@code java.util.SplittableRandom}. A {@link SplittableRandomIterator}
+ * can be split into {@link SplittableRandomIterator
+ * SplittableRandomIterators} that yield statistically independent values and
+ * can be used concurrently, i.e. to generate random values in multiple
+ * threads. All values yielded by a {@link SplittableRandomIterator} that has
+ * been created with a given seed, and by all
+ * {@link SplittableRandomIterator SplittableRandomIterators} split off from
+ * it, only depend on that seed and on the order of the calls to
+ * {@link SplittableRandomIterator#next()},
+ * {@link SplittableRandomIterator#nextLong()} and
+ * {@link SplittableRandomIterator#split()}.
+ * 
+ * <p>
+ * A {@link SplittableRandomIterator} itself is not thread-safe.
+ * 
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 3.3.0
+ */
+public final class SplittableRandomIterator extends AbstractProtectedIterator<Long> implements LongIterator,
+		CharacterizedIterator<Long> {
+
+	private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+	private static final AtomicLong SEEDER = new AtomicLong(mix64(System.currentTimeMillis())
+			^ mix64(System.nanoTime()));
+
+	private final long gamma;
+
+	private long seed;
+
+	/**
+	 * Creates a new {@link SplittableRandomIterator} with a seed that is
+	 * likely to differ from the seed of every other
+	 * {@link SplittableRandomIterator}.
+	 */
+	public SplittableRandomIterator() {
+		this(mix64(SEEDER.getAndAdd(GOLDEN_GAMMA)));
+	}
+
+	/**
+	 * Creates a new {@link SplittableRandomIterator} with the given seed.
+	 * 
+	 * @param seed
+	 *            The seed to be used.
+	 */
+	public SplittableRandomIterator(long seed) {
+		this(seed, GOLDEN_GAMMA);
+	}
+
+	private SplittableRandomIterator(long seed, long gamma) {
+		this.seed = seed;
+		this.gamma = gamma;
+	}
+
+	@Override
+	public boolean hasNext() {
+		return true;
+	}
+
+	@Override
+	public Long next() {
+		return nextLong();
+	}
+
+	@Override
+	public long nextLong() throws NoSuchElementException {
+		return mix64(nextSeed());
+	}
+
+	/**
+	 * Splits off a {@link SplittableRandomIterator} that yields values which
+	 * are statistically independent of the values yielded by this
+	 * {@link SplittableRandomIterator}.
+	 * 
+	 * @return The split off {@link SplittableRandomIterator}.
+	 */
+	public SplittableRandomIterator split() {
+		return new SplittableRandomIterator(nextLong(), mixGamma(nextSeed()));
+	}
+
+	private long nextSeed() {
+		return seed += gamma;
+	}
+
+	private static long mix64(long value) {
+		value = (value ^ (value >>> 30)) * 0xbf58476d1ce4e5b9L;
+		value = (value ^ (value >>> 27)) * 0x94d049bb133111ebL;
+		return value ^ (value >>> 31);
+	}
+
+	private static long mixGamma(long value) {
+		value = (value ^ (value >>> 33)) * 0xff51afd7ed558ccdL;
+		value = (value ^ (value >>> 33)) * 0xc4ceb9fe1a85ec53L;
+		value = (value ^ (value >>> 33)) | 1L;
+		return Long.bitCount(value ^ (value >>> 1)) < 24 ? value ^ 0xaaaaaaaaaaaaaaaaL : value;
+	}
+
+	/**
+	 * Returns the characteristics of this {@link SplittableRandomIterator}.
+	 * 
+	 * @return The characteristics, which are
+	 *         {@link CharacterizedIterator#NONNULL non-null}.
+	 */
+	@Override
+	public int characteristics() {
+		return NONNULL;
+	}
+
+	/**
+	 * Returns {@link Long#MAX_VALUE}, because a
+	 * {@link SplittableRandomIterator} yields values infinitely.
+	 * 
+	 * @return {@link Long#MAX_VALUE}.
+	 */
+	@Override
+	public long estimateSize() {
+		return Long.MAX_VALUE;
+	}
+
+}
@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterators;
+
+/**
+ * A {@link StageSnapshot} is an immutable snapshot of the statistics collected
+ * by a {@link StageStatistics}.
+ * 
+ * <p>
+ * All durations are given in nanoseconds and are extrapolated from the timed
+ * calls. Durations recorded by an {@link InstrumentedIterator} include the
+ * time spent in all preceding stages of the pipeline.
+ * 
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 3.3.0
+ */
+public final class StageSnapshot {
+
+	private final String name;
+
+	private final long hasNextCalls;
+
+	private final long hasNextNanos;
+
+	private final long nextCalls;
+
+	private final long nextNanos;
+
+	private final long tests;
+
+	private final long satisfiedTests;
+
+	private final long testNanos;
+
+	private final long conversions;
+
+	private final long conversionNanos;
+
+	StageSnapshot(String name, long hasNextCalls, long hasNextNanos, long nextCalls, long nextNanos, long tests,
+			long satisfiedTests, long testNanos, long conversions, long conversionNanos) {
+		this.name = name;
+		this.hasNextCalls = hasNextCalls;
+		this.hasNextNanos = hasNextNanos;
+		this.nextCalls = nextCalls;
+		this.nextNanos = nextNanos;
+		this.tests = tests;
+		this.satisfiedTests = satisfiedTests;
+		this.testNanos = testNanos;
+		this.conversions = conversions;
+		this.conversionNanos = conversionNanos;
+	}
+
+	/**
+	 * Returns the name of the stage.
+	 * 
+	 * @return The name of the stage.
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Returns the amount of calls to {@link java.util.Iterator#hasNext()}.
+	 * 
+	 * @return The amount of calls to {@link java.util.Iterator#hasNext()}.
+	 */
+	public long getHasNextCalls() {
+		return hasNextCalls;
+	}
+
+	/**
+	 * Returns the time spent in {@link java.util.Iterator#hasNext()}.
+	 * 
+	 * @return The time spent in {@link java.util.Iterator#hasNext()}.
+	 */
+	public long getHasNextNanos() {
+		return hasNextNanos;
+	}
+
+	/**
+	 * Returns the amount of calls to {@link java.util.Iterator#next()}, which
+	 * is the amount of elements that passed the stage.
+	 * 
+	 * @return The amount of calls to {@link java.util.Iterator#next()}.
+	 */
+	public long getNextCalls() {
+		return nextCalls;
+	}
+
+	/**
+	 * Returns the time spent in {@link java.util.Iterator#next()}.
+	 * 
+	 * @return The time spent in {@link java.util.Iterator#next()}.
+	 */
+	public long getNextNanos() {
+		return nextNanos;
+	}
+
+	/**
+	 * Returns the amount of tested values.
+	 * 
+	 * @return The amount of tested values.
+	 */
+	public long getTests() {
+		return tests;
+	}
+
+	/**
+	 * Returns the amount of tested values that satisfied the predicate.
+	 * 
+	 * @return The amount of tested values that satisfied the predicate.
+	 */
+	public long getSatisfiedTests() {
+		return satisfiedTests;
+	}
+
+	/**
+	 * Returns the selectivity of the predicate, which is the ratio of tested
+	 * values that satisfied the predicate.
+	 * 
+	 * @return The selectivity, or {@link Double#NaN} if no value has been
+	 *         tested.
+	 */
+	public double getSelectivity() {
+		return 0 == tests ? Double.NaN : (double) satisfiedTests / tests;
+	}
+
+	/**
+	 * Returns the time spent in testing values.
+	 * 
+	 * @return The time spent in testing values.
+	 */
+	public long getTestNanos() {
+		return testNanos;
+	}
+
+	/**
+	 * Returns the amount of converted values.
+	 * 
+	 * @return The amount of converted values.
+	 */
+	public long getConversions() {
+		return conversions;
+	}
+
+	/**
+	 * Returns the time spent in converting values.
+	 * 
+	 * @return The time spent in converting values.
+	 */
+	public long getConversionNanos() {
+		return conversionNanos;
+	}
+
+	@Override
+	public String toString() {
+		return "StageSnapshot [name=" + name + ", hasNextCalls=" + hasNextCalls + ", hasNextNanos=" + hasNextNanos
+				+ ", nextCalls=" + nextCalls + ", nextNanos=" + nextNanos + ", tests=" + tests + ", satisfiedTests="
+				+ satisfiedTests + ", testNanos=" + testNanos + ", conversions=" + conversions
+				+ ", conversionNanos=" + conversionNanos + "]";
+	}
+
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterators;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A {@link StageStatistics} collects the statistics of a single stage of an
+ * iterator pipeline, that are recorded by an {@link InstrumentedIterator}, an
+ * {@link InstrumentedPredicate} or an {@link InstrumentedConverter}.
+ * 
+ * <p>
+ * All counters are updated atomically, such that a {@link StageStatistics} can
+ * be shared between threads. To keep the overhead low, only every n-th call of
+ * an operation is timed and the total time spent in an operation is
+ * extrapolated from the timed calls.
+ * 
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 3.3.0
+ */
+public final class StageStatistics {
+
+	private final String name;
+
+	private final OperationCounter hasNextCounter;
+
+	private final OperationCounter nextCounter;
+
+	private final OperationCounter testCounter;
+
+	private final OperationCounter conversionCounter;
+
+	private final AtomicLong satisfiedTests = new AtomicLong();
+
+	/**
+	 * Creates a new {@link StageStatistics}.
+	 * 
+	 * @param name
+	 *            The name of the stage.
+	 * @param samplingInterval
+	 *            The sampling interval to be used, which is the amount of calls
+	 *            of an operation per timed call.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given name is {@literal null} or if the given sampling
+	 *             interval is not positive.
+	 */
+	public StageStatistics(String name, int samplingInterval) throws IllegalArgumentException {
+		if (null == name) {
+			throw new IllegalArgumentException("The given name is null");
+		} else if (samplingInterval <= 0) {
+			throw new IllegalArgumentException("The given sampling interval is not positive: " + samplingInterval);
+		}
+		this.name = name;
+		hasNextCounter = new OperationCounter(samplingInterval);
+		nextCounter = new OperationCounter(samplingInterval);
+		testCounter = new OperationCounter(samplingInterval);
+		conversionCounter = new OperationCounter(samplingInterval);
+	}
+
+	/**
+	 * Returns the name of the stage.
+	 * 
+	 * @return The name of the stage.
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Creates a {@link StageSnapshot} of the current statistics. Counters are
+	 * read one after another, such that the {@link StageSnapshot} may be
+	 * slightly inconsistent, if the stage is used concurrently.
+	 * 
+	 * @return The {@link StageSnapshot}.
+	 */
+	public StageSnapshot snapshot() {
+		return new StageSnapshot(name, hasNextCounter.getCalls(), hasNextCounter.getEstimatedNanos(),
+				nextCounter.getCalls(), nextCounter.getEstimatedNanos(), testCounter.getCalls(),
+				satisfiedTests.get(), testCounter.getEstimatedNanos(), conversionCounter.getCalls(),
+				conversionCounter.getEstimatedNanos());
+	}
+
+	OperationCounter getHasNextCounter() {
+		return hasNextCounter;
+	}
+
+	OperationCounter getNextCounter() {
+		return nextCounter;
+	}
+
+	OperationCounter getTestCounter() {
+		return testCounter;
+	}
+
+	OperationCounter getConversionCounter() {
+		return conversionCounter;
+	}
+
+	void recordSatisfiedTest() {
+		satisfiedTests.incrementAndGet();
+	}
+
+}
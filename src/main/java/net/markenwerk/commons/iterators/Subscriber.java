@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterators;
+
+/**
+ * A {@link Subscriber} is a receiver of values that have been published by a
+ * {@link Publisher}, after it has signaled demand through a
+ * {@link Subscription}.
+ * 
+ * <p>
+ * This interface mirrors {@code java.util.concurrent.Flow.Subscriber} and the
+ * Reactive Streams {@code Subscriber} and follows the rules of the Reactive
+ * Streams specification, such that adapting it to either of them only
+ * requires to forward every method call.
+ * 
+ * @param <Payload>
+ *            The payload type.
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 3.3.0
+ */
+public interface Subscriber<Payload> {
+
+	/**
+	 * Called once, before any other method is called, with the
+	 * {@link Subscription} to signal demand with.
+	 * 
+	 * @param subscription
+	 *            The {@link Subscription}.
+	 */
+	public void onSubscribe(Subscription subscription);
+
+	/**
+	 * Called with the next value, if demand has been signaled.
+	 * 
+	 * @param payload
+	 *            The next value, which is never {@literal null}.
+	 */
+	public void onNext(Payload payload);
+
+	/**
+	 * Called once, if the {@link Publisher} failed. No further methods are
+	 * called afterwards.
+	 * 
+	 * @param throwable
+	 *            The cause of the failure.
+	 */
+	public void onError(Throwable throwable);
+
+	/**
+	 * Called once, if the {@link Publisher} has no further values. No further
+	 * methods are called afterwards.
+	 */
+	public void onComplete();
+
+}
@@ -0,0 +1,198 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterators;
+
+import java.io.Closeable;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * A {@link SubscribingIterator} is a {@link Subscriber} and an
+ * {@link Iterator} that yields all values that have been published to it.
+ * 
+ * <p>
+ * A {@link SubscribingIterator} signals demand for a given amount of values
+ * when it is subscribed to a {@link Publisher} and signals further demand
+ * whenever three quarters of that amount have been yielded. Because a
+ * {@link Publisher} only publishes values that have been requested, at most
+ * the given amount of values is held at any time.
+ * 
+ * <p>
+ * Calling {@link SubscribingIterator#hasNext()} or
+ * {@link SubscribingIterator#next()} blocks until a value has been published
+ * or the {@link Publisher} signaled completion or a failure. A failure is
+ * thrown as a {@link PublisherException}. Calling
+ * {@link SubscribingIterator#close()} cancels the {@link Subscription}.
+ * 
+ * @param <Payload>
+ *            The payload type.
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 3.3.0
+ */
+public final class SubscribingIterator<Payload> extends AbstractProtectedIterator<Payload> implements
+		Subscriber<Payload>, Closeable {
+
+	private static final Object COMPLETION = new Object();
+
+	private static final Subscription CLOSED = new Subscription() {
+
+		@Override
+		public void request(long count) {
+		}
+
+		@Override
+		public void cancel() {
+		}
+
+	};
+
+	private final AtomicReference<Subscription> subscription = new AtomicReference<Subscription>();
+
+	private final BlockingQueue<Object> signals = new LinkedBlockingQueue<Object>();
+
+	private final int prefetch;
+
+	private final int replenishment;
+
+	private int yielded;
+
+	private Object next;
+
+	/**
+	 * Creates a new {@link SubscribingIterator}.
+	 * 
+	 * @param prefetch
+	 *            The amount of values to signal demand for.
+	 * @throws IllegalArgumentException
+	 *             If the given prefetch is not positive.
+	 */
+	public SubscribingIterator(int prefetch) throws IllegalArgumentException {
+		if (prefetch < 1) {
+			throw new IllegalArgumentException("The given prefetch is not positive: " + prefetch);
+		}
+		this.prefetch = prefetch;
+		this.replenishment = Math.max(1, prefetch - prefetch / 4);
+	}
+
+	@Override
+	public void onSubscribe(Subscription subscription) throws NullPointerException {
+		if (null == subscription) {
+			throw new NullPointerException("The given subscription is null");
+		} else if (this.subscription.compareAndSet(null, subscription)) {
+			subscription.request(prefetch);
+		} else {
+			subscription.cancel();
+		}
+	}
+
+	@Override
+	public void onNext(Payload payload) throws NullPointerException {
+		if (null == payload) {
+			throw new NullPointerException("The given payload is null");
+		}
+		signals.add(payload);
+	}
+
+	@Override
+	public void onError(Throwable throwable) throws NullPointerException {
+		if (null == throwable) {
+			throw new NullPointerException("The given throwable is null");
+		}
+		signals.add(new Failure(throwable));
+	}
+
+	@Override
+	public void onComplete() {
+		signals.add(COMPLETION);
+	}
+
+	@Override
+	public boolean hasNext() throws PublisherException, IllegalStateException {
+		if (null == next) {
+			try {
+				next = signals.poll();
+				if (null == next) {
+					PipelineListener listener = PipelineEvents.getListener();
+					long startTime = null == listener ? 0 : System.nanoTime();
+					next = signals.take();
+					if (null != listener) {
+						listener.onPrefetchStalled(this, System.nanoTime() - startTime);
+					}
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException("Interrupted while waiting for the next element", e);
+			}
+		}
+		if (next instanceof Failure) {
+			throw new PublisherException("The publisher failed", ((Failure) next).throwable);
+		} else {
+			return COMPLETION != next;
+		}
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public Payload next() throws NoSuchElementException, PublisherException, IllegalStateException {
+		if (!hasNext()) {
+			throw new NoSuchElementException("This iterator has no next element");
+		} else {
+			Payload value = (Payload) next;
+			next = null;
+			if (++yielded == replenishment) {
+				yielded = 0;
+				Subscription subscription = this.subscription.get();
+				if (null != subscription) {
+					subscription.request(replenishment);
+				}
+			}
+			return value;
+		}
+	}
+
+	/**
+	 * Cancels the {@link Subscription}. Values that have already been
+	 * published can still be yielded.
+	 */
+	@Override
+	public void close() {
+		Subscription subscription = this.subscription.getAndSet(CLOSED);
+		if (null != subscription) {
+			subscription.cancel();
+		}
+		signals.add(COMPLETION);
+	}
+
+	private static final class Failure {
+
+		private final Throwable throwable;
+
+		public Failure(Throwable throwable) {
+			this.throwable = throwable;
+		}
+
+	}
+
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterators;
+
+/**
+ * A {@link Subscription} links a {@link Publisher} and a {@link Subscriber}
+ * and allows the {@link Subscriber} to signal demand or to cancel the
+ * {@link Subscription}.
+ * 
+ * <p>
+ * This interface mirrors {@code java.util.concurrent.Flow.Subscription} and
+ * the Reactive Streams {@code Subscription} and follows the rules of the
+ * Reactive Streams specification, such that adapting it to either of them
+ * only requires to forward every method call.
+ * 
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 3.3.0
+ */
+public interface Subscription {
+
+	/**
+	 * Adds the given amount of values to the demand of the {@link Subscriber}.
+	 * A non-positive amount causes the {@link Publisher} to signal an
+	 * {@link IllegalArgumentException} to the {@link Subscriber}.
+	 * 
+	 * @param count
+	 *            The amount of values.
+	 */
+	public void request(long count);
+
+	/**
+	 * Requests the {@link Publisher} to stop publishing values.
+	 */
+	public void cancel();
+
+}
@@ -39,7 +39,9 @@ import java.util.NoSuchElementException;
  * @author Torsten Krause (tk at markenwerk dot net)
  * @since 2.1.0
  */
-public final class SuffixedIterator<Payload> implements Iterator<Payload> {
+public final class SuffixedIterator<Payload> implements CharacterizedIterator<Payload> {
+
+	private static final int CHARACTERISTICS = ORDERED | SIZED | SUBSIZED | NONNULL | IMMUTABLE | CONCURRENT;
 
 	private final Iterator<? extends Payload> iterator;
 
@@ -111,4 +113,37 @@ public final class SuffixedIterator<Payload> implements Iterator<Payload> {
 		}
 	}
 
+	/**
+	 * Returns the characteristics of the given {@link Iterator}, except for
+	 * characteristics that depend on the values, like
+	 * {@link CharacterizedIterator#SORTED}, that can't be guaranteed in the
+	 * presence of suffixes.
+	 * 
+	 * @return The characteristics.
+	 * @since 3.3.0
+	 */
+	@Override
+	public int characteristics() {
+		int characteristics = CharacteristicsSupport.characteristics(iterator) & CHARACTERISTICS;
+		return CharacteristicsSupport.nonNull(suffixes) ? characteristics : characteristics & ~NONNULL;
+	}
+
+	/**
+	 * Returns the estimated size of the given {@link Iterator} plus the amount
+	 * of suffixes that remain to be yielded.
+	 * 
+	 * @return The estimated size.
+	 * @since 3.3.0
+	 */
+	@Override
+	public long estimateSize() {
+		long remainingSuffixes = 0;
+		if (suffixing) {
+			remainingSuffixes = suffixes.length - 1 - suffixIndex;
+		} else if (-1 == suffixIndex) {
+			remainingSuffixes = suffixes.length;
+		}
+		return CharacteristicsSupport.add(CharacteristicsSupport.estimateSize(iterator), remainingSuffixes);
+	}
+
 }
@@ -0,0 +1,216 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterators;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.NoSuchElementException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * A {@link TopKIterator} is an {@link Iterator} that can be wrapped around a
+ * given {@link Iterator} and yields the largest values, according to a given
+ * {@link Comparator}, of all values yielded by the given {@link Iterator}, up
+ * to a given amount, in descending order.
+ * 
+ * <p>
+ * The largest values are selected, when {@link TopKIterator#hasNext()} or
+ * {@link TopKIterator#next()} is called for the first time, by consuming the
+ * given {@link Iterator} and only keeping the largest values in a bounded
+ * heap. If multiple values are equal, the values that have been yielded
+ * earlier by the given {@link Iterator} are preferred and yielded first.
+ * 
+ * <p>
+ * If an {@link ExecutorService} is given, the values yielded by the given
+ * {@link Iterator} are split into chunks that are processed by the given
+ * {@link ExecutorService}, each into its own bounded heap, and the resulting
+ * heaps are merged. In this case, it is unspecified which of multiple equal
+ * values are preferred.
+ * 
+ * @param <Payload>
+ *            The payload type.
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 3.3.0
+ */
+public final class TopKIterator<Payload> extends AbstractProtectedIterator<Payload> {
+
+	private static final int CHUNK_SIZE = 8192;
+
+	private final Iterator<? extends Payload> iterator;
+
+	private final int size;
+
+	private final Comparator<? super Payload> comparator;
+
+	private final ExecutorService executor;
+
+	private Object[] values;
+
+	private int index;
+
+	/**
+	 * Creates a new {@link TopKIterator}.
+	 * 
+	 * @param iterator
+	 *            The {@link Iterator} to iterate over.
+	 * @param size
+	 *            The maximum amount of values to be yielded.
+	 * @param comparator
+	 *            The {@link Comparator} to be used.
+	 * @throws IllegalArgumentException
+	 *             If the given {@link Iterator} is {@literal null}, if the
+	 *             given size is not positive or if the given
+	 *             {@link Comparator} is {@literal null}.
+	 */
+	public TopKIterator(Iterator<? extends Payload> iterator, int size, Comparator<? super Payload> comparator)
+			throws IllegalArgumentException {
+		this(iterator, size, comparator, null);
+	}
+
+	/**
+	 * Creates a new {@link TopKIterator}.
+	 * 
+	 * @param iterator
+	 *            The {@link Iterator} to iterate over.
+	 * @param size
+	 *            The maximum amount of values to be yielded.
+	 * @param comparator
+	 *            The {@link Comparator} to be used.
+	 * @param executor
+	 *            The {@link ExecutorService} to process chunks of values with,
+	 *            or {@literal null}, to process all values in the calling
+	 *            thread.
+	 * @throws IllegalArgumentException
+	 *             If the given {@link Iterator} is {@literal null}, if the
+	 *             given size is not positive or if the given
+	 *             {@link Comparator} is {@literal null}.
+	 */
+	public TopKIterator(Iterator<? extends Payload> iterator, int size, Comparator<? super Payload> comparator,
+			ExecutorService executor) throws IllegalArgumentException {
+		if (null == iterator) {
+			throw new IllegalArgumentException("The given iterator is null");
+		} else if (size < 1) {
+			throw new IllegalArgumentException("The given size is not positive: " + size);
+		} else if (null == comparator) {
+			throw new IllegalArgumentException("The given comparator is null");
+		}
+		this.iterator = iterator;
+		this.size = size;
+		this.comparator = comparator;
+		this.executor = executor;
+	}
+
+	@Override
+	public boolean hasNext() {
+		if (null == values) {
+			values = null == executor ? select() : selectConcurrently();
+		}
+		return index < values.length;
+	}
+
+	private Object[] select() {
+		BoundedHeap<Payload> heap = new BoundedHeap<Payload>(size, comparator);
+		while (iterator.hasNext()) {
+			heap.offer(iterator.next());
+		}
+		return heap.drain();
+	}
+
+	private Object[] selectConcurrently() {
+		int maximumPendingChunks = 2 * Runtime.getRuntime().availableProcessors();
+		LinkedList<Future<BoundedHeap<Payload>>> pendingChunks = new LinkedList<Future<BoundedHeap<Payload>>>();
+		BoundedHeap<Payload> heap = new BoundedHeap<Payload>(size, comparator);
+		try {
+			while (iterator.hasNext()) {
+				Object[] chunk = new Object[CHUNK_SIZE];
+				int count = 0;
+				while (count < CHUNK_SIZE && iterator.hasNext()) {
+					chunk[count++] = iterator.next();
+				}
+				pendingChunks.add(executor.submit(new ChunkSelection<Payload>(this, chunk, count, size, comparator)));
+				if (pendingChunks.size() > maximumPendingChunks) {
+					heap.offerAll(FutureSupport.await(pendingChunks.removeFirst()));
+				}
+			}
+			while (!pendingChunks.isEmpty()) {
+				heap.offerAll(FutureSupport.await(pendingChunks.removeFirst()));
+			}
+		} finally {
+			FutureSupport.cancelAll(pendingChunks);
+		}
+		return heap.drain();
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public Payload next() throws NoSuchElementException {
+		if (!hasNext()) {
+			throw new NoSuchElementException("This iterator has no next element");
+		} else {
+			Payload next = (Payload) values[index];
+			values[index++] = null;
+			return next;
+		}
+	}
+
+	private static final class ChunkSelection<Payload> implements Callable<BoundedHeap<Payload>> {
+
+		private final Iterator<?> source;
+
+		private final Object[] chunk;
+
+		private final int count;
+
+		private final int size;
+
+		private final Comparator<? super Payload> comparator;
+
+		public ChunkSelection(Iterator<?> source, Object[] chunk, int count, int size,
+				Comparator<? super Payload> comparator) {
+			this.source = source;
+			this.chunk = chunk;
+			this.count = count;
+			this.size = size;
+			this.comparator = comparator;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public BoundedHeap<Payload> call() {
+			PipelineListener listener = PipelineEvents.getListener();
+			long startTime = null == listener ? 0 : System.nanoTime();
+			BoundedHeap<Payload> heap = new BoundedHeap<Payload>(size, comparator);
+			for (int i = 0; i < count; i++) {
+				heap.offer((Payload) chunk[i]);
+			}
+			if (null != listener) {
+				listener.onChunkProcessed(source, count, System.nanoTime() - startTime);
+			}
+			return heap;
+		}
+
+	}
+
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterators;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import net.markenwerk.commons.datastructures.Triple;
+
+/**
+ * A {@link TripleZipIterator} is an {@link AbstractProtectedIterator} that
+ * wraps around three given {@link Iterator Iterators}, iterates over all of
+ * them in lockstep and yields a {@link Triple} for every triple of values,
+ * until one of the given {@link Iterator Iterators} has no next element.
+ * 
+ * <p>
+ * Calling {@link TripleZipIterator#advance()} moves all given
+ * {@link Iterator Iterators} forward without creating a {@link Triple}. The
+ * current values are then available through
+ * {@link TripleZipIterator#getFirst()}, {@link TripleZipIterator#getSecond()}
+ * and {@link TripleZipIterator#getThird()}.
+ * 
+ * @param <First>
+ *            The type of the first values.
+ * @param <Second>
+ *            The type of the second values.
+ * @param <Third>
+ *            The type of the third values.
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 3.3.0
+ */
+public final class TripleZipIterator<First, Second, Third> extends
+		AbstractProtectedIterator<Triple<First, Second, Third>> {
+
+	private final Iterator<? extends First> firstIterator;
+
+	private final Iterator<? extends Second> secondIterator;
+
+	private final Iterator<? extends Third> thirdIterator;
+
+	private First first;
+
+	private Second second;
+
+	private Third third;
+
+	/**
+	 * Creates a new {@link TripleZipIterator}.
+	 * 
+	 * @param firstIterator
+	 *            The {@link Iterator} to iterate over for the first values.
+	 * @param secondIterator
+	 *            The {@link Iterator} to iterate over for the second values.
+	 * @param thirdIterator
+	 *            The {@link Iterator} to iterate over for the third values.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If one of the given {@link Iterator Iterators} is
+	 *             {@literal null}.
+	 */
+	public TripleZipIterator(Iterator<? extends First> firstIterator, Iterator<? extends Second> secondIterator,
+			Iterator<? extends Third> thirdIterator) throws IllegalArgumentException {
+		if (null == firstIterator) {
+			throw new IllegalArgumentException("The given first iterator is null");
+		} else if (null == secondIterator) {
+			throw new IllegalArgumentException("The given second iterator is null");
+		} else if (null == thirdIterator) {
+			throw new IllegalArgumentException("The given third iterator is null");
+		}
+		this.firstIterator = firstIterator;
+		this.secondIterator = secondIterator;
+		this.thirdIterator = thirdIterator;
+	}
+
+	@Override
+	public boolean hasNext() {
+		return firstIterator.hasNext() && secondIterator.hasNext() && thirdIterator.hasNext();
+	}
+
+	@Override
+	public Triple<First, Second, Third> next() throws NoSuchElementException {
+		advance();
+		return new Triple<First, Second, Third>(first, second, third);
+	}
+
+	/**
+	 * Moves all given {@link Iterator Iterators} forward, without creating a
+	 * {@link Triple}.
+	 * 
+	 * @throws NoSuchElementException
+	 *             If this {@link TripleZipIterator} has no next element.
+	 */
+	public void advance() throws NoSuchElementException {
+		if (!hasNext()) {
+			throw new NoSuchElementException("This iterator has no next element");
+		} else {
+			first = firstIterator.next();
+			second = secondIterator.next();
+			third = thirdIterator.next();
+		}
+	}
+
+	/**
+	 * Returns the first value of the current triple of values.
+	 * 
+	 * @return The first value of the current triple of values, or
+	 *         {@literal null}, if neither {@link TripleZipIterator#next()} nor
+	 *         {@link TripleZipIterator#advance()} has been called yet.
+	 */
+	public First getFirst() {
+		return first;
+	}
+
+	/**
+	 * Returns the second value of the current triple of values.
+	 * 
+	 * @return The second value of the current triple of values, or
+	 *         {@literal null}, if neither {@link TripleZipIterator#next()} nor
+	 *         {@link TripleZipIterator#advance()} has been called yet.
+	 */
+	public Second getSecond() {
+		return second;
+	}
+
+	/**
+	 * Returns the third value of the current triple of values.
+	 * 
+	 * @return The third value of the current triple of values, or
+	 *         {@literal null}, if neither {@link TripleZipIterator#next()} nor
+	 *         {@link TripleZipIterator#advance()} has been called yet.
+	 */
+	public Third getThird() {
+		return third;
+	}
+
+}
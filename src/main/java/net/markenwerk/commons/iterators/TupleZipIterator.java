@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterators;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import net.markenwerk.commons.datastructures.Tuple;
+
+/**
+ * A {@link TupleZipIterator} is an {@link AbstractProtectedIterator} that wraps
+ * around two given {@link Iterator Iterators}, iterates over both of them in
+ * lockstep and yields a {@link Tuple} for every pair of values, until one of
+ * the given {@link Iterator Iterators} has no next element.
+ * 
+ * <p>
+ * Calling {@link TupleZipIterator#advance()} moves both given
+ * {@link Iterator Iterators} forward without creating a {@link Tuple}. The
+ * current values are then available through
+ * {@link TupleZipIterator#getFirst()} and
+ * {@link TupleZipIterator#getSecond()}.
+ * 
+ * @param <First>
+ *            The type of the first values.
+ * @param <Second>
+ *            The type of the second values.
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 3.3.0
+ */
+public final class TupleZipIterator<First, Second> extends AbstractProtectedIterator<Tuple<First, Second>> {
+
+	private final Iterator<? extends First> firstIterator;
+
+	private final Iterator<? extends Second> secondIterator;
+
+	private First first;
+
+	private Second second;
+
+	/**
+	 * Creates a new {@link TupleZipIterator}.
+	 * 
+	 * @param firstIterator
+	 *            The {@link Iterator} to iterate over for the first values.
+	 * @param secondIterator
+	 *            The {@link Iterator} to iterate over for the second values.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If one of the given {@link Iterator Iterators} is
+	 *             {@literal null}.
+	 */
+	public TupleZipIterator(Iterator<? extends First> firstIterator, Iterator<? extends Second> secondIterator)
+			throws IllegalArgumentException {
+		if (null == firstIterator) {
+			throw new IllegalArgumentException("The given first iterator is null");
+		} else if (null == secondIterator) {
+			throw new IllegalArgumentException("The given second iterator is null");
+		}
+		this.firstIterator = firstIterator;
+		this.secondIterator = secondIterator;
+	}
+
+	@Override
+	public boolean hasNext() {
+		return firstIterator.hasNext() && secondIterator.hasNext();
+	}
+
+	@Override
+	public Tuple<First, Second> next() throws NoSuchElementException {
+		advance();
+		return new Tuple<First, Second>(first, second);
+	}
+
+	/**
+	 * Moves both given {@link Iterator Iterators} forward, without creating a
+	 * {@link Tuple}.
+	 * 
+	 * @throws NoSuchElementException
+	 *             If this {@link TupleZipIterator} has no next element.
+	 */
+	public void advance() throws NoSuchElementException {
+		if (!hasNext()) {
+			throw new NoSuchElementException("This iterator has no next element");
+		} else {
+			first = firstIterator.next();
+			second = secondIterator.next();
+		}
+	}
+
+	/**
+	 * Returns the first value of the current pair of values.
+	 * 
+	 * @return The first value of the current pair of values, or
+	 *         {@literal null}, if neither {@link TupleZipIterator#next()} nor
+	 *         {@link TupleZipIterator#advance()} has been called yet.
+	 */
+	public First getFirst() {
+		return first;
+	}
+
+	/**
+	 * Returns the second value of the current pair of values.
+	 * 
+	 * @return The second value of the current pair of values, or
+	 *         {@literal null}, if neither {@link TupleZipIterator#next()} nor
+	 *         {@link TupleZipIterator#advance()} has been called yet.
+	 */
+	public Second getSecond() {
+		return second;
+	}
+
+}
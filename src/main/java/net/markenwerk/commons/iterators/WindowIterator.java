@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterators;
+
+import java.util.AbstractList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * A {@link WindowIterator} is an {@link AbstractProtectedIterator} that can be
+ * wrapped around a given {@link Iterator} and yields windows of a given size
+ * over the values of the given {@link Iterator}, where every window starts a
+ * given step after the start of the previous window.
+ * 
+ * <p>
+ * If the step is smaller than the size, consecutive windows overlap (sliding
+ * windows). If the step is equal to the size, consecutive windows are
+ * adjacent (tumbling windows). If the step is larger than the size, values
+ * between consecutive windows are skipped. Only complete windows are yielded.
+ * 
+ * <p>
+ * Every yielded window is a read-only {@link List} view of a circular buffer
+ * that is reused for every window. A yielded window is therefore only valid
+ * until {@link WindowIterator#next()} is called again. Values of the next
+ * window are staged separately, such that calling
+ * {@link WindowIterator#hasNext()} doesn't alter the current window.
+ * 
+ * @param <Payload>
+ *            The payload type.
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 3.3.0
+ */
+public final class WindowIterator<Payload> extends AbstractProtectedIterator<List<Payload>> {
+
+	private final class Window extends AbstractList<Payload> {
+
+		@Override
+		public Payload get(int index) {
+			if (index < 0 || index >= size) {
+				throw new IndexOutOfBoundsException("The given index is not within the window: " + index);
+			}
+			int position = start + index;
+			return buffer[position < size ? position : position - size];
+		}
+
+		@Override
+		public int size() {
+			return size;
+		}
+
+	}
+
+	private final Iterator<? extends Payload> iterator;
+
+	private final int size;
+
+	private final int step;
+
+	private final Payload[] buffer;
+
+	private final Payload[] staged;
+
+	private final List<Payload> window = new Window();
+
+	private int start;
+
+	private boolean filled;
+
+	private boolean nextPrepared;
+
+	private boolean nextDetected;
+
+	/**
+	 * Creates a new {@link WindowIterator}.
+	 * 
+	 * @param iterator
+	 *            The {@link Iterator} to iterate over.
+	 * @param size
+	 *            The size of every window.
+	 * @param step
+	 *            The distance between the start of consecutive windows.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link Iterator} is {@literal null}, if the
+	 *             given size is not positive or if the given step is not
+	 *             positive.
+	 */
+	@SuppressWarnings("unchecked")
+	public WindowIterator(Iterator<? extends Payload> iterator, int size, int step) throws IllegalArgumentException {
+		if (null == iterator) {
+			throw new IllegalArgumentException("The given iterator is null");
+		} else if (size < 1) {
+			throw new IllegalArgumentException("The given size is not positive: " + size);
+		} else if (step < 1) {
+			throw new IllegalArgumentException("The given step is not positive: " + step);
+		}
+		this.iterator = iterator;
+		this.size = size;
+		this.step = step;
+		this.buffer = (Payload[]) new Object[size];
+		this.staged = (Payload[]) new Object[Math.min(size, step)];
+	}
+
+	@Override
+	public boolean hasNext() {
+		prepareNext();
+		return nextDetected;
+	}
+
+	@Override
+	public List<Payload> next() throws NoSuchElementException {
+		if (!hasNext()) {
+			throw new NoSuchElementException("This iterator has no next element");
+		} else {
+			nextPrepared = false;
+			if (!filled) {
+				filled = true;
+			} else {
+				for (int i = 0, n = staged.length; i < n; i++) {
+					buffer[start] = staged[i];
+					staged[i] = null;
+					start = start + 1 == size ? 0 : start + 1;
+				}
+			}
+			return window;
+		}
+	}
+
+	private void prepareNext() {
+		if (!nextPrepared) {
+			if (!filled) {
+				nextDetected = stage(buffer, size, 0);
+			} else {
+				nextDetected = stage(staged, staged.length, step - staged.length);
+			}
+			nextPrepared = true;
+		}
+	}
+
+	private boolean stage(Payload[] target, int length, int skip) {
+		for (int i = 0; i < skip; i++) {
+			if (!iterator.hasNext()) {
+				return false;
+			}
+			iterator.next();
+		}
+		for (int i = 0; i < length; i++) {
+			if (!iterator.hasNext()) {
+				return false;
+			}
+			target[i] = iterator.next();
+		}
+		return true;
+	}
+
+}
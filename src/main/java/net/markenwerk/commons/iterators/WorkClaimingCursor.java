@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterators;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A {@link WorkClaimingCursor} is an {@link Iterable} that takes over the
+ * remaining elements of a given {@link AbstractIndexedIterator} and lets
+ * multiple threads iterate over them cooperatively, such that every element
+ * is yielded exactly once.
+ * 
+ * <p>
+ * Every call to {@link WorkClaimingCursor#iterator()} returns a new
+ * {@link Iterator} that is meant to be used by a single thread. Such an
+ * {@link Iterator} claims chunks of consecutive indices with a single atomic
+ * fetch-and-add operation on a shared cursor and then yields the elements of
+ * its chunk without any further synchronization. Claiming uses guided
+ * scheduling: every chunk is proportional to the amount of unclaimed elements
+ * divided by the given parallelism, but never smaller than a given minimum
+ * chunk size. Early chunks are therefore large and rarely claimed, and late
+ * chunks are small, so that all threads finish at about the same time.
+ * 
+ * <p>
+ * The elements are retrieved with {@link AbstractIndexedIterator#get(int)},
+ * which must therefore be safe to be called concurrently. This is the case for
+ * all array iterators and counting iterators provided by this library.
+ * 
+ * @param <Payload>
+ *            The payload type.
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 3.3.0
+ */
+public final class WorkClaimingCursor<Payload> implements Iterable<Payload> {
+
+	static final int DEFAULT_MINIMUM_CHUNK_SIZE = 16;
+
+	private final AbstractIndexedIterator<? extends Payload> iterator;
+
+	private final int parallelism;
+
+	private final int minimumChunkSize;
+
+	private final long maxIndex;
+
+	private final AtomicLong cursor;
+
+	/**
+	 * Creates a new {@link WorkClaimingCursor} for as many threads as there
+	 * are available processors. The given {@link AbstractIndexedIterator} is
+	 * moved behind its last element.
+	 * 
+	 * @param iterator
+	 *            The {@link AbstractIndexedIterator} to iterate over.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link AbstractIndexedIterator} is
+	 *             {@literal null}.
+	 */
+	public WorkClaimingCursor(AbstractIndexedIterator<? extends Payload> iterator) throws IllegalArgumentException {
+		this(iterator, Runtime.getRuntime().availableProcessors(), DEFAULT_MINIMUM_CHUNK_SIZE);
+	}
+
+	/**
+	 * Creates a new {@link WorkClaimingCursor}. The given
+	 * {@link AbstractIndexedIterator} is moved behind its last element.
+	 * 
+	 * @param iterator
+	 *            The {@link AbstractIndexedIterator} to iterate over.
+	 * @param parallelism
+	 *            The expected amount of threads.
+	 * @param minimumChunkSize
+	 *            The minimum amount of elements to be claimed at once.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link AbstractIndexedIterator} is
+	 *             {@literal null}, if the given parallelism is not positive or
+	 *             if the given minimum chunk size is not positive.
+	 */
+	public WorkClaimingCursor(AbstractIndexedIterator<? extends Payload> iterator, int parallelism,
+			int minimumChunkSize) throws IllegalArgumentException {
+		if (null == iterator) {
+			throw new IllegalArgumentException("The given iterator is null");
+		} else if (parallelism < 1) {
+			throw new IllegalArgumentException("The given parallelism is not positive: " + parallelism);
+		} else if (minimumChunkSize < 1) {
+			throw new IllegalArgumentException("The given minimum chunk size is not positive: " + minimumChunkSize);
+		}
+		this.iterator = iterator;
+		this.parallelism = parallelism;
+		this.minimumChunkSize = minimumChunkSize;
+		int index = iterator.getIndex();
+		int remaining = (int) iterator.remaining();
+		maxIndex = index + remaining;
+		cursor = new AtomicLong(index);
+		iterator.skip(remaining);
+	}
+
+	/**
+	 * Returns a new {@link Iterator} that claims chunks of the unclaimed
+	 * elements and is meant to be used by a single thread.
+	 * 
+	 * @return The new {@link Iterator}.
+	 */
+	@Override
+	public Iterator<Payload> iterator() {
+		return new ClaimingIterator();
+	}
+
+	/**
+	 * Returns the amount of elements that have not yet been claimed.
+	 * 
+	 * @return The amount of unclaimed elements.
+	 */
+	public long unclaimed() {
+		return Math.max(0, maxIndex - cursor.get());
+	}
+
+	private final class ClaimingIterator extends AbstractProtectedIterator<Payload> {
+
+		private int index;
+
+		private int limit;
+
+		private boolean exhausted;
+
+		@Override
+		public boolean hasNext() {
+			return index < limit || claim();
+		}
+
+		@Override
+		public Payload next() throws NoSuchElementException {
+			if (!hasNext()) {
+				throw new NoSuchElementException("This iterator has no next element");
+			} else {
+				return iterator.get(index++);
+			}
+		}
+
+		private boolean claim() {
+			if (!exhausted) {
+				long unclaimed = unclaimed();
+				if (0 != unclaimed) {
+					long chunkSize = Math.max(minimumChunkSize, unclaimed / (2L * parallelism));
+					long start = cursor.getAndAdd(chunkSize);
+					if (start < maxIndex) {
+						index = (int) start;
+						limit = (int) Math.min(start + chunkSize, maxIndex);
+						return true;
+					}
+				}
+				exhausted = true;
+			}
+			return false;
+		}
+
+	}
+
+}
@@ -0,0 +1,251 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterators;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * A {@link WorkStealingCursor} is an {@link Iterable} that combines a sequence
+ * of given {@link Iterator Iterators}, like a {@link CombinedIterator}, and
+ * lets multiple threads iterate over their elements cooperatively, such that
+ * every element is yielded exactly once.
+ * 
+ * <p>
+ * Every call to {@link WorkStealingCursor#iterator()} returns a new
+ * {@link Iterator} that is meant to be used by a single thread. Such an
+ * {@link Iterator} claims a whole {@link Iterator} from the given sequence and
+ * yields its elements, before it claims the next one. Claiming from the given
+ * sequence is synchronized, yielding elements is not.
+ * 
+ * <p>
+ * Every claimed {@link AbstractIndexedIterator} is wrapped into a
+ * {@link WorkClaimingCursor} that is shared with all other threads. When the
+ * given sequence is exhausted, a thread steals chunks of remaining indices
+ * from the {@link AbstractIndexedIterator AbstractIndexedIterators} that have
+ * been claimed by other threads, such that threads that claimed small
+ * {@link Iterator Iterators} help threads that claimed large
+ * {@link AbstractIndexedIterator AbstractIndexedIterators}. Elements of other
+ * {@link Iterator Iterators} are always yielded by the thread that claimed
+ * them.
+ * 
+ * <p>
+ * The given sequence of {@link Iterator Iterators} must not contain
+ * {@literal null}. A thread that claims {@literal null} fails with an
+ * {@link IllegalArgumentException}.
+ * 
+ * @param <Payload>
+ *            The payload type.
+ * @author Torsten Krause (tk at markenwerk dot net)
+ * @since 3.3.0
+ */
+public final class WorkStealingCursor<Payload> implements Iterable<Payload> {
+
+	private final Iterator<? extends Iterator<? extends Payload>> iterators;
+
+	private final int parallelism;
+
+	private final int minimumChunkSize;
+
+	private final Iterator<Payload> noIteratorLeft = new EmptyIterator<Payload>();
+
+	private final Queue<WorkClaimingCursor<Payload>> cursors = new ConcurrentLinkedQueue<WorkClaimingCursor<Payload>>();
+
+	private boolean exhausted;
+
+	private int claimed;
+
+	/**
+	 * Creates a new {@link WorkStealingCursor} for as many threads as there
+	 * are available processors.
+	 * 
+	 * @param iterators
+	 *            The {@link Iterator Iterators} to iterate over.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given sequence of {@link Iterator Iterators} is
+	 *             {@literal null}.
+	 */
+	public WorkStealingCursor(Iterator<? extends Payload>... iterators) throws IllegalArgumentException {
+		this(new ArrayIterator<Iterator<? extends Payload>>(array(iterators)));
+	}
+
+	/**
+	 * Creates a new {@link WorkStealingCursor} for as many threads as there
+	 * are available processors.
+	 * 
+	 * @param iterators
+	 *            The {@link Iterator Iterators} to iterate over.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link Iterable} of {@link Iterator Iterators}
+	 *             is {@literal null}.
+	 */
+	public WorkStealingCursor(Iterable<? extends Iterator<? extends Payload>> iterators)
+			throws IllegalArgumentException {
+		this(iterator(iterators));
+	}
+
+	/**
+	 * Creates a new {@link WorkStealingCursor} for as many threads as there
+	 * are available processors.
+	 * 
+	 * @param iterators
+	 *            The {@link Iterator Iterators} to iterate over.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link Iterator} of {@link Iterator Iterators}
+	 *             is {@literal null}.
+	 */
+	public WorkStealingCursor(Iterator<? extends Iterator<? extends Payload>> iterators)
+			throws IllegalArgumentException {
+		this(iterators, Runtime.getRuntime().availableProcessors(), WorkClaimingCursor.DEFAULT_MINIMUM_CHUNK_SIZE);
+	}
+
+	/**
+	 * Creates a new {@link WorkStealingCursor}.
+	 * 
+	 * @param iterators
+	 *            The {@link Iterator Iterators} to iterate over.
+	 * @param parallelism
+	 *            The expected amount of threads.
+	 * @param minimumChunkSize
+	 *            The minimum amount of elements to be claimed at once from an
+	 *            {@link AbstractIndexedIterator}.
+	 * 
+	 * @throws IllegalArgumentException
+	 *             If the given {@link Iterator} of {@link Iterator Iterators}
+	 *             is {@literal null}, if the given parallelism is not positive
+	 *             or if the given minimum chunk size is not positive.
+	 */
+	public WorkStealingCursor(Iterator<? extends Iterator<? extends Payload>> iterators, int parallelism,
+			int minimumChunkSize) throws IllegalArgumentException {
+		if (null == iterators) {
+			throw new IllegalArgumentException("The given iterator of iterators is null");
+		} else if (parallelism < 1) {
+			throw new IllegalArgumentException("The given parallelism is not positive: " + parallelism);
+		} else if (minimumChunkSize < 1) {
+			throw new IllegalArgumentException("The given minimum chunk size is not positive: " + minimumChunkSize);
+		}
+		this.iterators = iterators;
+		this.parallelism = parallelism;
+		this.minimumChunkSize = minimumChunkSize;
+	}
+
+	private static <Payload> Iterator<? extends Payload>[] array(Iterator<? extends Payload>[] iterators) {
+		if (null == iterators) {
+			throw new IllegalArgumentException("The given array of iterators is null");
+		}
+		return iterators;
+	}
+
+	private static <Payload> Iterator<? extends Iterator<? extends Payload>> iterator(
+			Iterable<? extends Iterator<? extends Payload>> iterators) {
+		if (null == iterators) {
+			throw new IllegalArgumentException("The given iterable of iterators is null");
+		}
+		return iterators.iterator();
+	}
+
+	/**
+	 * Returns a new {@link Iterator} that claims {@link Iterator Iterators} or
+	 * steals chunks of elements and is meant to be used by a single thread.
+	 * The returned {@link Iterator} throws an
+	 * {@link IllegalArgumentException} if it claims {@literal null} from the
+	 * given sequence of {@link Iterator Iterators}.
+	 * 
+	 * @return The new {@link Iterator}.
+	 */
+	@Override
+	public Iterator<Payload> iterator() {
+		return new StealingIterator();
+	}
+
+	@SuppressWarnings("unchecked")
+	private Iterator<? extends Payload> claim() {
+		Iterator<? extends Payload> iterator = claimIterator();
+		if (noIteratorLeft == iterator) {
+			return steal();
+		} else if (iterator instanceof AbstractIndexedIterator) {
+			WorkClaimingCursor<Payload> cursor = new WorkClaimingCursor<Payload>(
+					(AbstractIndexedIterator<? extends Payload>) iterator, parallelism, minimumChunkSize);
+			cursors.add(cursor);
+			return cursor.iterator();
+		} else {
+			return iterator;
+		}
+	}
+
+	private synchronized Iterator<? extends Payload> claimIterator() throws IllegalArgumentException {
+		if (!exhausted && iterators.hasNext()) {
+			Iterator<? extends Payload> iterator = iterators.next();
+			if (null == iterator) {
+				throw new IllegalArgumentException("The given iterator at index '" + claimed + "' is null");
+			}
+			claimed++;
+			return iterator;
+		} else {
+			exhausted = true;
+			return noIteratorLeft;
+		}
+	}
+
+	private Iterator<? extends Payload> steal() {
+		for (WorkClaimingCursor<Payload> cursor : cursors) {
+			if (0 == cursor.unclaimed()) {
+				cursors.remove(cursor);
+			} else {
+				return cursor.iterator();
+			}
+		}
+		return null;
+	}
+
+	private final class StealingIterator extends AbstractProtectedIterator<Payload> {
+
+		private Iterator<? extends Payload> currentIterator;
+
+		@Override
+		public boolean hasNext() {
+			while (null == currentIterator || !currentIterator.hasNext()) {
+				currentIterator = claim();
+				if (null == currentIterator) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		@Override
+		public Payload next() throws NoSuchElementException {
+			if (!hasNext()) {
+				throw new NoSuchElementException("This iterator has no next element");
+			} else {
+				return currentIterator.next();
+			}
+		}
+
+	}
+
+}
@@ -21,7 +21,10 @@
  */
 package net.markenwerk.commons.iterators;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Iterator;
+import java.util.List;
 import java.util.NoSuchElementException;
 
 import org.junit.Assert;
@@ -51,6 +54,166 @@ public class ArrayIteratorTests {
 
 	}
 
+	@Test
+	public void iterate_moveToEnd() {
+
+		Object[] values = new Object[] { new Object(), new Object() };
+		ArrayIterator<Object> iterator = new ArrayIterator<Object>(values);
+
+		iterator.moveToEnd();
+
+		Assert.assertFalse(iterator.hasNext());
+		Assert.assertTrue(iterator.hasPrevious());
+		Assert.assertSame(values[1], iterator.previous());
+		Assert.assertTrue(iterator.hasPrevious());
+		Assert.assertSame(values[0], iterator.previous());
+		Assert.assertFalse(iterator.hasPrevious());
+
+	}
+
+	@Test
+	public void iterate_moveToStart() {
+
+		Object[] values = new Object[] { new Object(), new Object() };
+		ArrayIterator<Object> iterator = new ArrayIterator<Object>(values);
+
+		iterator.moveToEnd();
+		iterator.moveToStart();
+
+		Assert.assertFalse(iterator.hasPrevious());
+		Assert.assertSame(values[0], iterator.next());
+
+	}
+
+	@Test
+	public void characteristics() {
+
+		Object[] values = new Object[] { new Object(), new Object() };
+		ArrayIterator<Object> iterator = new ArrayIterator<Object>(values);
+
+		Assert.assertEquals(CharacterizedIterator.ORDERED | CharacterizedIterator.SIZED
+				| CharacterizedIterator.SUBSIZED, iterator.characteristics());
+		Assert.assertEquals(2, iterator.estimateSize());
+		iterator.next();
+		Assert.assertEquals(1, iterator.estimateSize());
+		iterator.moveToEnd();
+		Assert.assertEquals(0, iterator.estimateSize());
+
+	}
+
+	@Test
+	public void remaining() {
+
+		Object[] values = new Object[] { new Object(), new Object() };
+		SizedIterator<Object> iterator = new ArrayIterator<Object>(values);
+
+		Assert.assertEquals(2, iterator.remaining());
+		iterator.next();
+		Assert.assertEquals(1, iterator.remaining());
+		iterator.next();
+		Assert.assertEquals(0, iterator.remaining());
+
+	}
+
+	@Test
+	public void skip() {
+
+		Object[] values = new Object[] { new Object(), new Object(), new Object() };
+		ArrayIterator<Object> iterator = new ArrayIterator<Object>(values);
+
+		Assert.assertEquals(2, iterator.skip(2));
+		Assert.assertSame(values[2], iterator.next());
+		Assert.assertEquals(0, iterator.skip(1));
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void skip_negativeCount() {
+
+		ArrayIterator<Object> iterator = new ArrayIterator<Object>(new Object[0]);
+
+		iterator.skip(-1);
+
+	}
+
+	@Test
+	public void drainTo() {
+
+		ArrayIterator<Object> iterator = new ArrayIterator<Object>("a", "b", "c");
+		Object[] destination = new Object[4];
+
+		iterator.next();
+
+		Assert.assertEquals(2, iterator.drainTo(destination, 1, 3));
+		Assert.assertArrayEquals(new Object[] { null, "b", "c", null }, destination);
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void drainTo_partial() {
+
+		ArrayIterator<Object> iterator = new ArrayIterator<Object>("a", "b", "c");
+		Object[] destination = new Object[2];
+
+		Assert.assertEquals(2, iterator.drainTo(destination, 0, 2));
+		Assert.assertArrayEquals(new Object[] { "a", "b" }, destination);
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals("c", iterator.next());
+
+	}
+
+	@Test
+	public void drainTo_collection() {
+
+		ArrayIterator<Object> iterator = new ArrayIterator<Object>("a", "b", "c");
+		List<Object> destination = new ArrayList<Object>();
+
+		iterator.next();
+
+		Assert.assertEquals(2, iterator.drainTo(destination));
+		Assert.assertEquals(Arrays.asList("b", "c"), destination);
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void drainTo_nullArray() {
+
+		ArrayIterator<Object> iterator = new ArrayIterator<Object>("a");
+
+		iterator.drainTo((Object[]) null, 0, 1);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void drainTo_negativeOffset() {
+
+		ArrayIterator<Object> iterator = new ArrayIterator<Object>("a");
+
+		iterator.drainTo(new Object[1], -1, 1);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void drainTo_exceedingRange() {
+
+		ArrayIterator<Object> iterator = new ArrayIterator<Object>("a");
+
+		iterator.drainTo(new Object[1], 1, 1);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void drainTo_nullCollection() {
+
+		ArrayIterator<Object> iterator = new ArrayIterator<Object>("a");
+
+		iterator.drainTo((List<Object>) null);
+
+	}
+
 	@Test(expected = NoSuchElementException.class)
 	public void iterate_noNext() {
 
@@ -0,0 +1,246 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterators;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import net.markenwerk.commons.exceptions.ProvisioningException;
+
+@SuppressWarnings("javadoc")
+public class BatchingInfiniteIteratorTests {
+
+	private static final class CountingProvider implements BatchProvider<Integer> {
+
+		private final AtomicInteger calls = new AtomicInteger();
+
+		private int next;
+
+		@Override
+		public List<Integer> provide(int count) throws ProvisioningException {
+			calls.incrementAndGet();
+			List<Integer> values = new ArrayList<Integer>(count);
+			for (int i = 0; i < count; i++) {
+				values.add(next++);
+			}
+			return values;
+		}
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullProvider() {
+
+		new BatchingInfiniteIterator<Integer>(null, 1);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nonPositiveBatchSize() {
+
+		new BatchingInfiniteIterator<Integer>(new CountingProvider(), 0);
+
+	}
+
+	@Test
+	public void iterate() {
+
+		CountingProvider provider = new CountingProvider();
+		Iterator<Integer> iterator = new BatchingInfiniteIterator<Integer>(provider, 4);
+
+		for (int i = 0; i < 10; i++) {
+			Assert.assertTrue(iterator.hasNext());
+			Assert.assertEquals(Integer.valueOf(i), iterator.next());
+		}
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(3, provider.calls.get());
+
+	}
+
+	@Test
+	public void iterate_smallBatches() {
+
+		Iterator<Integer> iterator = new BatchingInfiniteIterator<Integer>(new BatchProvider<Integer>() {
+
+			@Override
+			public List<Integer> provide(int count) throws ProvisioningException {
+				return Collections.singletonList(1);
+			}
+
+		}, 4);
+
+		Assert.assertEquals(Integer.valueOf(1), iterator.next());
+		Assert.assertEquals(Integer.valueOf(1), iterator.next());
+
+	}
+
+	@Test
+	public void iterate_asynchronously() {
+
+		CountingProvider provider = new CountingProvider();
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+
+			Iterator<Integer> iterator = new BatchingInfiniteIterator<Integer>(provider, 4, executor);
+
+			for (int i = 0; i < 1000; i++) {
+				Assert.assertTrue(iterator.hasNext());
+				Assert.assertEquals(Integer.valueOf(i), iterator.next());
+			}
+			Assert.assertTrue(provider.calls.get() >= 250);
+
+		} finally {
+			executor.shutdown();
+		}
+
+	}
+
+	@Test(expected = ProvisioningException.class)
+	public void iterate_asynchronously_failingProvider() {
+
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+
+			final CountingProvider provider = new CountingProvider();
+			Iterator<Integer> iterator = new BatchingInfiniteIterator<Integer>(new BatchProvider<Integer>() {
+
+				@Override
+				public List<Integer> provide(int count) throws ProvisioningException {
+					if (provider.calls.get() == 1) {
+						throw new ProvisioningException("Failed to provide");
+					}
+					return provider.provide(count);
+				}
+
+			}, 2, executor);
+
+			iterator.next();
+			iterator.next();
+			iterator.next();
+
+		} finally {
+			executor.shutdown();
+		}
+
+	}
+
+	@Test
+	public void close() {
+
+		BatchingInfiniteIterator<Integer> iterator = new BatchingInfiniteIterator<Integer>(new CountingProvider(), 4);
+
+		iterator.next();
+		iterator.close();
+
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test(expected = NoSuchElementException.class)
+	public void close_noNext() {
+
+		BatchingInfiniteIterator<Integer> iterator = new BatchingInfiniteIterator<Integer>(new CountingProvider(), 4);
+
+		iterator.close();
+		iterator.next();
+
+	}
+
+	@Test
+	public void close_asynchronously() throws InterruptedException {
+
+		final CountDownLatch requested = new CountDownLatch(1);
+		final CountDownLatch interrupted = new CountDownLatch(1);
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+
+			BatchingInfiniteIterator<Integer> iterator = new BatchingInfiniteIterator<Integer>(
+					new BatchProvider<Integer>() {
+
+						private boolean provided;
+
+						@Override
+						public List<Integer> provide(int count) throws ProvisioningException {
+							if (provided) {
+								requested.countDown();
+								try {
+									new CountDownLatch(1).await();
+								} catch (InterruptedException e) {
+									interrupted.countDown();
+								}
+							}
+							provided = true;
+							return Collections.singletonList(1);
+						}
+
+					}, 1, executor);
+
+			iterator.next();
+			Assert.assertTrue(requested.await(10, TimeUnit.SECONDS));
+			iterator.close();
+
+			Assert.assertTrue(interrupted.await(10, TimeUnit.SECONDS));
+
+		} finally {
+			executor.shutdown();
+		}
+
+	}
+
+	@Test(expected = ProvisioningException.class)
+	public void iterate_emptyBatch() {
+
+		Iterator<Integer> iterator = new BatchingInfiniteIterator<Integer>(new BatchProvider<Integer>() {
+
+			@Override
+			public List<Integer> provide(int count) throws ProvisioningException {
+				return Collections.emptyList();
+			}
+
+		}, 4);
+
+		iterator.next();
+
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void remove() {
+
+		Iterator<Integer> iterator = new BatchingInfiniteIterator<Integer>(new CountingProvider(), 4);
+
+		iterator.next();
+		iterator.remove();
+
+	}
+
+}
@@ -21,6 +21,7 @@
  */
 package net.markenwerk.commons.iterators;
 
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
 
@@ -51,6 +52,29 @@ public class BooleanArrayIteratorTests {
 
 	}
 
+	@Test
+	public void drainTo() {
+
+		BooleanArrayIterator iterator = new BooleanArrayIterator(true, false, true);
+		boolean[] destination = new boolean[3];
+
+		iterator.next();
+
+		Assert.assertEquals(2, iterator.drainTo(destination, 1, 2));
+		Assert.assertTrue(Arrays.equals(new boolean[] { false, false, true }, destination));
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void drainTo_exceedingRange() {
+
+		BooleanArrayIterator iterator = new BooleanArrayIterator(true, false, true);
+
+		iterator.drainTo(new boolean[3], 2, 2);
+
+	}
+
 	@Test(expected = NoSuchElementException.class)
 	public void iterate_noNext() {
 
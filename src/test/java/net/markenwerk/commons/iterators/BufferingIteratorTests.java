@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterators;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+@SuppressWarnings("javadoc")
+public class BufferingIteratorTests {
+
+	private static final Serializer<Integer> SERIALIZER = new Serializer<Integer>() {
+
+		@Override
+		public void serialize(Integer payload, DataOutput output) throws IOException {
+			output.writeInt(payload);
+		}
+
+		@Override
+		public Integer deserialize(DataInput input) throws IOException {
+			return input.readInt();
+		}
+
+	};
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullIterator() {
+
+		new BufferingIterator<Integer>(null, 0, SERIALIZER);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_negativeMemoryLimit() {
+
+		new BufferingIterator<Integer>(new EmptyIterator<Integer>(), -1, SERIALIZER);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullSerializer() {
+
+		new BufferingIterator<Integer>(new EmptyIterator<Integer>(), 0, null);
+
+	}
+
+	@Test
+	public void iterate_inMemory() {
+
+		Iterator<Integer> source = new CountUpIterator(1, 2);
+		Iterator<Integer> iterator = new BufferingIterator<Integer>(source, 10, SERIALIZER);
+
+		Assert.assertFalse(source.hasNext());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(Integer.valueOf(1), iterator.next());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(Integer.valueOf(2), iterator.next());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void iterate_spilled() {
+
+		Iterator<Integer> iterator = new BufferingIterator<Integer>(new CountUpIterator(0, 2999), 10, SERIALIZER);
+
+		for (int i = 0; i < 3000; i++) {
+			Assert.assertTrue(iterator.hasNext());
+			Assert.assertEquals(Integer.valueOf(i), iterator.next());
+		}
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void iterate_closed() {
+
+		BufferingIterator<Integer> iterator = new BufferingIterator<Integer>(new CountUpIterator(0, 2), 1, SERIALIZER);
+
+		Assert.assertEquals(Integer.valueOf(0), iterator.next());
+		iterator.close();
+
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void remaining() {
+
+		BufferingIterator<Integer> iterator = new BufferingIterator<Integer>(new CountUpIterator(0, 2999), 10,
+				SERIALIZER);
+
+		Assert.assertEquals(CharacterizedIterator.ORDERED | CharacterizedIterator.SIZED, iterator.characteristics());
+		for (int i = 0; i < 3000; i++) {
+			Assert.assertEquals(3000 - i, iterator.remaining());
+			iterator.next();
+		}
+		Assert.assertEquals(0, iterator.remaining());
+		Assert.assertEquals(0, iterator.estimateSize());
+
+	}
+
+	@Test
+	public void remaining_closed() {
+
+		BufferingIterator<Integer> iterator = new BufferingIterator<Integer>(new CountUpIterator(0, 2999), 10,
+				SERIALIZER);
+
+		iterator.close();
+
+		Assert.assertEquals(10, iterator.remaining());
+
+	}
+
+	@Test(expected = NoSuchElementException.class)
+	public void iterate_noNext() {
+
+		Iterator<Integer> iterator = new BufferingIterator<Integer>(new EmptyIterator<Integer>(), 0, SERIALIZER);
+
+		iterator.next();
+
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void remove() {
+
+		Iterator<Integer> iterator = new BufferingIterator<Integer>(new CountUpIterator(0, 0), 0, SERIALIZER);
+
+		iterator.next();
+		iterator.remove();
+
+	}
+
+}
@@ -51,6 +51,29 @@ public class ByteArrayIteratorTests {
 
 	}
 
+	@Test
+	public void drainTo() {
+
+		ByteArrayIterator iterator = new ByteArrayIterator((byte) 1, (byte) 2, (byte) 3);
+		byte[] destination = new byte[3];
+
+		iterator.next();
+
+		Assert.assertEquals(2, iterator.drainTo(destination, 1, 2));
+		Assert.assertArrayEquals(new byte[] { 0, 2, 3 }, destination);
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void drainTo_exceedingRange() {
+
+		ByteArrayIterator iterator = new ByteArrayIterator((byte) 1, (byte) 2, (byte) 3);
+
+		iterator.drainTo(new byte[3], 2, 2);
+
+	}
+
 	@Test(expected = NoSuchElementException.class)
 	public void iterate_noNext() {
 
@@ -51,6 +51,29 @@ public class CharacterArrayIteratorTests {
 
 	}
 
+	@Test
+	public void drainTo() {
+
+		CharacterArrayIterator iterator = new CharacterArrayIterator('a', 'b', 'c');
+		char[] destination = new char[3];
+
+		iterator.next();
+
+		Assert.assertEquals(2, iterator.drainTo(destination, 1, 2));
+		Assert.assertArrayEquals(new char[] { 0, 'b', 'c' }, destination);
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void drainTo_exceedingRange() {
+
+		CharacterArrayIterator iterator = new CharacterArrayIterator('a', 'b', 'c');
+
+		iterator.drainTo(new char[3], 2, 2);
+
+	}
+
 	@Test(expected = NoSuchElementException.class)
 	public void iterate_noNext() {
 
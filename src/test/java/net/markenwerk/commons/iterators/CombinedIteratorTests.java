@@ -142,6 +142,48 @@ public class CombinedIteratorTests {
 
 	}
 
+	@Test
+	@SuppressWarnings("unchecked")
+	public void characteristics_iteratorsArray() {
+
+		CombinedIterator<Integer> iterator = new CombinedIterator<Integer>(new CountUpIterator(1, 2),
+				new CountUpIterator(3, 5));
+
+		Assert.assertEquals(CharacterizedIterator.ORDERED | CharacterizedIterator.SIZED
+				| CharacterizedIterator.SUBSIZED | CharacterizedIterator.NONNULL, iterator.characteristics());
+		Assert.assertEquals(5, iterator.estimateSize());
+		iterator.next();
+		Assert.assertEquals(4, iterator.estimateSize());
+		iterator.next();
+		iterator.next();
+		Assert.assertEquals(2, iterator.estimateSize());
+
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void characteristics_unsizedIterator() {
+
+		CombinedIterator<Object> iterator = new CombinedIterator<Object>(new ArrayIterator<Object>(new Object[1]),
+				new LinkedList<Object>().iterator());
+
+		Assert.assertEquals(0, iterator.characteristics());
+		Assert.assertEquals(Long.MAX_VALUE, iterator.estimateSize());
+
+	}
+
+	@Test
+	public void characteristics_iteratorsIterable() {
+
+		List<Iterator<Object>> iterators = new LinkedList<Iterator<Object>>();
+		iterators.add(new ArrayIterator<Object>(new Object[1]));
+		CombinedIterator<Object> iterator = new CombinedIterator<Object>(iterators);
+
+		Assert.assertEquals(0, iterator.characteristics());
+		Assert.assertEquals(Long.MAX_VALUE, iterator.estimateSize());
+
+	}
+
 	@Test(expected = NoSuchElementException.class)
 	@SuppressWarnings("unchecked")
 	public void iterate_noNext() {
@@ -78,6 +78,23 @@ public class ConvertingIteratorTests {
 
 	}
 
+	@Test
+	public void characteristics() {
+
+		Object[] values = new Object[] { new Object(), new Object() };
+		ConvertingIterator<Object, Wrapper> iterator = new ConvertingIterator<Object, Wrapper>(
+				new ArrayIterator<Object>(values), WRAPPING_CONVERTER);
+
+		Assert.assertEquals(CharacterizedIterator.ORDERED | CharacterizedIterator.SIZED
+				| CharacterizedIterator.SUBSIZED, iterator.characteristics());
+		Assert.assertEquals(2, iterator.estimateSize());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(2, iterator.estimateSize());
+		iterator.next();
+		Assert.assertEquals(1, iterator.estimateSize());
+
+	}
+
 	@Test(expected = NoSuchElementException.class)
 	public void iterate_noNext() {
 
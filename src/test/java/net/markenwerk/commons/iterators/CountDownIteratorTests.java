@@ -63,6 +63,19 @@ public class CountDownIteratorTests {
 
 	}
 
+	@Test
+	public void iterate_nextInteger() {
+
+		IntegerIterator iterator = new CountDownIterator(2, 1);
+
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(2, iterator.nextInteger());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(1, iterator.nextInteger());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
 	@Test(expected = NoSuchElementException.class)
 	public void iterate_noNext() {
 
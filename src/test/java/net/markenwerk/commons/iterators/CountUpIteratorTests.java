@@ -63,6 +63,33 @@ public class CountUpIteratorTests {
 
 	}
 
+	@Test
+	public void characteristics() {
+
+		CountUpIterator iterator = new CountUpIterator(1, 3);
+
+		Assert.assertEquals(CharacterizedIterator.ORDERED | CharacterizedIterator.SIZED
+				| CharacterizedIterator.SUBSIZED | CharacterizedIterator.NONNULL | CharacterizedIterator.DISTINCT
+				| CharacterizedIterator.SORTED, iterator.characteristics());
+		Assert.assertEquals(3, iterator.estimateSize());
+		iterator.next();
+		Assert.assertEquals(2, iterator.estimateSize());
+
+	}
+
+	@Test
+	public void iterate_nextInteger() {
+
+		IntegerIterator iterator = new CountUpIterator(1, 2);
+
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(1, iterator.nextInteger());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(2, iterator.nextInteger());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
 	@Test(expected = NoSuchElementException.class)
 	public void iterate_noNext() {
 
@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterators;
+
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+@SuppressWarnings("javadoc")
+public class DeduplicatingIteratorTests {
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullIterator() {
+
+		new DeduplicatingIterator<Object>(null, new HashSet<Object>());
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullSet() {
+
+		new DeduplicatingIterator<Object>(new EmptyIterator<Object>(), null);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nonPositiveWindowSize() {
+
+		new DeduplicatingIterator<Object>(new EmptyIterator<Object>(), 0);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nonPositiveExpectedValues() {
+
+		new DeduplicatingIterator<Object>(new EmptyIterator<Object>(), 0, 0.01);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_invalidFalsePositiveRate() {
+
+		new DeduplicatingIterator<Object>(new EmptyIterator<Object>(), 10, 1);
+
+	}
+
+	@Test
+	public void iterate_set() {
+
+		Set<Integer> set = new HashSet<Integer>();
+		Iterator<Integer> iterator = new DeduplicatingIterator<Integer>(new ArrayIterator<Integer>(1, 2, 1, 3, 2),
+				set);
+
+		Assert.assertEquals(Integer.valueOf(1), iterator.next());
+		Assert.assertEquals(Integer.valueOf(2), iterator.next());
+		Assert.assertEquals(Integer.valueOf(3), iterator.next());
+		Assert.assertFalse(iterator.hasNext());
+		Assert.assertEquals(3, set.size());
+
+	}
+
+	@Test
+	public void iterate_window() {
+
+		Iterator<Integer> iterator = new DeduplicatingIterator<Integer>(new ArrayIterator<Integer>(1, 2, 2, 1, 3, 1,
+				2), 2);
+
+		Assert.assertEquals(Integer.valueOf(1), iterator.next());
+		Assert.assertEquals(Integer.valueOf(2), iterator.next());
+		Assert.assertEquals(Integer.valueOf(3), iterator.next());
+		Assert.assertEquals(Integer.valueOf(2), iterator.next());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void iterate_bloomFilter() {
+
+		Iterator<Integer> iterator = new DeduplicatingIterator<Integer>(new CombinedIterator<Integer>(
+				new CountUpIterator(0, 999), new CountUpIterator(0, 999)), 1000, 0.01);
+
+		int count = 0;
+		while (iterator.hasNext()) {
+			iterator.next();
+			count++;
+		}
+
+		Assert.assertTrue(count <= 1000);
+		Assert.assertTrue(count > 950);
+
+	}
+
+	@Test
+	public void iterate_bloomFilterNull() {
+
+		Iterator<Object> iterator = new DeduplicatingIterator<Object>(new ArrayIterator<Object>(null, null), 10, 0.01);
+
+		Assert.assertNull(iterator.next());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test(expected = NoSuchElementException.class)
+	public void iterate_noNext() {
+
+		Iterator<Object> iterator = new DeduplicatingIterator<Object>(new EmptyIterator<Object>(), 1);
+
+		iterator.next();
+
+	}
+
+	@Test
+	public void remove() {
+
+		RemoveTestIterator testIterator = new RemoveTestIterator();
+		Iterator<Object> iterator = new DeduplicatingIterator<Object>(testIterator, 1);
+
+		iterator.next();
+		iterator.remove();
+
+		Assert.assertTrue(testIterator.removed());
+
+	}
+
+}
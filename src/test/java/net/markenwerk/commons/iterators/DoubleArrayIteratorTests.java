@@ -51,6 +51,43 @@ public class DoubleArrayIteratorTests {
 
 	}
 
+	@Test
+	public void iterate_nextDouble() {
+
+		double[] values = new double[] { 1, 2 };
+		DoubleIterator iterator = new DoubleArrayIterator(values);
+
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(values[0], iterator.nextDouble(), 0);
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(values[1], iterator.nextDouble(), 0);
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void drainTo() {
+
+		DoubleArrayIterator iterator = new DoubleArrayIterator(1d, 2d, 3d);
+		double[] destination = new double[3];
+
+		iterator.next();
+
+		Assert.assertEquals(2, iterator.drainTo(destination, 1, 2));
+		Assert.assertArrayEquals(new double[] { 0d, 2d, 3d }, destination, 0);
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void drainTo_exceedingRange() {
+
+		DoubleArrayIterator iterator = new DoubleArrayIterator(1d, 2d, 3d);
+
+		iterator.drainTo(new double[3], 2, 2);
+
+	}
+
 	@Test(expected = NoSuchElementException.class)
 	public void iterate_noNext() {
 
@@ -0,0 +1,201 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterators;
+
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+@SuppressWarnings("javadoc")
+public class DoubleBufferIteratorTests {
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullBuffers() {
+
+		new DoubleBufferIterator((DoubleBuffer[]) null);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullBuffer() {
+
+		new DoubleBufferIterator((DoubleBuffer) null);
+
+	}
+
+	@Test
+	public void iterate() {
+
+		DoubleBuffer buffer = DoubleBuffer.wrap(new double[] { 1, 2 });
+		Iterator<Double> iterator = new DoubleBufferIterator(buffer);
+
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(Double.valueOf(1), iterator.next());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(Double.valueOf(2), iterator.next());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void iterate_nextDouble() {
+
+		DoubleBuffer buffer = ByteBuffer.allocateDirect(16).asDoubleBuffer();
+		buffer.put(0, 1).put(1, 2);
+		DoubleIterator iterator = new DoubleBufferIterator(buffer);
+
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(1, iterator.nextDouble(), 0);
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(2, iterator.nextDouble(), 0);
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void iterate_remainingValues() {
+
+		DoubleBuffer buffer = DoubleBuffer.wrap(new double[] { 1, 2, 3 });
+		buffer.position(1);
+		DoubleBufferIterator iterator = new DoubleBufferIterator(buffer);
+
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(2, iterator.nextDouble(), 0);
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(3, iterator.nextDouble(), 0);
+		Assert.assertFalse(iterator.hasNext());
+		Assert.assertEquals(1, buffer.position());
+
+	}
+
+	@Test
+	public void iterate_segments() {
+
+		DoubleBuffer first = DoubleBuffer.wrap(new double[] { 1 });
+		DoubleBuffer second = DoubleBuffer.wrap(new double[0]);
+		DoubleBuffer third = DoubleBuffer.wrap(new double[] { 2, 3 });
+		DoubleBufferIterator iterator = new DoubleBufferIterator(first, second, third);
+
+		Assert.assertEquals(1, iterator.nextDouble(), 0);
+		Assert.assertEquals(2, iterator.nextDouble(), 0);
+		Assert.assertEquals(3, iterator.nextDouble(), 0);
+		Assert.assertFalse(iterator.hasNext());
+		Assert.assertEquals(3, iterator.previousDouble(), 0);
+		Assert.assertEquals(2, iterator.previousDouble(), 0);
+		Assert.assertEquals(1, iterator.previousDouble(), 0);
+		Assert.assertFalse(iterator.hasPrevious());
+
+	}
+
+	@Test
+	public void drainTo_segments() {
+
+		DoubleBuffer first = DoubleBuffer.wrap(new double[] { 1d, 2d });
+		DoubleBuffer second = DoubleBuffer.wrap(new double[0]);
+		DoubleBuffer third = DoubleBuffer.wrap(new double[] { 3d, 4d, 5d });
+		DoubleBufferIterator iterator = new DoubleBufferIterator(first, second, third);
+		double[] destination = new double[4];
+
+		iterator.nextDouble();
+
+		Assert.assertEquals(3, iterator.drainTo(destination, 1, 3));
+		Assert.assertArrayEquals(new double[] { 0d, 2d, 3d, 4d }, destination, 0);
+		Assert.assertEquals(5d, iterator.nextDouble(), 0);
+		Assert.assertFalse(iterator.hasNext());
+		Assert.assertEquals(0, first.position());
+		Assert.assertEquals(0, third.position());
+
+	}
+
+	@Test
+	public void iterate_moveToEnd() {
+
+		DoubleBuffer buffer = DoubleBuffer.wrap(new double[] { 1, 2 });
+		DoubleBufferIterator iterator = new DoubleBufferIterator(buffer);
+
+		iterator.moveToEnd();
+
+		Assert.assertFalse(iterator.hasNext());
+		Assert.assertEquals(Double.valueOf(2), iterator.previous());
+		Assert.assertEquals(Double.valueOf(1), iterator.previous());
+		Assert.assertFalse(iterator.hasPrevious());
+
+	}
+
+	@Test
+	public void split() {
+
+		DoubleBuffer first = DoubleBuffer.wrap(new double[] { 1, 2 });
+		DoubleBuffer second = DoubleBuffer.wrap(new double[] { 3, 4, 5 });
+		DoubleBufferIterator iterator = new DoubleBufferIterator(first, second);
+
+		iterator.nextDouble();
+		DoubleBufferIterator split = iterator.split();
+
+		Assert.assertEquals(2, split.nextDouble(), 0);
+		Assert.assertEquals(3, split.nextDouble(), 0);
+		Assert.assertFalse(split.hasNext());
+		Assert.assertEquals(4, iterator.nextDouble(), 0);
+		Assert.assertEquals(5, iterator.nextDouble(), 0);
+		Assert.assertFalse(iterator.hasNext());
+		Assert.assertEquals(5, iterator.previousDouble(), 0);
+		Assert.assertEquals(4, iterator.previousDouble(), 0);
+		Assert.assertFalse(iterator.hasPrevious());
+
+	}
+
+	@Test
+	public void split_tooSmall() {
+
+		DoubleBuffer buffer = DoubleBuffer.wrap(new double[] { 1 });
+		DoubleBufferIterator iterator = new DoubleBufferIterator(buffer);
+
+		Assert.assertNull(iterator.split());
+		Assert.assertEquals(1, iterator.nextDouble(), 0);
+
+	}
+
+	@Test(expected = NoSuchElementException.class)
+	public void iterate_noNext() {
+
+		DoubleIterator iterator = new DoubleBufferIterator(DoubleBuffer.wrap(new double[0]));
+
+		iterator.nextDouble();
+
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void remove() {
+
+		DoubleBuffer buffer = DoubleBuffer.wrap(new double[] { 1 });
+		Iterator<Double> iterator = new DoubleBufferIterator(buffer);
+
+		iterator.next();
+		iterator.remove();
+
+	}
+
+}
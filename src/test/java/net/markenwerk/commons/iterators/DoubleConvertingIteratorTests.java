@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterators;
+
+import java.util.NoSuchElementException;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+@SuppressWarnings("javadoc")
+public class DoubleConvertingIteratorTests {
+
+	private static final IntegerToDoubleConverter INTEGER_CONVERTER = new IntegerToDoubleConverter() {
+		@Override
+		public double convert(int value) {
+			return value * 10;
+		}
+	};
+
+	private static final LongToDoubleConverter LONG_CONVERTER = new LongToDoubleConverter() {
+		@Override
+		public double convert(long value) {
+			return value * 10;
+		}
+	};
+
+	private static final DoubleToDoubleConverter DOUBLE_CONVERTER = new DoubleToDoubleConverter() {
+		@Override
+		public double convert(double value) {
+			return value * 10;
+		}
+	};
+
+	private static final ToDoubleConverter<String> LENGTH_CONVERTER = new ToDoubleConverter<String>() {
+		@Override
+		public double convert(String value) {
+			return value.length();
+		}
+	};
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullIterator() {
+
+		new DoubleConvertingIterator((IntegerIterator) null, INTEGER_CONVERTER);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullConverter() {
+
+		new DoubleConvertingIterator(new IntegerArrayIterator(), (IntegerToDoubleConverter) null);
+
+	}
+
+	@Test
+	public void iterate_integerIterator() {
+
+		DoubleConvertingIterator iterator = new DoubleConvertingIterator(new IntegerArrayIterator(1, 2), INTEGER_CONVERTER);
+
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(10, iterator.nextDouble(), 0);
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(Double.valueOf(20), iterator.next());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void iterate_longIterator() {
+
+		DoubleConvertingIterator iterator = new DoubleConvertingIterator(new LongArrayIterator(1, 2), LONG_CONVERTER);
+
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(10, iterator.nextDouble(), 0);
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(Double.valueOf(20), iterator.next());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void iterate_doubleIterator() {
+
+		DoubleConvertingIterator iterator = new DoubleConvertingIterator(new DoubleArrayIterator(1, 2), DOUBLE_CONVERTER);
+
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(10, iterator.nextDouble(), 0);
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(Double.valueOf(20), iterator.next());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void iterate_iterator() {
+
+		DoubleConvertingIterator iterator = new DoubleConvertingIterator(new ArrayIterator<String>("a", "bb"), LENGTH_CONVERTER);
+
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(1, iterator.nextDouble(), 0);
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(2, iterator.nextDouble(), 0);
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void characteristics() {
+
+		DoubleConvertingIterator iterator = new DoubleConvertingIterator(new CountUpIterator(1, 3), INTEGER_CONVERTER);
+
+		Assert.assertEquals(CharacterizedIterator.ORDERED | CharacterizedIterator.SIZED
+				| CharacterizedIterator.SUBSIZED | CharacterizedIterator.NONNULL, iterator.characteristics());
+		Assert.assertEquals(3, iterator.estimateSize());
+
+	}
+
+	@Test(expected = NoSuchElementException.class)
+	public void iterate_noNext() {
+
+		DoubleConvertingIterator iterator = new DoubleConvertingIterator(new IntegerArrayIterator(), INTEGER_CONVERTER);
+
+		iterator.nextDouble();
+
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void remove() {
+
+		DoubleConvertingIterator iterator = new DoubleConvertingIterator(new IntegerArrayIterator(1), INTEGER_CONVERTER);
+
+		iterator.nextDouble();
+		iterator.remove();
+
+	}
+
+}
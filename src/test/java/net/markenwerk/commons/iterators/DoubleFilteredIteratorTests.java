@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterators;
+
+import java.nio.DoubleBuffer;
+import java.util.NoSuchElementException;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+@SuppressWarnings("javadoc")
+public class DoubleFilteredIteratorTests {
+
+	private static final DoublePredicate EVEN_PREDICATE = new DoublePredicate() {
+		@Override
+		public boolean test(double value) {
+			return 0 == value % 2;
+		}
+	};
+
+	private static final DoublePredicate THROWING_PREDICATE = new DoublePredicate() {
+		@Override
+		public boolean test(double value) {
+			if (2 == value) {
+				throw new IllegalStateException();
+			}
+			return 0 == value % 2;
+		}
+	};
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullIterator() {
+
+		new DoubleFilteredIterator(null, EVEN_PREDICATE);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullPredicate() {
+
+		new DoubleFilteredIterator(new DoubleArrayIterator(), null);
+
+	}
+
+	@Test
+	public void iterate() {
+
+		DoubleIterator iterator = new DoubleFilteredIterator(new DoubleBufferIterator(DoubleBuffer.wrap(new double[] { 1, 2, 3, 4 })),
+				EVEN_PREDICATE);
+
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(2, iterator.nextDouble(), 0);
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(Double.valueOf(4), iterator.next());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void iterate_array() {
+
+		DoubleIterator iterator = new DoubleFilteredIterator(new DoubleArrayIterator(1, 2, 3, 4, 5), EVEN_PREDICATE);
+
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(2, iterator.nextDouble(), 0);
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(4, iterator.nextDouble(), 0);
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void iterate_arrayPartiallyConsumed() {
+
+		DoubleArrayIterator source = new DoubleArrayIterator(1, 2, 3, 4);
+		source.nextDouble();
+		source.nextDouble();
+		DoubleIterator iterator = new DoubleFilteredIterator(source, EVEN_PREDICATE);
+
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(4, iterator.nextDouble(), 0);
+		Assert.assertFalse(iterator.hasNext());
+		Assert.assertFalse(source.hasNext());
+
+	}
+
+	@Test
+	public void iterate_throwingPredicate() {
+
+		DoubleIterator iterator = new DoubleFilteredIterator(new DoubleBufferIterator(DoubleBuffer.wrap(new double[] { 1, 2, 3, 4 })),
+				THROWING_PREDICATE);
+
+		try {
+			iterator.hasNext();
+			Assert.fail();
+		} catch (IllegalStateException exception) {
+		}
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(4d, iterator.nextDouble(), 0d);
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void iterate_arrayThrowingPredicate() {
+
+		DoubleIterator iterator = new DoubleFilteredIterator(new DoubleArrayIterator(1, 2, 3, 4), THROWING_PREDICATE);
+
+		try {
+			iterator.hasNext();
+			Assert.fail();
+		} catch (IllegalStateException exception) {
+		}
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(4d, iterator.nextDouble(), 0d);
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void iterate_invertPredicate() {
+
+		DoubleIterator iterator = new DoubleFilteredIterator(new DoubleArrayIterator(1, 2, 3, 4), EVEN_PREDICATE, true);
+
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(1, iterator.nextDouble(), 0);
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(3, iterator.nextDouble(), 0);
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void characteristics() {
+
+		DoubleFilteredIterator iterator = new DoubleFilteredIterator(new DoubleArrayIterator(1, 2, 3, 4), EVEN_PREDICATE);
+
+		Assert.assertEquals(CharacterizedIterator.ORDERED | CharacterizedIterator.NONNULL, iterator.characteristics());
+		Assert.assertEquals(4, iterator.estimateSize());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(3, iterator.estimateSize());
+
+	}
+
+	@Test(expected = NoSuchElementException.class)
+	public void iterate_noNext() {
+
+		DoubleIterator iterator = new DoubleFilteredIterator(new DoubleArrayIterator(1), EVEN_PREDICATE);
+
+		iterator.nextDouble();
+
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void remove() {
+
+		DoubleIterator iterator = new DoubleFilteredIterator(new DoubleArrayIterator(2), EVEN_PREDICATE);
+
+		iterator.nextDouble();
+		iterator.remove();
+
+	}
+
+}
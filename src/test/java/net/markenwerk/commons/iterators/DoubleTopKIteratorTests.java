@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterators;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+@SuppressWarnings("javadoc")
+public class DoubleTopKIteratorTests {
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullIterator() {
+
+		new DoubleTopKIterator(null, 1);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nonPositiveSize() {
+
+		new DoubleTopKIterator(new DoubleArrayIterator(new double[0]), 0);
+
+	}
+
+	@Test
+	public void iterate() {
+
+		DoubleIterator source = new DoubleArrayIterator(new double[] { 3, 7, 1, 9, 4, 7 });
+		DoubleIterator iterator = new DoubleTopKIterator(source, 3);
+
+		Assert.assertEquals(9, iterator.nextDouble(), 0);
+		Assert.assertEquals(7, iterator.nextDouble(), 0);
+		Assert.assertEquals(7, iterator.nextDouble(), 0);
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void iterate_invertOrder() {
+
+		DoubleIterator source = new DoubleArrayIterator(new double[] { 3, 7, 1, 9, 4, 7 });
+		DoubleIterator iterator = new DoubleTopKIterator(source, 3, true);
+
+		Assert.assertEquals(1, iterator.nextDouble(), 0);
+		Assert.assertEquals(3, iterator.nextDouble(), 0);
+		Assert.assertEquals(4, iterator.nextDouble(), 0);
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void iterate_smallSource() {
+
+		DoubleIterator source = new DoubleArrayIterator(new double[] { 1, 2 });
+		Iterator<Double> iterator = new DoubleTopKIterator(source, 3);
+
+		Assert.assertEquals(Double.valueOf(2), iterator.next());
+		Assert.assertEquals(Double.valueOf(1), iterator.next());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void iterate_randomValues() {
+
+		Random random = new Random(42);
+		double[] values = new double[10000];
+		for (int i = 0; i < values.length; i++) {
+			values[i] = random.nextDouble();
+		}
+		DoubleIterator iterator = new DoubleTopKIterator(new DoubleArrayIterator(values), 100);
+
+		Arrays.sort(values);
+		for (int i = 0; i < 100; i++) {
+			Assert.assertEquals(values[values.length - 1 - i], iterator.nextDouble(), 0);
+		}
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void iterate_specialValues() {
+
+		DoubleIterator source = new DoubleArrayIterator(new double[] { 1, Double.NaN, Double.POSITIVE_INFINITY, -0d, 0d });
+		DoubleIterator iterator = new DoubleTopKIterator(source, 5);
+
+		Assert.assertTrue(Double.isNaN(iterator.nextDouble()));
+		Assert.assertEquals(Double.POSITIVE_INFINITY, iterator.nextDouble(), 0);
+		Assert.assertEquals(1, iterator.nextDouble(), 0);
+		Assert.assertEquals(Double.doubleToLongBits(0d), Double.doubleToLongBits(iterator.nextDouble()));
+		Assert.assertEquals(Double.doubleToLongBits(-0d), Double.doubleToLongBits(iterator.nextDouble()));
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test(expected = NoSuchElementException.class)
+	public void iterate_noNext() {
+
+		DoubleIterator iterator = new DoubleTopKIterator(new DoubleArrayIterator(new double[0]), 1);
+
+		iterator.nextDouble();
+
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void remove() {
+
+		DoubleIterator iterator = new DoubleTopKIterator(new DoubleArrayIterator(new double[] { 1 }), 1);
+
+		iterator.next();
+		iterator.remove();
+
+	}
+
+}
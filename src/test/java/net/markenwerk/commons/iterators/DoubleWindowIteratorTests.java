@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterators;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+@SuppressWarnings("javadoc")
+public class DoubleWindowIteratorTests {
+
+	private static final double DELTA = 1e-9;
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullIterator() {
+
+		new DoubleWindowIterator(null, 1, 1);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nonPositiveSize() {
+
+		new DoubleWindowIterator(new DoubleArrayIterator(), 0, 1);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nonPositiveStep() {
+
+		new DoubleWindowIterator(new DoubleArrayIterator(), 1, 0);
+
+	}
+
+	@Test
+	public void iterate_sliding() {
+
+		Iterator<DoubleWindow> iterator = new DoubleWindowIterator(new DoubleArrayIterator(1, 2, 3, 4), 3, 1);
+
+		DoubleWindow first = iterator.next();
+		Assert.assertEquals(3, first.size());
+		Assert.assertEquals(1, first.get(0), DELTA);
+		Assert.assertEquals(3, first.get(2), DELTA);
+		Assert.assertEquals(6, first.getSum(), DELTA);
+		Assert.assertEquals(2, first.getAverage(), DELTA);
+
+		DoubleWindow second = iterator.next();
+		Assert.assertEquals(2, second.get(0), DELTA);
+		Assert.assertEquals(4, second.get(2), DELTA);
+		Assert.assertEquals(9, second.getSum(), DELTA);
+		Assert.assertEquals(3, second.getAverage(), DELTA);
+
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void iterate_tumbling() {
+
+		Iterator<DoubleWindow> iterator = new DoubleWindowIterator(new DoubleArrayIterator(1, 2, 3, 4, 5), 2, 2);
+
+		Assert.assertEquals(3, iterator.next().getSum(), DELTA);
+		Assert.assertEquals(7, iterator.next().getSum(), DELTA);
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void iterate_nonFiniteValues() {
+
+		Iterator<DoubleWindow> iterator = new DoubleWindowIterator(new DoubleArrayIterator(1, Double.NaN,
+				Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY, 2, 3, 4), 2, 1);
+
+		Assert.assertTrue(Double.isNaN(iterator.next().getSum()));
+		Assert.assertTrue(Double.isNaN(iterator.next().getSum()));
+		Assert.assertTrue(Double.isNaN(iterator.next().getSum()));
+		Assert.assertEquals(Double.NEGATIVE_INFINITY, iterator.next().getSum(), DELTA);
+		Assert.assertEquals(5, iterator.next().getSum(), DELTA);
+		Assert.assertEquals(3.5, iterator.next().getAverage(), DELTA);
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void iterate_overflowingValues() {
+
+		Iterator<DoubleWindow> iterator = new DoubleWindowIterator(new DoubleArrayIterator(Double.MAX_VALUE,
+				Double.MAX_VALUE, 1, 2, 3), 2, 1);
+
+		Assert.assertEquals(Double.POSITIVE_INFINITY, iterator.next().getSum(), DELTA);
+		Assert.assertEquals(Double.MAX_VALUE, iterator.next().getSum(), DELTA);
+		Assert.assertEquals(3, iterator.next().getSum(), DELTA);
+		Assert.assertEquals(5, iterator.next().getSum(), DELTA);
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void iterate_invalidIndex() {
+
+		Iterator<DoubleWindow> iterator = new DoubleWindowIterator(new DoubleArrayIterator(1), 1, 1);
+
+		iterator.next().get(1);
+
+	}
+
+	@Test(expected = NoSuchElementException.class)
+	public void iterate_noNext() {
+
+		Iterator<DoubleWindow> iterator = new DoubleWindowIterator(new DoubleArrayIterator(), 1, 1);
+
+		iterator.next();
+
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void remove() {
+
+		Iterator<DoubleWindow> iterator = new DoubleWindowIterator(new DoubleArrayIterator(1), 1, 1);
+
+		iterator.next();
+		iterator.remove();
+
+	}
+
+}
@@ -51,6 +51,29 @@ public class FloatArrayIteratorTests {
 
 	}
 
+	@Test
+	public void drainTo() {
+
+		FloatArrayIterator iterator = new FloatArrayIterator(1f, 2f, 3f);
+		float[] destination = new float[3];
+
+		iterator.next();
+
+		Assert.assertEquals(2, iterator.drainTo(destination, 1, 2));
+		Assert.assertArrayEquals(new float[] { 0f, 2f, 3f }, destination, 0);
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void drainTo_exceedingRange() {
+
+		FloatArrayIterator iterator = new FloatArrayIterator(1f, 2f, 3f);
+
+		iterator.drainTo(new float[3], 2, 2);
+
+	}
+
 	@Test(expected = NoSuchElementException.class)
 	public void iterate_noNext() {
 
@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterators;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import net.markenwerk.commons.interfaces.Converter;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+@SuppressWarnings("javadoc")
+public class GroupingIteratorTests {
+
+	private static final Converter<String, Character> FIRST_CHARACTER_CONVERTER = new Converter<String, Character>() {
+
+		@Override
+		public Character convert(String string) {
+			return string.charAt(0);
+		}
+
+	};
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullIterator() {
+
+		new GroupingIterator<Character, String>(null, FIRST_CHARACTER_CONVERTER);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullConverter() {
+
+		new GroupingIterator<Character, String>(new EmptyIterator<String>(), null);
+
+	}
+
+	@Test
+	public void iterate_noElements() {
+
+		Iterator<Group<Character, String>> iterator = new GroupingIterator<Character, String>(
+				new EmptyIterator<String>(), FIRST_CHARACTER_CONVERTER);
+
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void iterate_streaming() {
+
+		Iterator<Group<Character, String>> iterator = new GroupingIterator<Character, String>(
+				new ArrayIterator<String>("a1", "a2", "b1", "a3"), FIRST_CHARACTER_CONVERTER);
+
+		Assert.assertTrue(iterator.hasNext());
+		Group<Character, String> first = iterator.next();
+		Assert.assertEquals(Character.valueOf('a'), first.getKey());
+		Assert.assertEquals("a1", first.next());
+		Assert.assertEquals("a2", first.next());
+		Assert.assertFalse(first.hasNext());
+
+		Assert.assertTrue(iterator.hasNext());
+		Group<Character, String> second = iterator.next();
+		Assert.assertEquals(Character.valueOf('b'), second.getKey());
+		Assert.assertEquals("b1", second.next());
+		Assert.assertFalse(second.hasNext());
+
+		Assert.assertTrue(iterator.hasNext());
+		Group<Character, String> third = iterator.next();
+		Assert.assertEquals(Character.valueOf('a'), third.getKey());
+		Assert.assertEquals("a3", third.next());
+		Assert.assertFalse(third.hasNext());
+
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void iterate_streamingSkipRemainder() {
+
+		Iterator<Group<Character, String>> iterator = new GroupingIterator<Character, String>(
+				new ArrayIterator<String>("a1", "a2", "b1"), FIRST_CHARACTER_CONVERTER);
+
+		Group<Character, String> first = iterator.next();
+		Assert.assertEquals("a1", first.next());
+
+		Group<Character, String> second = iterator.next();
+		Assert.assertFalse(first.hasNext());
+		Assert.assertEquals(Character.valueOf('b'), second.getKey());
+		Assert.assertEquals("b1", second.next());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void iterate_buffering() {
+
+		Iterator<Group<Character, String>> iterator = new GroupingIterator<Character, String>(
+				new ArrayIterator<String>("a1", "a2", "b1"), FIRST_CHARACTER_CONVERTER, true);
+
+		Group<Character, String> first = iterator.next();
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(Character.valueOf('a'), first.getKey());
+		Assert.assertEquals("a1", first.next());
+		Assert.assertEquals("a2", first.next());
+		Assert.assertFalse(first.hasNext());
+
+		Group<Character, String> second = iterator.next();
+		Assert.assertEquals(Character.valueOf('b'), second.getKey());
+		Assert.assertEquals("b1", second.next());
+		Assert.assertFalse(second.hasNext());
+
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void iterate_bufferingInvalidated() {
+
+		Iterator<Group<Character, String>> iterator = new GroupingIterator<Character, String>(
+				new ArrayIterator<String>("a1", "b1"), FIRST_CHARACTER_CONVERTER, true);
+
+		Group<Character, String> first = iterator.next();
+		iterator.next();
+
+		Assert.assertFalse(first.hasNext());
+
+	}
+
+	@Test(expected = NoSuchElementException.class)
+	public void iterate_noNext() {
+
+		Iterator<Group<Character, String>> iterator = new GroupingIterator<Character, String>(
+				new EmptyIterator<String>(), FIRST_CHARACTER_CONVERTER);
+
+		iterator.next();
+
+	}
+
+	@Test(expected = NoSuchElementException.class)
+	public void iterate_groupNoNext() {
+
+		Iterator<Group<Character, String>> iterator = new GroupingIterator<Character, String>(
+				new ArrayIterator<String>("a1"), FIRST_CHARACTER_CONVERTER);
+
+		Group<Character, String> group = iterator.next();
+		group.next();
+		group.next();
+
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void remove() {
+
+		Iterator<Group<Character, String>> iterator = new GroupingIterator<Character, String>(
+				new ArrayIterator<String>("a1"), FIRST_CHARACTER_CONVERTER);
+
+		iterator.next();
+		iterator.remove();
+
+	}
+
+}
@@ -22,6 +22,7 @@
 package net.markenwerk.commons.iterators;
 
 import java.util.Iterator;
+import java.util.LinkedList;
 import java.util.NoSuchElementException;
 
 import org.junit.Assert;
@@ -117,6 +118,45 @@ public class InfixedIteratorTests {
 
 	}
 
+	@Test
+	public void estimateSize() {
+
+		Object[] values = new Object[] { new Object(), new Object(), new Object() };
+		InfixedIterator<Object> iterator = new InfixedIterator<Object>(new ArrayIterator<Object>(values), INFIX,
+				INFIX);
+
+		for (int i = 7; i > 0; i--) {
+			Assert.assertEquals(i, iterator.estimateSize());
+			iterator.next();
+		}
+		Assert.assertEquals(0, iterator.estimateSize());
+
+	}
+
+	@Test
+	public void characteristics() {
+
+		Object[] values = new Object[] { new Object() };
+		InfixedIterator<Object> iterator = new InfixedIterator<Object>(new ArrayIterator<Object>(values), INFIX);
+
+		int characteristics = iterator.characteristics();
+
+		Assert.assertEquals(CharacterizedIterator.ORDERED | CharacterizedIterator.SIZED
+				| CharacterizedIterator.SUBSIZED, characteristics);
+
+	}
+
+	@Test
+	public void characteristics_unknownIterator() {
+
+		Iterator<Object> source = new LinkedList<Object>().iterator();
+		InfixedIterator<Object> iterator = new InfixedIterator<Object>(source, INFIX);
+
+		Assert.assertEquals(0, iterator.characteristics());
+		Assert.assertEquals(Long.MAX_VALUE, iterator.estimateSize());
+
+	}
+
 	@Test(expected = NoSuchElementException.class)
 	public void iterate_noNext() {
 
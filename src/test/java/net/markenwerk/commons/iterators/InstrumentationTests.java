@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterators;
+
+import java.util.Iterator;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import net.markenwerk.commons.interfaces.Converter;
+import net.markenwerk.commons.interfaces.Predicate;
+
+@SuppressWarnings("javadoc")
+public class InstrumentationTests {
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nonPositiveSamplingInterval() {
+
+		new Instrumentation(0);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void addStage_nullName() {
+
+		new Instrumentation().addStage(null);
+
+	}
+
+	@Test
+	public void snapshot() {
+
+		Instrumentation instrumentation = new Instrumentation();
+		StageStatistics source = instrumentation.addStage("source");
+		StageStatistics filter = instrumentation.addStage("filter");
+		StageStatistics converter = instrumentation.addStage("converter");
+
+		Iterator<Integer> filtered = new FilteredIterator<Integer>(new InstrumentedIterator<Integer>(
+				new CountUpIterator(1, 10), source), new InstrumentedPredicate<Integer>(new Predicate<Integer>() {
+			@Override
+			public boolean test(Integer value) {
+				return value > 3;
+			}
+		}, filter));
+		Iterator<String> iterator = new ConvertingIterator<Integer, String>(filtered,
+				new InstrumentedConverter<Integer, String>(new Converter<Integer, String>() {
+					@Override
+					public String convert(Integer value) {
+						return value.toString();
+					}
+				}, converter));
+
+		while (iterator.hasNext()) {
+			iterator.next();
+		}
+
+		List<StageSnapshot> snapshots = instrumentation.snapshot();
+		Assert.assertEquals(3, snapshots.size());
+		Assert.assertEquals("source", snapshots.get(0).getName());
+		Assert.assertEquals(10, snapshots.get(0).getNextCalls());
+		Assert.assertEquals("filter", snapshots.get(1).getName());
+		Assert.assertEquals(10, snapshots.get(1).getTests());
+		Assert.assertEquals(7, snapshots.get(1).getSatisfiedTests());
+		Assert.assertEquals("converter", snapshots.get(2).getName());
+		Assert.assertEquals(7, snapshots.get(2).getConversions());
+
+	}
+
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterators;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import net.markenwerk.commons.interfaces.Converter;
+
+@SuppressWarnings("javadoc")
+public class InstrumentedConverterTests {
+
+	private static final Converter<Integer, String> STRING_CONVERTER = new Converter<Integer, String>() {
+		@Override
+		public String convert(Integer value) {
+			return value.toString();
+		}
+	};
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullConverter() {
+
+		new InstrumentedConverter<Integer, String>(null, new StageStatistics("stage", 1));
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullStatistics() {
+
+		new InstrumentedConverter<Integer, String>(STRING_CONVERTER, null);
+
+	}
+
+	@Test
+	public void convert() {
+
+		StageStatistics statistics = new StageStatistics("stage", 1);
+		Converter<Integer, String> converter = new InstrumentedConverter<Integer, String>(STRING_CONVERTER,
+				statistics);
+
+		Assert.assertEquals("1", converter.convert(1));
+		Assert.assertEquals("2", converter.convert(2));
+
+		StageSnapshot snapshot = statistics.snapshot();
+		Assert.assertEquals(2, snapshot.getConversions());
+		Assert.assertTrue(snapshot.getConversionNanos() >= 0);
+
+	}
+
+	@Test
+	public void convert_failed() {
+
+		StageStatistics statistics = new StageStatistics("stage", 1);
+		Converter<Integer, String> converter = new InstrumentedConverter<Integer, String>(STRING_CONVERTER,
+				statistics);
+
+		try {
+			converter.convert(null);
+			Assert.fail();
+		} catch (NullPointerException e) {
+		}
+
+		Assert.assertEquals(1, statistics.snapshot().getConversions());
+
+	}
+
+}
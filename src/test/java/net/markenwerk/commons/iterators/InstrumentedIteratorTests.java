@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterators;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+@SuppressWarnings("javadoc")
+public class InstrumentedIteratorTests {
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullIterator() {
+
+		new InstrumentedIterator<Object>(null, new StageStatistics("stage", 1));
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullStatistics() {
+
+		new InstrumentedIterator<Object>(new EmptyIterator<Object>(), null);
+
+	}
+
+	@Test
+	public void iterate() {
+
+		StageStatistics statistics = new StageStatistics("stage", 1);
+		Iterator<Integer> iterator = new InstrumentedIterator<Integer>(new CountUpIterator(1, 2), statistics);
+
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(Integer.valueOf(1), iterator.next());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(Integer.valueOf(2), iterator.next());
+		Assert.assertFalse(iterator.hasNext());
+
+		StageSnapshot snapshot = statistics.snapshot();
+		Assert.assertEquals("stage", snapshot.getName());
+		Assert.assertEquals(3, snapshot.getHasNextCalls());
+		Assert.assertEquals(2, snapshot.getNextCalls());
+		Assert.assertTrue(snapshot.getHasNextNanos() >= 0);
+		Assert.assertTrue(snapshot.getNextNanos() >= 0);
+		Assert.assertEquals(0, snapshot.getTests());
+		Assert.assertEquals(0, snapshot.getConversions());
+
+	}
+
+	@Test
+	public void iterate_sampled() {
+
+		StageStatistics statistics = new StageStatistics("stage", 100);
+		Iterator<Integer> iterator = new InstrumentedIterator<Integer>(new CountUpIterator(1, 10), statistics);
+
+		while (iterator.hasNext()) {
+			iterator.next();
+		}
+
+		StageSnapshot snapshot = statistics.snapshot();
+		Assert.assertEquals(11, snapshot.getHasNextCalls());
+		Assert.assertEquals(10, snapshot.getNextCalls());
+		Assert.assertEquals(0, snapshot.getHasNextNanos());
+		Assert.assertEquals(0, snapshot.getNextNanos());
+
+	}
+
+	@Test
+	public void iterate_noNext() {
+
+		StageStatistics statistics = new StageStatistics("stage", 1);
+		Iterator<Object> iterator = new InstrumentedIterator<Object>(new EmptyIterator<Object>(), statistics);
+
+		try {
+			iterator.next();
+			Assert.fail();
+		} catch (NoSuchElementException e) {
+		}
+
+		Assert.assertEquals(1, statistics.snapshot().getNextCalls());
+
+	}
+
+	@Test
+	public void characteristics() {
+
+		CharacterizedIterator<Integer> iterator = new InstrumentedIterator<Integer>(new CountUpIterator(1, 3),
+				new StageStatistics("stage", 1));
+
+		Assert.assertEquals(new CountUpIterator(1, 3).characteristics(), iterator.characteristics());
+		Assert.assertEquals(3, iterator.estimateSize());
+
+	}
+
+	@Test
+	public void remove() {
+
+		RemoveTestIterator testIterator = new RemoveTestIterator();
+		Iterator<Object> iterator = new InstrumentedIterator<Object>(testIterator, new StageStatistics("stage", 1));
+
+		iterator.next();
+		iterator.remove();
+
+		Assert.assertTrue(testIterator.removed());
+
+	}
+
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterators;
+
+import java.util.Iterator;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import net.markenwerk.commons.interfaces.Predicate;
+
+@SuppressWarnings("javadoc")
+public class InstrumentedPredicateTests {
+
+	private static final Predicate<Integer> EVEN_PREDICATE = new Predicate<Integer>() {
+		@Override
+		public boolean test(Integer value) {
+			return 0 == value % 2;
+		}
+	};
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullPredicate() {
+
+		new InstrumentedPredicate<Integer>(null, new StageStatistics("stage", 1));
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullStatistics() {
+
+		new InstrumentedPredicate<Integer>(EVEN_PREDICATE, null);
+
+	}
+
+	@Test
+	public void test() {
+
+		StageStatistics statistics = new StageStatistics("stage", 1);
+		Predicate<Integer> predicate = new InstrumentedPredicate<Integer>(EVEN_PREDICATE, statistics);
+
+		Assert.assertTrue(predicate.test(2));
+		Assert.assertFalse(predicate.test(3));
+
+		StageSnapshot snapshot = statistics.snapshot();
+		Assert.assertEquals(2, snapshot.getTests());
+		Assert.assertEquals(1, snapshot.getSatisfiedTests());
+		Assert.assertEquals(0.5, snapshot.getSelectivity(), 0);
+		Assert.assertTrue(snapshot.getTestNanos() >= 0);
+
+	}
+
+	@Test
+	public void test_filtered() {
+
+		StageStatistics statistics = new StageStatistics("stage", 1);
+		Iterator<Integer> iterator = new FilteredIterator<Integer>(new CountUpIterator(1, 8),
+				new InstrumentedPredicate<Integer>(EVEN_PREDICATE, statistics));
+
+		while (iterator.hasNext()) {
+			iterator.next();
+		}
+
+		StageSnapshot snapshot = statistics.snapshot();
+		Assert.assertEquals(8, snapshot.getTests());
+		Assert.assertEquals(4, snapshot.getSatisfiedTests());
+
+	}
+
+	@Test
+	public void test_untested() {
+
+		StageStatistics statistics = new StageStatistics("stage", 1);
+
+		Assert.assertTrue(Double.isNaN(statistics.snapshot().getSelectivity()));
+
+	}
+
+}
@@ -51,6 +51,54 @@ public class IntegerArrayIteratorTests {
 
 	}
 
+	@Test
+	public void iterate_nextInteger() {
+
+		int[] values = new int[] { 1, 2 };
+		IntegerIterator iterator = new IntegerArrayIterator(values);
+
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(values[0], iterator.nextInteger());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(values[1], iterator.nextInteger());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void characteristics() {
+
+		IntegerArrayIterator iterator = new IntegerArrayIterator(1, 2);
+
+		Assert.assertEquals(CharacterizedIterator.ORDERED | CharacterizedIterator.SIZED
+				| CharacterizedIterator.SUBSIZED | CharacterizedIterator.NONNULL, iterator.characteristics());
+		Assert.assertEquals(2, iterator.estimateSize());
+
+	}
+
+	@Test
+	public void drainTo() {
+
+		IntegerArrayIterator iterator = new IntegerArrayIterator(1, 2, 3);
+		int[] destination = new int[3];
+
+		iterator.next();
+
+		Assert.assertEquals(2, iterator.drainTo(destination, 1, 2));
+		Assert.assertArrayEquals(new int[] { 0, 2, 3 }, destination);
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void drainTo_exceedingRange() {
+
+		IntegerArrayIterator iterator = new IntegerArrayIterator(1, 2, 3);
+
+		iterator.drainTo(new int[3], 2, 2);
+
+	}
+
 	@Test(expected = NoSuchElementException.class)
 	public void iterate_noNext() {
 
@@ -0,0 +1,201 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterators;
+
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+@SuppressWarnings("javadoc")
+public class IntegerBufferIteratorTests {
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullBuffers() {
+
+		new IntegerBufferIterator((IntBuffer[]) null);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullBuffer() {
+
+		new IntegerBufferIterator((IntBuffer) null);
+
+	}
+
+	@Test
+	public void iterate() {
+
+		IntBuffer buffer = IntBuffer.wrap(new int[] { 1, 2 });
+		Iterator<Integer> iterator = new IntegerBufferIterator(buffer);
+
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(Integer.valueOf(1), iterator.next());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(Integer.valueOf(2), iterator.next());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void iterate_nextInteger() {
+
+		IntBuffer buffer = ByteBuffer.allocateDirect(8).asIntBuffer();
+		buffer.put(0, 1).put(1, 2);
+		IntegerIterator iterator = new IntegerBufferIterator(buffer);
+
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(1, iterator.nextInteger());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(2, iterator.nextInteger());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void iterate_remainingValues() {
+
+		IntBuffer buffer = IntBuffer.wrap(new int[] { 1, 2, 3 });
+		buffer.position(1);
+		IntegerBufferIterator iterator = new IntegerBufferIterator(buffer);
+
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(2, iterator.nextInteger());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(3, iterator.nextInteger());
+		Assert.assertFalse(iterator.hasNext());
+		Assert.assertEquals(1, buffer.position());
+
+	}
+
+	@Test
+	public void iterate_segments() {
+
+		IntBuffer first = IntBuffer.wrap(new int[] { 1 });
+		IntBuffer second = IntBuffer.wrap(new int[0]);
+		IntBuffer third = IntBuffer.wrap(new int[] { 2, 3 });
+		IntegerBufferIterator iterator = new IntegerBufferIterator(first, second, third);
+
+		Assert.assertEquals(1, iterator.nextInteger());
+		Assert.assertEquals(2, iterator.nextInteger());
+		Assert.assertEquals(3, iterator.nextInteger());
+		Assert.assertFalse(iterator.hasNext());
+		Assert.assertEquals(3, iterator.previousInteger());
+		Assert.assertEquals(2, iterator.previousInteger());
+		Assert.assertEquals(1, iterator.previousInteger());
+		Assert.assertFalse(iterator.hasPrevious());
+
+	}
+
+	@Test
+	public void drainTo_segments() {
+
+		IntBuffer first = IntBuffer.wrap(new int[] { 1, 2 });
+		IntBuffer second = IntBuffer.wrap(new int[0]);
+		IntBuffer third = IntBuffer.wrap(new int[] { 3, 4, 5 });
+		IntegerBufferIterator iterator = new IntegerBufferIterator(first, second, third);
+		int[] destination = new int[4];
+
+		iterator.nextInteger();
+
+		Assert.assertEquals(3, iterator.drainTo(destination, 1, 3));
+		Assert.assertArrayEquals(new int[] { 0, 2, 3, 4 }, destination);
+		Assert.assertEquals(5, iterator.nextInteger());
+		Assert.assertFalse(iterator.hasNext());
+		Assert.assertEquals(0, first.position());
+		Assert.assertEquals(0, third.position());
+
+	}
+
+	@Test
+	public void iterate_moveToEnd() {
+
+		IntBuffer buffer = IntBuffer.wrap(new int[] { 1, 2 });
+		IntegerBufferIterator iterator = new IntegerBufferIterator(buffer);
+
+		iterator.moveToEnd();
+
+		Assert.assertFalse(iterator.hasNext());
+		Assert.assertEquals(Integer.valueOf(2), iterator.previous());
+		Assert.assertEquals(Integer.valueOf(1), iterator.previous());
+		Assert.assertFalse(iterator.hasPrevious());
+
+	}
+
+	@Test
+	public void split() {
+
+		IntBuffer first = IntBuffer.wrap(new int[] { 1, 2 });
+		IntBuffer second = IntBuffer.wrap(new int[] { 3, 4, 5 });
+		IntegerBufferIterator iterator = new IntegerBufferIterator(first, second);
+
+		iterator.nextInteger();
+		IntegerBufferIterator split = iterator.split();
+
+		Assert.assertEquals(2, split.nextInteger());
+		Assert.assertEquals(3, split.nextInteger());
+		Assert.assertFalse(split.hasNext());
+		Assert.assertEquals(4, iterator.nextInteger());
+		Assert.assertEquals(5, iterator.nextInteger());
+		Assert.assertFalse(iterator.hasNext());
+		Assert.assertEquals(5, iterator.previousInteger());
+		Assert.assertEquals(4, iterator.previousInteger());
+		Assert.assertFalse(iterator.hasPrevious());
+
+	}
+
+	@Test
+	public void split_tooSmall() {
+
+		IntBuffer buffer = IntBuffer.wrap(new int[] { 1 });
+		IntegerBufferIterator iterator = new IntegerBufferIterator(buffer);
+
+		Assert.assertNull(iterator.split());
+		Assert.assertEquals(1, iterator.nextInteger());
+
+	}
+
+	@Test(expected = NoSuchElementException.class)
+	public void iterate_noNext() {
+
+		IntegerIterator iterator = new IntegerBufferIterator(IntBuffer.wrap(new int[0]));
+
+		iterator.nextInteger();
+
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void remove() {
+
+		IntBuffer buffer = IntBuffer.wrap(new int[] { 1 });
+		Iterator<Integer> iterator = new IntegerBufferIterator(buffer);
+
+		iterator.next();
+		iterator.remove();
+
+	}
+
+}
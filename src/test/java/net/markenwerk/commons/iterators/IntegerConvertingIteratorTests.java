@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterators;
+
+import java.util.NoSuchElementException;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+@SuppressWarnings("javadoc")
+public class IntegerConvertingIteratorTests {
+
+	private static final IntegerToIntegerConverter INTEGER_CONVERTER = new IntegerToIntegerConverter() {
+		@Override
+		public int convert(int value) {
+			return value * 10;
+		}
+	};
+
+	private static final LongToIntegerConverter LONG_CONVERTER = new LongToIntegerConverter() {
+		@Override
+		public int convert(long value) {
+			return (int) (value * 10);
+		}
+	};
+
+	private static final DoubleToIntegerConverter DOUBLE_CONVERTER = new DoubleToIntegerConverter() {
+		@Override
+		public int convert(double value) {
+			return (int) (value * 10);
+		}
+	};
+
+	private static final ToIntegerConverter<String> LENGTH_CONVERTER = new ToIntegerConverter<String>() {
+		@Override
+		public int convert(String value) {
+			return value.length();
+		}
+	};
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullIterator() {
+
+		new IntegerConvertingIterator((IntegerIterator) null, INTEGER_CONVERTER);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullConverter() {
+
+		new IntegerConvertingIterator(new IntegerArrayIterator(), (IntegerToIntegerConverter) null);
+
+	}
+
+	@Test
+	public void iterate_integerIterator() {
+
+		IntegerConvertingIterator iterator = new IntegerConvertingIterator(new IntegerArrayIterator(1, 2), INTEGER_CONVERTER);
+
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(10, iterator.nextInteger());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(Integer.valueOf(20), iterator.next());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void iterate_longIterator() {
+
+		IntegerConvertingIterator iterator = new IntegerConvertingIterator(new LongArrayIterator(1, 2), LONG_CONVERTER);
+
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(10, iterator.nextInteger());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(Integer.valueOf(20), iterator.next());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void iterate_doubleIterator() {
+
+		IntegerConvertingIterator iterator = new IntegerConvertingIterator(new DoubleArrayIterator(1, 2), DOUBLE_CONVERTER);
+
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(10, iterator.nextInteger());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(Integer.valueOf(20), iterator.next());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void iterate_iterator() {
+
+		IntegerConvertingIterator iterator = new IntegerConvertingIterator(new ArrayIterator<String>("a", "bb"), LENGTH_CONVERTER);
+
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(1, iterator.nextInteger());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(2, iterator.nextInteger());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void characteristics() {
+
+		IntegerConvertingIterator iterator = new IntegerConvertingIterator(new CountUpIterator(1, 3), INTEGER_CONVERTER);
+
+		Assert.assertEquals(CharacterizedIterator.ORDERED | CharacterizedIterator.SIZED
+				| CharacterizedIterator.SUBSIZED | CharacterizedIterator.NONNULL, iterator.characteristics());
+		Assert.assertEquals(3, iterator.estimateSize());
+
+	}
+
+	@Test(expected = NoSuchElementException.class)
+	public void iterate_noNext() {
+
+		IntegerConvertingIterator iterator = new IntegerConvertingIterator(new IntegerArrayIterator(), INTEGER_CONVERTER);
+
+		iterator.nextInteger();
+
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void remove() {
+
+		IntegerConvertingIterator iterator = new IntegerConvertingIterator(new IntegerArrayIterator(1), INTEGER_CONVERTER);
+
+		iterator.nextInteger();
+		iterator.remove();
+
+	}
+
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterators;
+
+import java.nio.IntBuffer;
+import java.util.NoSuchElementException;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+@SuppressWarnings("javadoc")
+public class IntegerFilteredIteratorTests {
+
+	private static final IntegerPredicate EVEN_PREDICATE = new IntegerPredicate() {
+		@Override
+		public boolean test(int value) {
+			return 0 == value % 2;
+		}
+	};
+
+	private static final IntegerPredicate THROWING_PREDICATE = new IntegerPredicate() {
+		@Override
+		public boolean test(int value) {
+			if (2 == value) {
+				throw new IllegalStateException();
+			}
+			return 0 == value % 2;
+		}
+	};
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullIterator() {
+
+		new IntegerFilteredIterator(null, EVEN_PREDICATE);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullPredicate() {
+
+		new IntegerFilteredIterator(new IntegerArrayIterator(), null);
+
+	}
+
+	@Test
+	public void iterate() {
+
+		IntegerIterator iterator = new IntegerFilteredIterator(new IntegerBufferIterator(IntBuffer.wrap(new int[] { 1, 2, 3, 4 })),
+				EVEN_PREDICATE);
+
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(2, iterator.nextInteger());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(Integer.valueOf(4), iterator.next());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void iterate_array() {
+
+		IntegerIterator iterator = new IntegerFilteredIterator(new IntegerArrayIterator(1, 2, 3, 4, 5), EVEN_PREDICATE);
+
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(2, iterator.nextInteger());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(4, iterator.nextInteger());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void iterate_arrayPartiallyConsumed() {
+
+		IntegerArrayIterator source = new IntegerArrayIterator(1, 2, 3, 4);
+		source.nextInteger();
+		source.nextInteger();
+		IntegerIterator iterator = new IntegerFilteredIterator(source, EVEN_PREDICATE);
+
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(4, iterator.nextInteger());
+		Assert.assertFalse(iterator.hasNext());
+		Assert.assertFalse(source.hasNext());
+
+	}
+
+	@Test
+	public void iterate_throwingPredicate() {
+
+		IntegerIterator iterator = new IntegerFilteredIterator(new IntegerBufferIterator(IntBuffer.wrap(new int[] { 1, 2, 3, 4 })),
+				THROWING_PREDICATE);
+
+		try {
+			iterator.hasNext();
+			Assert.fail();
+		} catch (IllegalStateException exception) {
+		}
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(4, iterator.nextInteger());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void iterate_arrayThrowingPredicate() {
+
+		IntegerIterator iterator = new IntegerFilteredIterator(new IntegerArrayIterator(1, 2, 3, 4), THROWING_PREDICATE);
+
+		try {
+			iterator.hasNext();
+			Assert.fail();
+		} catch (IllegalStateException exception) {
+		}
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(4, iterator.nextInteger());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void iterate_invertPredicate() {
+
+		IntegerIterator iterator = new IntegerFilteredIterator(new IntegerArrayIterator(1, 2, 3, 4), EVEN_PREDICATE, true);
+
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(1, iterator.nextInteger());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(3, iterator.nextInteger());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void characteristics() {
+
+		IntegerFilteredIterator iterator = new IntegerFilteredIterator(new IntegerArrayIterator(1, 2, 3, 4), EVEN_PREDICATE);
+
+		Assert.assertEquals(CharacterizedIterator.ORDERED | CharacterizedIterator.NONNULL, iterator.characteristics());
+		Assert.assertEquals(4, iterator.estimateSize());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(3, iterator.estimateSize());
+
+	}
+
+	@Test(expected = NoSuchElementException.class)
+	public void iterate_noNext() {
+
+		IntegerIterator iterator = new IntegerFilteredIterator(new IntegerArrayIterator(1), EVEN_PREDICATE);
+
+		iterator.nextInteger();
+
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void remove() {
+
+		IntegerIterator iterator = new IntegerFilteredIterator(new IntegerArrayIterator(2), EVEN_PREDICATE);
+
+		iterator.nextInteger();
+		iterator.remove();
+
+	}
+
+}
@@ -0,0 +1,239 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterators;
+
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+@SuppressWarnings("javadoc")
+public class InterleavingIteratorTests {
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullArray() {
+
+		new InterleavingIterator<Object>((Iterator<Object>[]) null);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullIterable() {
+
+		new InterleavingIterator<Object>((Iterable<Iterator<Object>>) null);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullIterator() {
+
+		new InterleavingIterator<Object>((Iterator<Iterator<Object>>) null);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	@SuppressWarnings("unchecked")
+	public void create_nullWeights() {
+
+		new InterleavingIterator<Object>((int[]) null, new EmptyIterator<Object>());
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	@SuppressWarnings("unchecked")
+	public void create_tooFewWeights() {
+
+		new InterleavingIterator<Object>(new int[] { 1 }, new EmptyIterator<Object>(), new EmptyIterator<Object>());
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	@SuppressWarnings("unchecked")
+	public void create_tooManyWeights() {
+
+		new InterleavingIterator<Object>(new int[] { 1, 1 }, new EmptyIterator<Object>());
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	@SuppressWarnings("unchecked")
+	public void create_nonPositiveWeight() {
+
+		new InterleavingIterator<Object>(new int[] { 0 }, new EmptyIterator<Object>());
+
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void iterate_noIterators() {
+
+		Iterator<Object> iterator = new InterleavingIterator<Object>();
+
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void iterate_iteratorsArray() {
+
+		Iterator<Integer> iterator = new InterleavingIterator<Integer>(new ArrayIterator<Integer>(1, 4, 6),
+				new EmptyIterator<Integer>(), new ArrayIterator<Integer>(2), new ArrayIterator<Integer>(3, 5));
+
+		for (int i = 1; i <= 6; i++) {
+			Assert.assertTrue(iterator.hasNext());
+			Assert.assertEquals(Integer.valueOf(i), iterator.next());
+		}
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void iterate_iteratorsIterable() {
+
+		List<Iterator<Integer>> iteratorsList = new LinkedList<Iterator<Integer>>();
+		iteratorsList.add(new ArrayIterator<Integer>(1, 3));
+		iteratorsList.add(new ArrayIterator<Integer>(2, 4));
+		Iterator<Integer> iterator = new InterleavingIterator<Integer>(iteratorsList);
+
+		for (int i = 1; i <= 4; i++) {
+			Assert.assertTrue(iterator.hasNext());
+			Assert.assertEquals(Integer.valueOf(i), iterator.next());
+		}
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void iterate_iteratorsIterator() {
+
+		List<Iterator<Integer>> iteratorsList = new LinkedList<Iterator<Integer>>();
+		iteratorsList.add(new ArrayIterator<Integer>(1, 3));
+		iteratorsList.add(new ArrayIterator<Integer>(2, 4));
+		Iterator<Integer> iterator = new InterleavingIterator<Integer>(iteratorsList.iterator());
+
+		for (int i = 1; i <= 4; i++) {
+			Assert.assertTrue(iterator.hasNext());
+			Assert.assertEquals(Integer.valueOf(i), iterator.next());
+		}
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void iterate_infiniteIterators() {
+
+		Iterator<Iterator<Integer>> iterators = new AbstractProtectedIterator<Iterator<Integer>>() {
+
+			private int index;
+
+			@Override
+			public boolean hasNext() {
+				return true;
+			}
+
+			@Override
+			public Iterator<Integer> next() {
+				return new ArrayIterator<Integer>(index++);
+			}
+
+		};
+		Iterator<Integer> iterator = new InterleavingIterator<Integer>(iterators);
+
+		for (int i = 0; i < 100; i++) {
+			Assert.assertTrue(iterator.hasNext());
+			Assert.assertEquals(Integer.valueOf(i), iterator.next());
+		}
+
+	}
+
+	@Test
+	public void iterate_exhaustedIterators() {
+
+		List<Iterator<Integer>> iteratorsList = new LinkedList<Iterator<Integer>>();
+		iteratorsList.add(new ArrayIterator<Integer>(1, 4));
+		iteratorsList.add(new EmptyIterator<Integer>());
+		iteratorsList.add(new ArrayIterator<Integer>(2));
+		iteratorsList.add(new ArrayIterator<Integer>(3, 5, 6));
+		Iterator<Integer> iterator = new InterleavingIterator<Integer>(iteratorsList.iterator());
+
+		for (int i = 1; i <= 6; i++) {
+			Assert.assertTrue(iterator.hasNext());
+			Assert.assertEquals(Integer.valueOf(i), iterator.next());
+		}
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void iterate_weighted() {
+
+		Iterator<Integer> iterator = new InterleavingIterator<Integer>(new int[] { 2, 1 }, new ArrayIterator<Integer>(
+				1, 2, 4, 5, 7), new ArrayIterator<Integer>(3, 6));
+
+		for (int i = 1; i <= 7; i++) {
+			Assert.assertTrue(iterator.hasNext());
+			Assert.assertEquals(Integer.valueOf(i), iterator.next());
+		}
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test(expected = NoSuchElementException.class)
+	@SuppressWarnings("unchecked")
+	public void iterate_noNext() {
+
+		Iterator<Object> iterator = new InterleavingIterator<Object>();
+
+		iterator.next();
+
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void remove() {
+
+		RemoveTestIterator testIterator = new RemoveTestIterator();
+		Iterator<Object> iterator = new InterleavingIterator<Object>(testIterator);
+
+		iterator.next();
+		iterator.remove();
+
+		Assert.assertTrue(testIterator.removed());
+
+	}
+
+	@Test(expected = IllegalStateException.class)
+	@SuppressWarnings("unchecked")
+	public void remove_beforeNext() {
+
+		Iterator<Object> iterator = new InterleavingIterator<Object>();
+
+		iterator.remove();
+
+	}
+
+}
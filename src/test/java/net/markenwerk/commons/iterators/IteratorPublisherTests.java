@@ -0,0 +1,299 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterators;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+@SuppressWarnings("javadoc")
+public class IteratorPublisherTests {
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullIterator() {
+
+		new IteratorPublisher<Object>(null);
+
+	}
+
+	@Test(expected = NullPointerException.class)
+	public void subscribe_nullSubscriber() {
+
+		new IteratorPublisher<Object>(new EmptyIterator<Object>()).subscribe(null);
+
+	}
+
+	@Test
+	public void publish_demand() {
+
+		Publisher<Integer> publisher = new IteratorPublisher<Integer>(new CountUpIterator(1, 3));
+		RecordingSubscriber<Integer> subscriber = new RecordingSubscriber<Integer>();
+		publisher.subscribe(subscriber);
+
+		Assert.assertTrue(subscriber.values.isEmpty());
+
+		subscriber.subscription.request(2);
+
+		Assert.assertEquals(2, subscriber.values.size());
+		Assert.assertEquals(Integer.valueOf(1), subscriber.values.get(0));
+		Assert.assertEquals(Integer.valueOf(2), subscriber.values.get(1));
+		Assert.assertFalse(subscriber.completed);
+
+		subscriber.subscription.request(1);
+
+		Assert.assertEquals(3, subscriber.values.size());
+		Assert.assertEquals(Integer.valueOf(3), subscriber.values.get(2));
+		Assert.assertTrue(subscriber.completed);
+		Assert.assertNull(subscriber.throwable);
+
+	}
+
+	@Test
+	public void publish_unboundedDemand() {
+
+		Publisher<Integer> publisher = new IteratorPublisher<Integer>(new CountUpIterator(1, 3));
+		RecordingSubscriber<Integer> subscriber = new RecordingSubscriber<Integer>();
+		publisher.subscribe(subscriber);
+
+		subscriber.subscription.request(Long.MAX_VALUE);
+		subscriber.subscription.request(Long.MAX_VALUE);
+
+		Assert.assertEquals(3, subscriber.values.size());
+		Assert.assertTrue(subscriber.completed);
+
+	}
+
+	@Test
+	public void publish_empty() {
+
+		Publisher<Object> publisher = new IteratorPublisher<Object>(new EmptyIterator<Object>());
+		RecordingSubscriber<Object> subscriber = new RecordingSubscriber<Object>();
+		publisher.subscribe(subscriber);
+
+		subscriber.subscription.request(1);
+
+		Assert.assertTrue(subscriber.values.isEmpty());
+		Assert.assertTrue(subscriber.completed);
+
+	}
+
+	@Test
+	public void publish_emptyWithoutDemand() {
+
+		Publisher<Object> publisher = new IteratorPublisher<Object>(new EmptyIterator<Object>());
+		RecordingSubscriber<Object> subscriber = new RecordingSubscriber<Object>();
+		publisher.subscribe(subscriber);
+
+		Assert.assertTrue(subscriber.values.isEmpty());
+		Assert.assertTrue(subscriber.completed);
+
+	}
+
+	@Test
+	public void publish_lastValueWithoutDemand() {
+
+		Publisher<Integer> publisher = new IteratorPublisher<Integer>(new CountUpIterator(1, 1));
+		RecordingSubscriber<Integer> subscriber = new RecordingSubscriber<Integer>();
+		publisher.subscribe(subscriber);
+
+		Assert.assertFalse(subscriber.completed);
+
+		subscriber.subscription.request(1);
+
+		Assert.assertEquals(1, subscriber.values.size());
+		Assert.assertTrue(subscriber.completed);
+
+	}
+
+	@Test
+	public void publish_reentrantRequest() {
+
+		Publisher<Integer> publisher = new IteratorPublisher<Integer>(new CountUpIterator(1, 10000));
+		RecordingSubscriber<Integer> subscriber = new RecordingSubscriber<Integer>() {
+
+			@Override
+			public void onNext(Integer payload) {
+				super.onNext(payload);
+				subscription.request(1);
+			}
+
+		};
+		publisher.subscribe(subscriber);
+
+		subscriber.subscription.request(1);
+
+		Assert.assertEquals(10000, subscriber.values.size());
+		Assert.assertTrue(subscriber.completed);
+
+	}
+
+	@Test
+	public void publish_cancel() {
+
+		Publisher<Integer> publisher = new IteratorPublisher<Integer>(new CountUpIterator(1, 3));
+		RecordingSubscriber<Integer> subscriber = new RecordingSubscriber<Integer>();
+		publisher.subscribe(subscriber);
+
+		subscriber.subscription.request(1);
+		subscriber.subscription.cancel();
+		subscriber.subscription.request(1);
+
+		Assert.assertEquals(1, subscriber.values.size());
+		Assert.assertFalse(subscriber.completed);
+
+	}
+
+	@Test
+	public void publish_invalidRequest() {
+
+		Publisher<Integer> publisher = new IteratorPublisher<Integer>(new CountUpIterator(1, 3));
+		RecordingSubscriber<Integer> subscriber = new RecordingSubscriber<Integer>();
+		publisher.subscribe(subscriber);
+
+		subscriber.subscription.request(0);
+
+		Assert.assertTrue(subscriber.values.isEmpty());
+		Assert.assertTrue(subscriber.throwable instanceof IllegalArgumentException);
+
+	}
+
+	@Test
+	public void publish_failingIterator() {
+
+		final RuntimeException exception = new RuntimeException();
+		Iterator<Object> iterator = new AbstractProtectedIterator<Object>() {
+
+			@Override
+			public boolean hasNext() {
+				throw exception;
+			}
+
+			@Override
+			public Object next() {
+				throw exception;
+			}
+
+		};
+		Publisher<Object> publisher = new IteratorPublisher<Object>(iterator);
+		RecordingSubscriber<Object> subscriber = new RecordingSubscriber<Object>();
+		publisher.subscribe(subscriber);
+
+		subscriber.subscription.request(1);
+
+		Assert.assertSame(exception, subscriber.throwable);
+		Assert.assertFalse(subscriber.completed);
+
+	}
+
+	@Test
+	public void publish_nullValue() {
+
+		Publisher<Object> publisher = new IteratorPublisher<Object>(new ArrayIterator<Object>(new Object[] { null }));
+		RecordingSubscriber<Object> subscriber = new RecordingSubscriber<Object>();
+		publisher.subscribe(subscriber);
+
+		subscriber.subscription.request(1);
+
+		Assert.assertTrue(subscriber.throwable instanceof NullPointerException);
+
+	}
+
+	@Test
+	public void publish_secondSubscriber() {
+
+		Publisher<Integer> publisher = new IteratorPublisher<Integer>(new CountUpIterator(1, 3));
+		publisher.subscribe(new RecordingSubscriber<Integer>());
+		RecordingSubscriber<Integer> subscriber = new RecordingSubscriber<Integer>();
+		publisher.subscribe(subscriber);
+
+		subscriber.subscription.request(1);
+
+		Assert.assertNotNull(subscriber.subscription);
+		Assert.assertTrue(subscriber.values.isEmpty());
+		Assert.assertTrue(subscriber.throwable instanceof IllegalStateException);
+		Assert.assertFalse(subscriber.completed);
+
+	}
+
+	@Test
+	public void publish_executor() {
+
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+
+			Publisher<Integer> publisher = new IteratorPublisher<Integer>(new CountUpIterator(1, 1000), executor);
+			SubscribingIterator<Integer> iterator = new SubscribingIterator<Integer>(16);
+			publisher.subscribe(iterator);
+
+			for (int i = 1; i <= 1000; i++) {
+				Assert.assertEquals(Integer.valueOf(i), iterator.next());
+			}
+			Assert.assertFalse(iterator.hasNext());
+
+		} finally {
+			executor.shutdown();
+		}
+
+	}
+
+	private static class RecordingSubscriber<Payload> implements Subscriber<Payload> {
+
+		protected Subscription subscription;
+
+		private final List<Payload> values = new ArrayList<Payload>();
+
+		private Throwable throwable;
+
+		private boolean completed;
+
+		@Override
+		public void onSubscribe(Subscription subscription) {
+			this.subscription = subscription;
+		}
+
+		@Override
+		public void onNext(Payload payload) {
+			values.add(payload);
+		}
+
+		@Override
+		public void onError(Throwable throwable) {
+			Assert.assertNull(this.throwable);
+			Assert.assertFalse(completed);
+			this.throwable = throwable;
+		}
+
+		@Override
+		public void onComplete() {
+			Assert.assertNull(throwable);
+			Assert.assertFalse(completed);
+			completed = true;
+		}
+
+	}
+
+}
@@ -51,6 +51,43 @@ public class LongArrayIteratorTests {
 
 	}
 
+	@Test
+	public void iterate_nextLong() {
+
+		long[] values = new long[] { 1, 2 };
+		LongIterator iterator = new LongArrayIterator(values);
+
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(values[0], iterator.nextLong());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(values[1], iterator.nextLong());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void drainTo() {
+
+		LongArrayIterator iterator = new LongArrayIterator(1L, 2L, 3L);
+		long[] destination = new long[3];
+
+		iterator.next();
+
+		Assert.assertEquals(2, iterator.drainTo(destination, 1, 2));
+		Assert.assertArrayEquals(new long[] { 0L, 2L, 3L }, destination);
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void drainTo_exceedingRange() {
+
+		LongArrayIterator iterator = new LongArrayIterator(1L, 2L, 3L);
+
+		iterator.drainTo(new long[3], 2, 2);
+
+	}
+
 	@Test(expected = NoSuchElementException.class)
 	public void iterate_noNext() {
 
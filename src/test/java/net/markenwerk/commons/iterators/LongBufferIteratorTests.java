@@ -0,0 +1,215 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterators;
+
+import java.nio.ByteBuffer;
+import java.nio.LongBuffer;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+@SuppressWarnings("javadoc")
+public class LongBufferIteratorTests {
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullBuffers() {
+
+		new LongBufferIterator((LongBuffer[]) null);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullBuffer() {
+
+		new LongBufferIterator((LongBuffer) null);
+
+	}
+
+	@Test
+	public void iterate() {
+
+		LongBuffer buffer = LongBuffer.wrap(new long[] { 1, 2 });
+		Iterator<Long> iterator = new LongBufferIterator(buffer);
+
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(Long.valueOf(1), iterator.next());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(Long.valueOf(2), iterator.next());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void iterate_nextLong() {
+
+		LongBuffer buffer = ByteBuffer.allocateDirect(16).asLongBuffer();
+		buffer.put(0, 1).put(1, 2);
+		LongIterator iterator = new LongBufferIterator(buffer);
+
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(1, iterator.nextLong());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(2, iterator.nextLong());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void iterate_remainingValues() {
+
+		LongBuffer buffer = LongBuffer.wrap(new long[] { 1, 2, 3 });
+		buffer.position(1);
+		LongBufferIterator iterator = new LongBufferIterator(buffer);
+
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(2, iterator.nextLong());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(3, iterator.nextLong());
+		Assert.assertFalse(iterator.hasNext());
+		Assert.assertEquals(1, buffer.position());
+
+	}
+
+	@Test
+	public void iterate_segments() {
+
+		LongBuffer first = LongBuffer.wrap(new long[] { 1 });
+		LongBuffer second = LongBuffer.wrap(new long[0]);
+		LongBuffer third = LongBuffer.wrap(new long[] { 2, 3 });
+		LongBufferIterator iterator = new LongBufferIterator(first, second, third);
+
+		Assert.assertEquals(1, iterator.nextLong());
+		Assert.assertEquals(2, iterator.nextLong());
+		Assert.assertEquals(3, iterator.nextLong());
+		Assert.assertFalse(iterator.hasNext());
+		Assert.assertEquals(3, iterator.previousLong());
+		Assert.assertEquals(2, iterator.previousLong());
+		Assert.assertEquals(1, iterator.previousLong());
+		Assert.assertFalse(iterator.hasPrevious());
+
+	}
+
+	@Test
+	public void drainTo_segments() {
+
+		LongBuffer first = LongBuffer.wrap(new long[] { 1L, 2L });
+		LongBuffer second = LongBuffer.wrap(new long[0]);
+		LongBuffer third = LongBuffer.wrap(new long[] { 3L, 4L, 5L });
+		LongBufferIterator iterator = new LongBufferIterator(first, second, third);
+		long[] destination = new long[4];
+
+		iterator.nextLong();
+
+		Assert.assertEquals(3, iterator.drainTo(destination, 1, 3));
+		Assert.assertArrayEquals(new long[] { 0L, 2L, 3L, 4L }, destination);
+		Assert.assertEquals(5L, iterator.nextLong());
+		Assert.assertFalse(iterator.hasNext());
+		Assert.assertEquals(0, first.position());
+		Assert.assertEquals(0, third.position());
+
+	}
+
+	@Test
+	public void iterate_moveToEnd() {
+
+		LongBuffer buffer = LongBuffer.wrap(new long[] { 1, 2 });
+		LongBufferIterator iterator = new LongBufferIterator(buffer);
+
+		iterator.moveToEnd();
+
+		Assert.assertFalse(iterator.hasNext());
+		Assert.assertEquals(Long.valueOf(2), iterator.previous());
+		Assert.assertEquals(Long.valueOf(1), iterator.previous());
+		Assert.assertFalse(iterator.hasPrevious());
+
+	}
+
+	@Test
+	public void skip() {
+
+		LongBuffer first = LongBuffer.wrap(new long[] { 1, 2 });
+		LongBuffer second = LongBuffer.wrap(new long[] { 3 });
+		LongBufferIterator iterator = new LongBufferIterator(first, second);
+
+		Assert.assertEquals(2, iterator.skip(2));
+		Assert.assertEquals(3, iterator.nextLong());
+		Assert.assertEquals(0, iterator.skip(1));
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void split() {
+
+		LongBuffer first = LongBuffer.wrap(new long[] { 1, 2 });
+		LongBuffer second = LongBuffer.wrap(new long[] { 3, 4, 5 });
+		LongBufferIterator iterator = new LongBufferIterator(first, second);
+
+		iterator.nextLong();
+		LongBufferIterator split = iterator.split();
+
+		Assert.assertEquals(2, split.nextLong());
+		Assert.assertEquals(3, split.nextLong());
+		Assert.assertFalse(split.hasNext());
+		Assert.assertEquals(4, iterator.nextLong());
+		Assert.assertEquals(5, iterator.nextLong());
+		Assert.assertFalse(iterator.hasNext());
+		Assert.assertEquals(5, iterator.previousLong());
+		Assert.assertEquals(4, iterator.previousLong());
+		Assert.assertFalse(iterator.hasPrevious());
+
+	}
+
+	@Test
+	public void split_tooSmall() {
+
+		LongBuffer buffer = LongBuffer.wrap(new long[] { 1 });
+		LongBufferIterator iterator = new LongBufferIterator(buffer);
+
+		Assert.assertNull(iterator.split());
+		Assert.assertEquals(1, iterator.nextLong());
+
+	}
+
+	@Test(expected = NoSuchElementException.class)
+	public void iterate_noNext() {
+
+		LongIterator iterator = new LongBufferIterator(LongBuffer.wrap(new long[0]));
+
+		iterator.nextLong();
+
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void remove() {
+
+		LongBuffer buffer = LongBuffer.wrap(new long[] { 1 });
+		Iterator<Long> iterator = new LongBufferIterator(buffer);
+
+		iterator.next();
+		iterator.remove();
+
+	}
+
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterators;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+@SuppressWarnings("javadoc")
+public class LongCountUpIteratorTests {
+
+	@Test
+	public void iterate() {
+
+		Iterator<Long> iterator = new LongCountUpIterator(-1, 1);
+
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(Long.valueOf(-1), iterator.next());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(Long.valueOf(0), iterator.next());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(Long.valueOf(1), iterator.next());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void iterate_nextLong() {
+
+		LongIterator iterator = new LongCountUpIterator(Long.MAX_VALUE - 1);
+
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(Long.MAX_VALUE - 1, iterator.nextLong());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(Long.MAX_VALUE, iterator.nextLong());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void iterate_empty() {
+
+		Iterator<Long> iterator = new LongCountUpIterator(1, 0);
+
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void iterate_hugeRange() {
+
+		LongCountUpIterator iterator = new LongCountUpIterator(Long.MIN_VALUE, Long.MAX_VALUE);
+
+		Assert.assertEquals(Long.MAX_VALUE, iterator.estimateSize());
+		Assert.assertEquals(Long.MIN_VALUE, iterator.nextLong());
+
+	}
+
+	@Test
+	public void split() {
+
+		LongCountUpIterator iterator = new LongCountUpIterator(10, 14);
+		iterator.nextLong();
+
+		LongCountUpIterator splitIterator = iterator.split();
+
+		Assert.assertEquals(11, splitIterator.nextLong());
+		Assert.assertEquals(12, splitIterator.nextLong());
+		Assert.assertFalse(splitIterator.hasNext());
+		Assert.assertEquals(13, iterator.nextLong());
+		Assert.assertEquals(14, iterator.nextLong());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void split_tooSmall() {
+
+		LongCountUpIterator iterator = new LongCountUpIterator(0, 0);
+
+		Assert.assertNull(iterator.split());
+		Assert.assertEquals(0, iterator.nextLong());
+
+	}
+
+	@Test
+	public void characteristics() {
+
+		LongCountUpIterator iterator = new LongCountUpIterator(1, 2);
+
+		Assert.assertEquals(CharacterizedIterator.ORDERED | CharacterizedIterator.SIZED
+				| CharacterizedIterator.SUBSIZED | CharacterizedIterator.NONNULL | CharacterizedIterator.DISTINCT
+				| CharacterizedIterator.SORTED, iterator.characteristics());
+		Assert.assertEquals(2, iterator.estimateSize());
+
+	}
+
+	@Test(expected = NoSuchElementException.class)
+	public void iterate_noNext() {
+
+		Iterator<Long> iterator = new LongCountUpIterator(1, 0);
+
+		iterator.next();
+
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void remove() {
+
+		Iterator<Long> iterator = new LongCountUpIterator(0);
+
+		iterator.next();
+		iterator.remove();
+
+	}
+
+}
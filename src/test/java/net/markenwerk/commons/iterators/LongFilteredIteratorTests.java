@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterators;
+
+import java.nio.LongBuffer;
+import java.util.NoSuchElementException;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+@SuppressWarnings("javadoc")
+public class LongFilteredIteratorTests {
+
+	private static final LongPredicate EVEN_PREDICATE = new LongPredicate() {
+		@Override
+		public boolean test(long value) {
+			return 0 == value % 2;
+		}
+	};
+
+	private static final LongPredicate THROWING_PREDICATE = new LongPredicate() {
+		@Override
+		public boolean test(long value) {
+			if (2 == value) {
+				throw new IllegalStateException();
+			}
+			return 0 == value % 2;
+		}
+	};
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullIterator() {
+
+		new LongFilteredIterator(null, EVEN_PREDICATE);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullPredicate() {
+
+		new LongFilteredIterator(new LongArrayIterator(), null);
+
+	}
+
+	@Test
+	public void iterate() {
+
+		LongIterator iterator = new LongFilteredIterator(new LongBufferIterator(LongBuffer.wrap(new long[] { 1, 2, 3, 4 })),
+				EVEN_PREDICATE);
+
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(2, iterator.nextLong());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(Long.valueOf(4), iterator.next());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void iterate_array() {
+
+		LongIterator iterator = new LongFilteredIterator(new LongArrayIterator(1, 2, 3, 4, 5), EVEN_PREDICATE);
+
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(2, iterator.nextLong());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(4, iterator.nextLong());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void iterate_arrayPartiallyConsumed() {
+
+		LongArrayIterator source = new LongArrayIterator(1, 2, 3, 4);
+		source.nextLong();
+		source.nextLong();
+		LongIterator iterator = new LongFilteredIterator(source, EVEN_PREDICATE);
+
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(4, iterator.nextLong());
+		Assert.assertFalse(iterator.hasNext());
+		Assert.assertFalse(source.hasNext());
+
+	}
+
+	@Test
+	public void iterate_throwingPredicate() {
+
+		LongIterator iterator = new LongFilteredIterator(new LongBufferIterator(LongBuffer.wrap(new long[] { 1, 2, 3, 4 })),
+				THROWING_PREDICATE);
+
+		try {
+			iterator.hasNext();
+			Assert.fail();
+		} catch (IllegalStateException exception) {
+		}
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(4, iterator.nextLong());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void iterate_arrayThrowingPredicate() {
+
+		LongIterator iterator = new LongFilteredIterator(new LongArrayIterator(1, 2, 3, 4), THROWING_PREDICATE);
+
+		try {
+			iterator.hasNext();
+			Assert.fail();
+		} catch (IllegalStateException exception) {
+		}
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(4, iterator.nextLong());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void iterate_invertPredicate() {
+
+		LongIterator iterator = new LongFilteredIterator(new LongArrayIterator(1, 2, 3, 4), EVEN_PREDICATE, true);
+
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(1, iterator.nextLong());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(3, iterator.nextLong());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void characteristics() {
+
+		LongFilteredIterator iterator = new LongFilteredIterator(new LongArrayIterator(1, 2, 3, 4), EVEN_PREDICATE);
+
+		Assert.assertEquals(CharacterizedIterator.ORDERED | CharacterizedIterator.NONNULL, iterator.characteristics());
+		Assert.assertEquals(4, iterator.estimateSize());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(3, iterator.estimateSize());
+
+	}
+
+	@Test(expected = NoSuchElementException.class)
+	public void iterate_noNext() {
+
+		LongIterator iterator = new LongFilteredIterator(new LongArrayIterator(1), EVEN_PREDICATE);
+
+		iterator.nextLong();
+
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void remove() {
+
+		LongIterator iterator = new LongFilteredIterator(new LongArrayIterator(2), EVEN_PREDICATE);
+
+		iterator.nextLong();
+		iterator.remove();
+
+	}
+
+}
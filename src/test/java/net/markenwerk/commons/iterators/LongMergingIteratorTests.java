@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterators;
+
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+@SuppressWarnings("javadoc")
+public class LongMergingIteratorTests {
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullArray() {
+
+		new LongMergingIterator((LongIterator[]) null);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullIterable() {
+
+		new LongMergingIterator((Iterable<LongIterator>) null);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullIterator() {
+
+		new LongMergingIterator((Iterator<LongIterator>) null);
+
+	}
+
+	@Test
+	public void iterate_noIterators() {
+
+		LongIterator iterator = new LongMergingIterator();
+
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void iterate_iteratorsArray() {
+
+		LongIterator iterator = new LongMergingIterator(new LongArrayIterator(1, 4, 7), new LongArrayIterator(),
+				new LongArrayIterator(2, 3, 8), new LongArrayIterator(5, 6));
+
+		for (long i = 1; i <= 8; i++) {
+			Assert.assertTrue(iterator.hasNext());
+			Assert.assertEquals(i, iterator.nextLong());
+		}
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void iterate_iteratorsIterable() {
+
+		List<LongIterator> iteratorsList = new LinkedList<LongIterator>();
+		iteratorsList.add(new LongArrayIterator(2, 2, 3));
+		iteratorsList.add(new LongArrayIterator(1, 2));
+		Iterator<Long> iterator = new LongMergingIterator(iteratorsList);
+
+		Assert.assertEquals(Long.valueOf(1), iterator.next());
+		Assert.assertEquals(Long.valueOf(2), iterator.next());
+		Assert.assertEquals(Long.valueOf(2), iterator.next());
+		Assert.assertEquals(Long.valueOf(2), iterator.next());
+		Assert.assertEquals(Long.valueOf(3), iterator.next());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void iterate_iteratorsIterator() {
+
+		List<LongIterator> iteratorsList = new LinkedList<LongIterator>();
+		iteratorsList.add(new LongArrayIterator(2, 3));
+		iteratorsList.add(new LongArrayIterator(1, 4));
+		LongIterator iterator = new LongMergingIterator(iteratorsList.iterator());
+
+		for (long i = 1; i <= 4; i++) {
+			Assert.assertTrue(iterator.hasNext());
+			Assert.assertEquals(i, iterator.nextLong());
+		}
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test(expected = NoSuchElementException.class)
+	public void iterate_noNext() {
+
+		LongIterator iterator = new LongMergingIterator();
+
+		iterator.nextLong();
+
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void remove() {
+
+		LongIterator iterator = new LongMergingIterator(new LongArrayIterator(1));
+
+		iterator.next();
+		iterator.remove();
+
+	}
+
+}
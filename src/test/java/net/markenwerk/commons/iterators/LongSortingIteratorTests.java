@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterators;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+@SuppressWarnings("javadoc")
+public class LongSortingIteratorTests {
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullIterator() {
+
+		new LongSortingIterator(null, 1);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nonPositiveMemoryLimit() {
+
+		new LongSortingIterator(new LongArrayIterator(new long[0]), 0);
+
+	}
+
+	@Test
+	public void iterate_inMemory() {
+
+		LongIterator source = new LongArrayIterator(new long[] { 3, 1, 2 });
+		Iterator<Long> iterator = new LongSortingIterator(source, 10);
+
+		Assert.assertEquals(Long.valueOf(1), iterator.next());
+		Assert.assertEquals(Long.valueOf(2), iterator.next());
+		Assert.assertEquals(Long.valueOf(3), iterator.next());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void iterate_spilled() {
+
+		long[] values = randomValues(10000);
+		LongIterator iterator = new LongSortingIterator(new LongArrayIterator(values.clone()), 1500);
+
+		assertSorted(values, iterator);
+
+	}
+
+	@Test
+	public void iterate_spilledManyRuns() {
+
+		long[] values = randomValues(10000);
+		LongIterator iterator = new LongSortingIterator(new LongArrayIterator(values.clone()), 100);
+
+		assertSorted(values, iterator);
+
+	}
+
+	@Test
+	public void iterate_concurrently() {
+
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+
+			long[] values = randomValues(100000);
+			LongIterator iterator = new LongSortingIterator(new LongArrayIterator(values.clone()), 30000, executor);
+
+			assertSorted(values, iterator);
+
+		} finally {
+			executor.shutdown();
+		}
+
+	}
+
+	@Test
+	public void iterate_closed() {
+
+		LongIterator source = new LongArrayIterator(new long[] { 3, 1, 2 });
+		LongSortingIterator iterator = new LongSortingIterator(source, 1);
+
+		Assert.assertEquals(1, iterator.nextLong());
+		iterator.close();
+
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test(expected = NoSuchElementException.class)
+	public void iterate_noNext() {
+
+		LongIterator iterator = new LongSortingIterator(new LongArrayIterator(new long[0]), 1);
+
+		iterator.nextLong();
+
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void remove() {
+
+		LongIterator iterator = new LongSortingIterator(new LongArrayIterator(new long[] { 1 }), 1);
+
+		iterator.next();
+		iterator.remove();
+
+	}
+
+	private static long[] randomValues(int count) {
+		Random random = new Random(42);
+		long[] values = new long[count];
+		for (int i = 0; i < count; i++) {
+			values[i] = random.nextLong();
+		}
+		return values;
+	}
+
+	private static void assertSorted(long[] values, LongIterator iterator) {
+		Arrays.sort(values);
+		for (long value : values) {
+			Assert.assertTrue(iterator.hasNext());
+			Assert.assertEquals(value, iterator.nextLong());
+		}
+		Assert.assertFalse(iterator.hasNext());
+	}
+
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterators;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+@SuppressWarnings("javadoc")
+public class LongTopKIteratorTests {
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullIterator() {
+
+		new LongTopKIterator(null, 1);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nonPositiveSize() {
+
+		new LongTopKIterator(new LongArrayIterator(new long[0]), 0);
+
+	}
+
+	@Test
+	public void iterate() {
+
+		LongIterator source = new LongArrayIterator(new long[] { 3, 7, 1, 9, 4, 7 });
+		LongIterator iterator = new LongTopKIterator(source, 3);
+
+		Assert.assertEquals(9, iterator.nextLong());
+		Assert.assertEquals(7, iterator.nextLong());
+		Assert.assertEquals(7, iterator.nextLong());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void iterate_invertOrder() {
+
+		LongIterator source = new LongArrayIterator(new long[] { 3, 7, 1, 9, 4, 7 });
+		LongIterator iterator = new LongTopKIterator(source, 3, true);
+
+		Assert.assertEquals(1, iterator.nextLong());
+		Assert.assertEquals(3, iterator.nextLong());
+		Assert.assertEquals(4, iterator.nextLong());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void iterate_smallSource() {
+
+		LongIterator source = new LongArrayIterator(new long[] { 1, 2 });
+		Iterator<Long> iterator = new LongTopKIterator(source, 3);
+
+		Assert.assertEquals(Long.valueOf(2), iterator.next());
+		Assert.assertEquals(Long.valueOf(1), iterator.next());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void iterate_randomValues() {
+
+		Random random = new Random(42);
+		long[] values = new long[10000];
+		for (int i = 0; i < values.length; i++) {
+			values[i] = random.nextLong();
+		}
+		LongIterator iterator = new LongTopKIterator(new LongArrayIterator(values), 100);
+
+		Arrays.sort(values);
+		for (int i = 0; i < 100; i++) {
+			Assert.assertEquals(values[values.length - 1 - i], iterator.nextLong());
+		}
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test(expected = NoSuchElementException.class)
+	public void iterate_noNext() {
+
+		LongIterator iterator = new LongTopKIterator(new LongArrayIterator(new long[0]), 1);
+
+		iterator.nextLong();
+
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void remove() {
+
+		LongIterator iterator = new LongTopKIterator(new LongArrayIterator(new long[] { 1 }), 1);
+
+		iterator.next();
+		iterator.remove();
+
+	}
+
+}
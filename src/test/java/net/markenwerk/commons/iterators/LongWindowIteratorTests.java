@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterators;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+@SuppressWarnings("javadoc")
+public class LongWindowIteratorTests {
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullIterator() {
+
+		new LongWindowIterator(null, 1, 1);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nonPositiveSize() {
+
+		new LongWindowIterator(new LongArrayIterator(), 0, 1);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nonPositiveStep() {
+
+		new LongWindowIterator(new LongArrayIterator(), 1, 0);
+
+	}
+
+	@Test
+	public void iterate_sliding() {
+
+		Iterator<LongWindow> iterator = new LongWindowIterator(new LongArrayIterator(1, 2, 3, 4), 3, 1);
+
+		LongWindow first = iterator.next();
+		Assert.assertEquals(3, first.size());
+		Assert.assertEquals(1, first.get(0));
+		Assert.assertEquals(3, first.get(2));
+		Assert.assertEquals(6, first.getSum());
+		Assert.assertEquals(2, first.getAverage(), 0);
+
+		LongWindow second = iterator.next();
+		Assert.assertEquals(2, second.get(0));
+		Assert.assertEquals(4, second.get(2));
+		Assert.assertEquals(9, second.getSum());
+		Assert.assertEquals(3, second.getAverage(), 0);
+
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void iterate_hopping() {
+
+		Iterator<LongWindow> iterator = new LongWindowIterator(new LongArrayIterator(1, 2, 3, 4, 5, 6), 2, 3);
+
+		Assert.assertEquals(3, iterator.next().getSum());
+		Assert.assertEquals(9, iterator.next().getSum());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void iterate_invalidIndex() {
+
+		Iterator<LongWindow> iterator = new LongWindowIterator(new LongArrayIterator(1), 1, 1);
+
+		iterator.next().get(-1);
+
+	}
+
+	@Test(expected = NoSuchElementException.class)
+	public void iterate_noNext() {
+
+		Iterator<LongWindow> iterator = new LongWindowIterator(new LongArrayIterator(), 1, 1);
+
+		iterator.next();
+
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void remove() {
+
+		Iterator<LongWindow> iterator = new LongWindowIterator(new LongArrayIterator(1), 1, 1);
+
+		iterator.next();
+		iterator.remove();
+
+	}
+
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterators;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+@SuppressWarnings("javadoc")
+public class MergingIteratorTests {
+
+	private static final Comparator<Integer> COMPARATOR = new Comparator<Integer>() {
+
+		@Override
+		public int compare(Integer first, Integer second) {
+			return first.compareTo(second);
+		}
+
+	};
+
+	@Test(expected = IllegalArgumentException.class)
+	@SuppressWarnings("unchecked")
+	public void create_nullComparator() {
+
+		new MergingIterator<Integer>(null, new EmptyIterator<Integer>());
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullArray() {
+
+		new MergingIterator<Integer>(COMPARATOR, (Iterator<Integer>[]) null);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullIterable() {
+
+		new MergingIterator<Integer>(COMPARATOR, (Iterable<Iterator<Integer>>) null);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullIterator() {
+
+		new MergingIterator<Integer>(COMPARATOR, (Iterator<Iterator<Integer>>) null);
+
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void iterate_noIterators() {
+
+		Iterator<Integer> iterator = new MergingIterator<Integer>(COMPARATOR);
+
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void iterate_iteratorsArray() {
+
+		Iterator<Integer> iterator = new MergingIterator<Integer>(COMPARATOR, new ArrayIterator<Integer>(1, 4, 7),
+				new EmptyIterator<Integer>(), new ArrayIterator<Integer>(2, 3, 8), new ArrayIterator<Integer>(5, 6));
+
+		for (int i = 1; i <= 8; i++) {
+			Assert.assertTrue(iterator.hasNext());
+			Assert.assertEquals(Integer.valueOf(i), iterator.next());
+		}
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void iterate_iteratorsIterable() {
+
+		List<Iterator<Integer>> iteratorsList = new LinkedList<Iterator<Integer>>();
+		iteratorsList.add(new ArrayIterator<Integer>(2, 3));
+		iteratorsList.add(new ArrayIterator<Integer>(1, 4));
+		Iterator<Integer> iterator = new MergingIterator<Integer>(COMPARATOR, iteratorsList);
+
+		for (int i = 1; i <= 4; i++) {
+			Assert.assertTrue(iterator.hasNext());
+			Assert.assertEquals(Integer.valueOf(i), iterator.next());
+		}
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void iterate_iteratorsIterator() {
+
+		List<Iterator<Integer>> iteratorsList = new LinkedList<Iterator<Integer>>();
+		iteratorsList.add(new ArrayIterator<Integer>(2, 3));
+		iteratorsList.add(new ArrayIterator<Integer>(1, 4));
+		Iterator<Integer> iterator = new MergingIterator<Integer>(COMPARATOR, iteratorsList.iterator());
+
+		for (int i = 1; i <= 4; i++) {
+			Assert.assertTrue(iterator.hasNext());
+			Assert.assertEquals(Integer.valueOf(i), iterator.next());
+		}
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void iterate_stable() {
+
+		Integer[] first = new Integer[] { new Integer(1), new Integer(2) };
+		Integer[] second = new Integer[] { new Integer(1), new Integer(2) };
+		Iterator<Integer> iterator = new MergingIterator<Integer>(COMPARATOR, new ArrayIterator<Integer>(first),
+				new ArrayIterator<Integer>(second));
+
+		Assert.assertSame(first[0], iterator.next());
+		Assert.assertSame(second[0], iterator.next());
+		Assert.assertSame(first[1], iterator.next());
+		Assert.assertSame(second[1], iterator.next());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test(expected = NoSuchElementException.class)
+	@SuppressWarnings("unchecked")
+	public void iterate_noNext() {
+
+		Iterator<Integer> iterator = new MergingIterator<Integer>(COMPARATOR);
+
+		iterator.next();
+
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	@SuppressWarnings("unchecked")
+	public void remove() {
+
+		Iterator<Integer> iterator = new MergingIterator<Integer>(COMPARATOR, new ArrayIterator<Integer>(1));
+
+		iterator.next();
+		iterator.remove();
+
+	}
+
+}
@@ -74,6 +74,21 @@ public class NullFreeIteratorTests {
 
 	}
 
+	@Test
+	public void characteristics() {
+
+		Object[] values = new Object[] { new Object(), null };
+		NullFreeIterator<Object> iterator = new NullFreeIterator<Object>(new ArrayIterator<Object>(values));
+
+		Assert.assertEquals(CharacterizedIterator.ORDERED | CharacterizedIterator.NONNULL, iterator.characteristics());
+		Assert.assertEquals(2, iterator.estimateSize());
+		iterator.next();
+		Assert.assertEquals(1, iterator.estimateSize());
+		iterator.hasNext();
+		Assert.assertEquals(0, iterator.estimateSize());
+
+	}
+
 	@Test
 	public void remove() {
 
@@ -80,6 +80,25 @@ public class NullSaveIteratorTests {
 
 	}
 
+	@Test
+	public void characteristics() {
+
+		CharacterizedIterator<Integer> iterator = new NullSaveIterator<Integer>(new CountUpIterator(1, 2));
+
+		Assert.assertEquals(new CountUpIterator(1, 2).characteristics(), iterator.characteristics());
+		Assert.assertEquals(2, iterator.estimateSize());
+
+	}
+
+	@Test
+	public void characteristics_nullIterator() {
+
+		CharacterizedIterator<Object> iterator = new NullSaveIterator<Object>((Iterator<Object>) null);
+
+		Assert.assertEquals(0, iterator.estimateSize());
+
+	}
+
 	@Test
 	public void remove() {
 
@@ -21,7 +21,10 @@
  */
 package net.markenwerk.commons.iterators;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Iterator;
+import java.util.List;
 import java.util.NoSuchElementException;
 
 import net.markenwerk.commons.datastructures.Pair;
@@ -53,6 +56,34 @@ public class PairIteratorTests {
 
 	}
 
+	@Test
+	public void drainTo() {
+
+		Pair<Object> pair = new Pair<Object>(new Object(), new Object());
+		PairIterator<Object> iterator = new PairIterator<Object>(pair);
+		Object[] destination = new Object[3];
+
+		Assert.assertEquals(2, iterator.drainTo(destination, 1, 2));
+		Assert.assertArrayEquals(new Object[] { null, pair.getFirst(), pair.getSecond() }, destination);
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void drainTo_collection() {
+
+		Pair<Object> pair = new Pair<Object>(new Object(), new Object());
+		PairIterator<Object> iterator = new PairIterator<Object>(pair);
+		List<Object> destination = new ArrayList<Object>();
+
+		iterator.next();
+
+		Assert.assertEquals(1, iterator.drainTo(destination));
+		Assert.assertEquals(Collections.singletonList(pair.getSecond()), destination);
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
 	@Test(expected = NoSuchElementException.class)
 	public void iterate_noNext() {
 
@@ -0,0 +1,227 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterators;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+import net.markenwerk.commons.interfaces.Converter;
+import net.markenwerk.commons.interfaces.Predicate;
+
+@SuppressWarnings("javadoc")
+public class PipelineEventsTests {
+
+	private final RecordingListener listener = new RecordingListener();
+
+	@After
+	public void disableEvents() {
+
+		PipelineEvents.setListener(null);
+
+	}
+
+	@Test
+	public void disabled() {
+
+		Iterator<Integer> iterator = new FilteredIterator<Integer>(new CountUpIterator(1, 2), new Predicate<Integer>() {
+			@Override
+			public boolean test(Integer value) {
+				return true;
+			}
+		});
+		PipelineEvents.setListener(listener);
+
+		drain(iterator);
+
+		Assert.assertTrue(listener.events.isEmpty());
+
+	}
+
+	@Test
+	public void filtered() {
+
+		PipelineEvents.setListener(listener);
+		Iterator<Integer> iterator = new FilteredIterator<Integer>(new CountUpIterator(1, 4), new Predicate<Integer>() {
+			@Override
+			public boolean test(Integer value) {
+				return 0 == value % 2;
+			}
+		});
+
+		drain(iterator);
+		iterator.hasNext();
+
+		Assert.assertEquals(2, listener.events.size());
+		Assert.assertEquals("started", listener.events.get(0));
+		Assert.assertEquals("ended 2", listener.events.get(1));
+
+	}
+
+	@Test
+	public void converting() {
+
+		PipelineEvents.setListener(listener);
+		Iterator<String> iterator = new ConvertingIterator<Integer, String>(new CountUpIterator(1, 3),
+				new Converter<Integer, String>() {
+					@Override
+					public String convert(Integer value) {
+						return value.toString();
+					}
+				});
+
+		drain(iterator);
+
+		Assert.assertEquals(2, listener.events.size());
+		Assert.assertEquals("started", listener.events.get(0));
+		Assert.assertEquals("ended 3", listener.events.get(1));
+
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void combined() {
+
+		PipelineEvents.setListener(listener);
+		Iterator<Integer> iterator = new CombinedIterator<Integer>(new CountUpIterator(1, 2), new CountUpIterator(3, 5));
+
+		drain(iterator);
+
+		Assert.assertEquals(2, listener.events.size());
+		Assert.assertEquals("started", listener.events.get(0));
+		Assert.assertEquals("ended 5", listener.events.get(1));
+
+	}
+
+	@Test
+	public void sorting() {
+
+		PipelineEvents.setListener(listener);
+		Iterator<Long> iterator = new LongSortingIterator(new LongArrayIterator(new long[] { 3, 1, 2 }), 2);
+
+		drain(iterator);
+
+		Assert.assertEquals(3, listener.events.size());
+		Assert.assertEquals("chunk 2", listener.events.get(0));
+		Assert.assertEquals("spilled 2 16", listener.events.get(1));
+		Assert.assertEquals("chunk 1", listener.events.get(2));
+
+	}
+
+	@Test
+	public void recording() {
+
+		PipelineEvents.setListener(listener);
+		RecordingIterator<Integer> iterator = new RecordingIterator<Integer>(new CountUpIterator(0, 2047), 0,
+				new Serializer<Integer>() {
+
+					@Override
+					public void serialize(Integer payload, DataOutput output) throws IOException {
+						output.writeInt(payload);
+					}
+
+					@Override
+					public Integer deserialize(DataInput input) throws IOException {
+						return input.readInt();
+					}
+
+				});
+
+		drain(iterator);
+		iterator.close();
+
+		Assert.assertEquals(2, listener.events.size());
+		Assert.assertTrue(listener.events.get(0).startsWith("spilled 1024 "));
+		Assert.assertTrue(listener.events.get(1).startsWith("spilled 1024 "));
+
+	}
+
+	@Test
+	public void subscribing() throws InterruptedException {
+
+		PipelineEvents.setListener(listener);
+		final SubscribingIterator<Integer> iterator = new SubscribingIterator<Integer>(1);
+		Thread thread = new Thread() {
+			@Override
+			public void run() {
+				try {
+					Thread.sleep(50);
+				} catch (InterruptedException e) {
+				}
+				iterator.onComplete();
+			}
+		};
+
+		thread.start();
+		Assert.assertFalse(iterator.hasNext());
+		thread.join();
+
+		Assert.assertEquals(1, listener.events.size());
+		Assert.assertEquals("stalled", listener.events.get(0));
+
+	}
+
+	private static void drain(Iterator<?> iterator) {
+		while (iterator.hasNext()) {
+			iterator.next();
+		}
+	}
+
+	private static final class RecordingListener implements PipelineListener {
+
+		private final List<String> events = new ArrayList<String>();
+
+		@Override
+		public synchronized void onPipelineStarted(Iterator<?> iterator) {
+			events.add("started");
+		}
+
+		@Override
+		public synchronized void onPipelineEnded(Iterator<?> iterator, long elementCount, long duration) {
+			events.add("ended " + elementCount);
+		}
+
+		@Override
+		public synchronized void onChunkProcessed(Iterator<?> iterator, long elementCount, long duration) {
+			events.add("chunk " + elementCount);
+		}
+
+		@Override
+		public synchronized void onPrefetchStalled(Iterator<?> iterator, long duration) {
+			events.add("stalled");
+		}
+
+		@Override
+		public synchronized void onSpilled(Iterator<?> iterator, long elementCount, long byteCount, long duration) {
+			events.add("spilled " + elementCount + " " + byteCount);
+		}
+
+	}
+
+}
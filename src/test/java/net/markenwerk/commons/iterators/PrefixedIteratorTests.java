@@ -101,6 +101,51 @@ public class PrefixedIteratorTests {
 
 	}
 
+	@Test
+	public void estimateSize() {
+
+		Object[] values = new Object[] { new Object(), new Object() };
+		PrefixedIterator<Object> iterator = new PrefixedIterator<Object>(new ArrayIterator<Object>(values), PREFIX, PREFIX);
+
+		for (int i = 4; i > 0; i--) {
+			Assert.assertEquals(i, iterator.estimateSize());
+			iterator.next();
+		}
+		Assert.assertEquals(0, iterator.estimateSize());
+
+	}
+
+	@Test
+	public void estimateSize_noElements() {
+
+		PrefixedIterator<Object> iterator = new PrefixedIterator<Object>(new EmptyIterator<Object>(), PREFIX);
+
+		Assert.assertEquals(1, iterator.estimateSize());
+		iterator.next();
+		Assert.assertEquals(0, iterator.estimateSize());
+
+	}
+
+	@Test
+	public void characteristics() {
+
+		PrefixedIterator<Integer> iterator = new PrefixedIterator<Integer>(new CountUpIterator(1, 2), 0);
+
+		Assert.assertEquals(CharacterizedIterator.ORDERED | CharacterizedIterator.SIZED
+				| CharacterizedIterator.SUBSIZED | CharacterizedIterator.NONNULL, iterator.characteristics());
+
+	}
+
+	@Test
+	public void characteristics_nullPrefix() {
+
+		PrefixedIterator<Integer> iterator = new PrefixedIterator<Integer>(new CountUpIterator(1, 2), (Integer) null);
+
+		Assert.assertEquals(CharacterizedIterator.ORDERED | CharacterizedIterator.SIZED
+				| CharacterizedIterator.SUBSIZED, iterator.characteristics());
+
+	}
+
 	@Test(expected = NoSuchElementException.class)
 	public void iterate_noNext() {
 
@@ -50,6 +50,16 @@ public class ProtectingIteratorTests {
 
 	}
 
+	@Test
+	public void characteristics() {
+
+		CharacterizedIterator<Integer> iterator = new ProtectingIterator<Integer>(new CountUpIterator(1, 2));
+
+		Assert.assertEquals(new CountUpIterator(1, 2).characteristics(), iterator.characteristics());
+		Assert.assertEquals(2, iterator.estimateSize());
+
+	}
+
 	@Test(expected = UnsupportedOperationException.class)
 	public void remove() {
 
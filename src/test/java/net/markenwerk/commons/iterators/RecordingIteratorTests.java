@@ -0,0 +1,190 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterators;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+@SuppressWarnings("javadoc")
+public class RecordingIteratorTests {
+
+	private static final Serializer<Integer> SERIALIZER = new Serializer<Integer>() {
+
+		@Override
+		public void serialize(Integer payload, DataOutput output) throws IOException {
+			output.writeInt(payload);
+		}
+
+		@Override
+		public Integer deserialize(DataInput input) throws IOException {
+			return input.readInt();
+		}
+
+	};
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullIterator() {
+
+		new RecordingIterator<Object>(null);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_negativeMemoryLimit() {
+
+		new RecordingIterator<Integer>(new EmptyIterator<Integer>(), -1, SERIALIZER);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullSerializer() {
+
+		new RecordingIterator<Integer>(new EmptyIterator<Integer>(), 0, null);
+
+	}
+
+	@Test
+	public void iterate() {
+
+		Iterator<Integer> iterator = new RecordingIterator<Integer>(new CountUpIterator(1, 2));
+
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(Integer.valueOf(1), iterator.next());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(Integer.valueOf(2), iterator.next());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void iterate_replay() {
+
+		RecordingIterator<Integer> iterator = new RecordingIterator<Integer>(new CountUpIterator(1, 3));
+		Iterator<Integer> firstReplay = iterator.replay();
+
+		Assert.assertEquals(Integer.valueOf(1), firstReplay.next());
+		Assert.assertEquals(Integer.valueOf(1), iterator.next());
+		Assert.assertEquals(Integer.valueOf(2), iterator.next());
+		Assert.assertEquals(Integer.valueOf(3), iterator.next());
+		Assert.assertFalse(iterator.hasNext());
+
+		Assert.assertEquals(Integer.valueOf(2), firstReplay.next());
+		Assert.assertEquals(Integer.valueOf(3), firstReplay.next());
+		Assert.assertFalse(firstReplay.hasNext());
+
+		Iterator<Integer> secondReplay = iterator.replay();
+		Assert.assertEquals(Integer.valueOf(1), secondReplay.next());
+		Assert.assertEquals(Integer.valueOf(2), secondReplay.next());
+		Assert.assertEquals(Integer.valueOf(3), secondReplay.next());
+		Assert.assertFalse(secondReplay.hasNext());
+
+	}
+
+	@Test
+	public void iterate_cycle() {
+
+		RecordingIterator<Integer> iterator = new RecordingIterator<Integer>(new CountUpIterator(1, 2));
+		Iterator<Integer> cycle = iterator.cycle();
+
+		for (int i = 0; i < 3; i++) {
+			Assert.assertTrue(cycle.hasNext());
+			Assert.assertEquals(Integer.valueOf(1), cycle.next());
+			Assert.assertTrue(cycle.hasNext());
+			Assert.assertEquals(Integer.valueOf(2), cycle.next());
+		}
+
+	}
+
+	@Test
+	public void iterate_cycleEmpty() {
+
+		RecordingIterator<Integer> iterator = new RecordingIterator<Integer>(new EmptyIterator<Integer>());
+
+		Assert.assertFalse(iterator.cycle().hasNext());
+
+	}
+
+	@Test
+	public void iterate_spilled() {
+
+		RecordingIterator<Integer> iterator = new RecordingIterator<Integer>(new CountUpIterator(0, 4999), 1000,
+				SERIALIZER);
+
+		for (int i = 0; i < 5000; i++) {
+			Assert.assertEquals(Integer.valueOf(i), iterator.next());
+		}
+		Assert.assertFalse(iterator.hasNext());
+
+		Iterator<Integer> replay = iterator.replay();
+		for (int i = 0; i < 5000; i++) {
+			Assert.assertEquals(Integer.valueOf(i), replay.next());
+		}
+		Assert.assertFalse(replay.hasNext());
+
+		iterator.close();
+
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void iterate_spilledAfterClose() {
+
+		RecordingIterator<Integer> iterator = new RecordingIterator<Integer>(new CountUpIterator(0, 4999), 1000,
+				SERIALIZER);
+
+		for (int i = 0; i < 5000; i++) {
+			iterator.next();
+		}
+		iterator.close();
+
+		Iterator<Integer> replay = iterator.replay();
+		while (replay.hasNext()) {
+			replay.next();
+		}
+
+	}
+
+	@Test(expected = NoSuchElementException.class)
+	public void iterate_noNext() {
+
+		Iterator<Object> iterator = new RecordingIterator<Object>(new EmptyIterator<Object>());
+
+		iterator.next();
+
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void remove() {
+
+		Iterator<Object> iterator = new RecordingIterator<Object>(new ObjectIterator<Object>(new Object()));
+
+		iterator.next();
+		iterator.remove();
+
+	}
+
+}
@@ -64,6 +64,21 @@ public class RemoveHandlerIteratorTests {
 
 	}
 
+	@Test
+	public void characteristics() {
+
+		CharacterizedIterator<Integer> iterator = new RemoveHandlerIterator<Integer>(new CountUpIterator(1, 2),
+				new Handler<Integer>() {
+					@Override
+					public void handle(Integer value) {
+					}
+				});
+
+		Assert.assertEquals(new CountUpIterator(1, 2).characteristics(), iterator.characteristics());
+		Assert.assertEquals(2, iterator.estimateSize());
+
+	}
+
 	@Test
 	public void remove() {
 
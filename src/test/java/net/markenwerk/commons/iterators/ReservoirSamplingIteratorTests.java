@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterators;
+
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+@SuppressWarnings("javadoc")
+public class ReservoirSamplingIteratorTests {
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullIterator() {
+
+		new ReservoirSamplingIterator<Object>(null, 1);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nonPositiveSampleSize() {
+
+		new ReservoirSamplingIterator<Object>(new EmptyIterator<Object>(), 0);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullRandom() {
+
+		new ReservoirSamplingIterator<Object>(new EmptyIterator<Object>(), 1, null);
+
+	}
+
+	@Test
+	public void iterate_smallSource() {
+
+		Iterator<Integer> iterator = new ReservoirSamplingIterator<Integer>(new CountUpIterator(1, 3), 5);
+
+		Assert.assertEquals(Integer.valueOf(1), iterator.next());
+		Assert.assertEquals(Integer.valueOf(2), iterator.next());
+		Assert.assertEquals(Integer.valueOf(3), iterator.next());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void iterate_sample() {
+
+		Iterator<Integer> iterator = new ReservoirSamplingIterator<Integer>(new CountUpIterator(1, 1000), 10);
+
+		Set<Integer> sample = new HashSet<Integer>();
+		while (iterator.hasNext()) {
+			int value = iterator.next();
+			Assert.assertTrue(value >= 1 && value <= 1000);
+			sample.add(value);
+		}
+
+		Assert.assertEquals(10, sample.size());
+
+	}
+
+	@Test
+	public void iterate_uniform() {
+
+		Random random = new Random(42);
+		int[] counts = new int[10];
+		for (int i = 0; i < 20000; i++) {
+			Iterator<Integer> iterator = new ReservoirSamplingIterator<Integer>(new CountUpIterator(0, 9), 2, random);
+			while (iterator.hasNext()) {
+				counts[iterator.next()]++;
+			}
+		}
+
+		for (int count : counts) {
+			Assert.assertTrue(count > 3600 && count < 4400);
+		}
+
+	}
+
+	@Test
+	public void iterate_unindexed() {
+
+		Iterator<Integer> source = new ProtectingIterator<Integer>(new CountUpIterator(1, 1000));
+		Iterator<Integer> iterator = new ReservoirSamplingIterator<Integer>(source, 10);
+
+		Set<Integer> sample = new HashSet<Integer>();
+		while (iterator.hasNext()) {
+			sample.add(iterator.next());
+		}
+
+		Assert.assertEquals(10, sample.size());
+		Assert.assertFalse(source.hasNext());
+
+	}
+
+	@Test(expected = NoSuchElementException.class)
+	public void iterate_noNext() {
+
+		Iterator<Object> iterator = new ReservoirSamplingIterator<Object>(new EmptyIterator<Object>(), 1);
+
+		iterator.next();
+
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void remove() {
+
+		Iterator<Integer> iterator = new ReservoirSamplingIterator<Integer>(new CountUpIterator(1, 3), 1);
+
+		iterator.next();
+		iterator.remove();
+
+	}
+
+}
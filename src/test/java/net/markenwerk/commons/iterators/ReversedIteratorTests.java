@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterators;
+
+import java.util.NoSuchElementException;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+@SuppressWarnings("javadoc")
+public class ReversedIteratorTests {
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullIterator() {
+
+		new ReversedIterator<Object>(null);
+
+	}
+
+	@Test
+	public void iterate_fromEnd() {
+
+		Object[] values = new Object[] { new Object(), new Object() };
+		ArrayIterator<Object> arrayIterator = new ArrayIterator<Object>(values);
+		arrayIterator.moveToEnd();
+		BidirectionalIterator<Object> iterator = new ReversedIterator<Object>(arrayIterator);
+
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertSame(values[1], iterator.next());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertSame(values[0], iterator.next());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void iterate_fromStart() {
+
+		Object[] values = new Object[] { new Object(), new Object() };
+		BidirectionalIterator<Object> iterator = new ReversedIterator<Object>(new ArrayIterator<Object>(values));
+
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void iterate_previous() {
+
+		Object[] values = new Object[] { new Object(), new Object() };
+		ArrayIterator<Object> arrayIterator = new ArrayIterator<Object>(values);
+		arrayIterator.moveToEnd();
+		BidirectionalIterator<Object> iterator = new ReversedIterator<Object>(arrayIterator);
+
+		Assert.assertFalse(iterator.hasPrevious());
+		Assert.assertSame(values[1], iterator.next());
+		Assert.assertTrue(iterator.hasPrevious());
+		Assert.assertSame(values[1], iterator.previous());
+		Assert.assertFalse(iterator.hasPrevious());
+
+	}
+
+	@Test(expected = NoSuchElementException.class)
+	public void iterate_noNext() {
+
+		BidirectionalIterator<Object> iterator = new ReversedIterator<Object>(new EmptyIterator<Object>());
+
+		iterator.next();
+
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void remove() {
+
+		ArrayIterator<Object> arrayIterator = new ArrayIterator<Object>(new Object());
+		arrayIterator.moveToEnd();
+		BidirectionalIterator<Object> iterator = new ReversedIterator<Object>(arrayIterator);
+
+		iterator.next();
+		iterator.remove();
+
+	}
+
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterators;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+@SuppressWarnings("javadoc")
+public class SamplingIteratorTests {
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullIterator() {
+
+		SamplingIterator.withProbability(null, 0.5);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_zeroProbability() {
+
+		SamplingIterator.withProbability(new EmptyIterator<Object>(), 0d);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_excessiveProbability() {
+
+		SamplingIterator.withProbability(new EmptyIterator<Object>(), 1.5);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullRandom() {
+
+		SamplingIterator.withProbability(new EmptyIterator<Object>(), 0.5, null);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nonPositiveStride() {
+
+		SamplingIterator.everyNth(new EmptyIterator<Object>(), 0);
+
+	}
+
+	@Test
+	public void iterate_stride() {
+
+		Iterator<Integer> iterator = SamplingIterator.everyNth(new CountUpIterator(1, 10), 3);
+
+		Assert.assertEquals(Integer.valueOf(1), iterator.next());
+		Assert.assertEquals(Integer.valueOf(4), iterator.next());
+		Assert.assertEquals(Integer.valueOf(7), iterator.next());
+		Assert.assertEquals(Integer.valueOf(10), iterator.next());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void iterate_stride_unindexed() {
+
+		Iterator<Integer> source = new ProtectingIterator<Integer>(new CountUpIterator(1, 5));
+		Iterator<Integer> iterator = SamplingIterator.everyNth(source, 2);
+
+		Assert.assertEquals(Integer.valueOf(1), iterator.next());
+		Assert.assertEquals(Integer.valueOf(3), iterator.next());
+		Assert.assertEquals(Integer.valueOf(5), iterator.next());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void iterate_fullProbability() {
+
+		Iterator<Integer> iterator = SamplingIterator.withProbability(new CountUpIterator(1, 3), 1d);
+
+		Assert.assertEquals(Integer.valueOf(1), iterator.next());
+		Assert.assertEquals(Integer.valueOf(2), iterator.next());
+		Assert.assertEquals(Integer.valueOf(3), iterator.next());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void iterate_integralProbability() {
+
+		Iterator<Integer> iterator = SamplingIterator.withProbability(new CountUpIterator(1, 3), 1);
+
+		Assert.assertEquals(Integer.valueOf(1), iterator.next());
+		Assert.assertEquals(Integer.valueOf(2), iterator.next());
+		Assert.assertEquals(Integer.valueOf(3), iterator.next());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void iterate_probability() {
+
+		CountingIterator source = new CountingIterator(100000);
+		Iterator<Integer> iterator = SamplingIterator.withProbability(source, 0.1, new Random(42));
+
+		int count = 0;
+		int last = -1;
+		while (iterator.hasNext()) {
+			int value = iterator.next();
+			Assert.assertTrue(value > last);
+			last = value;
+			count++;
+		}
+
+		Assert.assertTrue(count > 9000 && count < 11000);
+		Assert.assertEquals(count, source.retrieved);
+
+	}
+
+	@Test(expected = NoSuchElementException.class)
+	public void iterate_noNext() {
+
+		Iterator<Object> iterator = SamplingIterator.withProbability(new EmptyIterator<Object>(), 0.5);
+
+		iterator.next();
+
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void remove() {
+
+		Iterator<Integer> iterator = SamplingIterator.everyNth(new CountUpIterator(1, 3), 1);
+
+		iterator.next();
+		iterator.remove();
+
+	}
+
+	private static final class CountingIterator extends AbstractIndexedIterator<Integer> {
+
+		private int retrieved;
+
+		public CountingIterator(int size) {
+			super(0, size);
+		}
+
+		@Override
+		protected Integer get(int index) {
+			retrieved++;
+			return index;
+		}
+
+	}
+
+}
@@ -51,6 +51,29 @@ public class ShortArrayIteratorTests {
 
 	}
 
+	@Test
+	public void drainTo() {
+
+		ShortArrayIterator iterator = new ShortArrayIterator((short) 1, (short) 2, (short) 3);
+		short[] destination = new short[3];
+
+		iterator.next();
+
+		Assert.assertEquals(2, iterator.drainTo(destination, 1, 2));
+		Assert.assertArrayEquals(new short[] { 0, 2, 3 }, destination);
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void drainTo_exceedingRange() {
+
+		ShortArrayIterator iterator = new ShortArrayIterator((short) 1, (short) 2, (short) 3);
+
+		iterator.drainTo(new short[3], 2, 2);
+
+	}
+
 	@Test(expected = NoSuchElementException.class)
 	public void iterate_noNext() {
 
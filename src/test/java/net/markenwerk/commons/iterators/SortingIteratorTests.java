@@ -0,0 +1,207 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterators;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+@SuppressWarnings("javadoc")
+public class SortingIteratorTests {
+
+	private static final Serializer<Integer> SERIALIZER = new Serializer<Integer>() {
+
+		@Override
+		public void serialize(Integer payload, DataOutput output) throws IOException {
+			output.writeInt(payload);
+		}
+
+		@Override
+		public Integer deserialize(DataInput input) throws IOException {
+			return input.readInt();
+		}
+
+	};
+
+	private static final Comparator<Integer> COMPARATOR = new Comparator<Integer>() {
+
+		@Override
+		public int compare(Integer first, Integer second) {
+			return first.compareTo(second);
+		}
+
+	};
+
+	private static final Comparator<Integer> KEY_COMPARATOR = new Comparator<Integer>() {
+
+		@Override
+		public int compare(Integer first, Integer second) {
+			return Integer.valueOf(first / 100000).compareTo(second / 100000);
+		}
+
+	};
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullIterator() {
+
+		new SortingIterator<Integer>(null, COMPARATOR, 1, SERIALIZER);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullComparator() {
+
+		new SortingIterator<Integer>(new EmptyIterator<Integer>(), null, 1, SERIALIZER);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nonPositiveMemoryLimit() {
+
+		new SortingIterator<Integer>(new EmptyIterator<Integer>(), COMPARATOR, 0, SERIALIZER);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullSerializer() {
+
+		new SortingIterator<Integer>(new EmptyIterator<Integer>(), COMPARATOR, 1, null);
+
+	}
+
+	@Test
+	public void iterate_inMemory() {
+
+		Iterator<Integer> source = new ArrayIterator<Integer>(new Integer[] { 3, 1, 2 });
+		Iterator<Integer> iterator = new SortingIterator<Integer>(source, COMPARATOR, 10, SERIALIZER);
+
+		Assert.assertEquals(Integer.valueOf(1), iterator.next());
+		Assert.assertEquals(Integer.valueOf(2), iterator.next());
+		Assert.assertEquals(Integer.valueOf(3), iterator.next());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void iterate_spilled() {
+
+		Iterator<Integer> source = keyedValues(10000).iterator();
+		Iterator<Integer> iterator = new SortingIterator<Integer>(source, KEY_COMPARATOR, 1500, SERIALIZER);
+
+		assertStablySorted(iterator, 10000);
+
+	}
+
+	@Test
+	public void iterate_spilledManyRuns() {
+
+		Iterator<Integer> source = keyedValues(10000).iterator();
+		Iterator<Integer> iterator = new SortingIterator<Integer>(source, KEY_COMPARATOR, 100, SERIALIZER);
+
+		assertStablySorted(iterator, 10000);
+
+	}
+
+	@Test
+	public void iterate_concurrently() {
+
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+
+			Iterator<Integer> source = keyedValues(100000).iterator();
+			Iterator<Integer> iterator = new SortingIterator<Integer>(source, KEY_COMPARATOR, 30000, SERIALIZER,
+					executor);
+
+			assertStablySorted(iterator, 100000);
+
+		} finally {
+			executor.shutdown();
+		}
+
+	}
+
+	@Test
+	public void iterate_closed() {
+
+		Iterator<Integer> source = new CountUpIterator(0, 2);
+		SortingIterator<Integer> iterator = new SortingIterator<Integer>(source, COMPARATOR, 1, SERIALIZER);
+
+		Assert.assertEquals(Integer.valueOf(0), iterator.next());
+		iterator.close();
+
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test(expected = NoSuchElementException.class)
+	public void iterate_noNext() {
+
+		Iterator<Integer> source = new EmptyIterator<Integer>();
+		Iterator<Integer> iterator = new SortingIterator<Integer>(source, COMPARATOR, 1, SERIALIZER);
+
+		iterator.next();
+
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void remove() {
+
+		Iterator<Integer> source = new CountUpIterator(0, 0);
+		Iterator<Integer> iterator = new SortingIterator<Integer>(source, COMPARATOR, 1, SERIALIZER);
+
+		iterator.next();
+		iterator.remove();
+
+	}
+
+	private static List<Integer> keyedValues(int count) {
+		Random random = new Random(42);
+		List<Integer> values = new ArrayList<Integer>(count);
+		for (int i = 0; i < count; i++) {
+			values.add(random.nextInt(100) * 100000 + i);
+		}
+		return values;
+	}
+
+	private static void assertStablySorted(Iterator<Integer> iterator, int count) {
+		int last = -1;
+		for (int i = 0; i < count; i++) {
+			Assert.assertTrue(iterator.hasNext());
+			int value = iterator.next();
+			Assert.assertTrue(value > last);
+			last = value;
+		}
+		Assert.assertFalse(iterator.hasNext());
+	}
+
+}
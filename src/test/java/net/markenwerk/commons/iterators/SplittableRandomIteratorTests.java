@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterators;
+
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+@SuppressWarnings("javadoc")
+public class SplittableRandomIteratorTests {
+
+	@Test
+	public void iterate() {
+
+		Iterator<Long> iterator = new SplittableRandomIterator(0);
+
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(Long.valueOf(0xe220a8397b1dcdafL), iterator.next());
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(Long.valueOf(0x6e789e6aa1b965f4L), iterator.next());
+		Assert.assertTrue(iterator.hasNext());
+
+	}
+
+	@Test
+	public void iterate_sameSeed() {
+
+		SplittableRandomIterator first = new SplittableRandomIterator(42);
+		SplittableRandomIterator second = new SplittableRandomIterator(42);
+
+		for (int i = 0; i < 100; i++) {
+			Assert.assertEquals(first.nextLong(), second.nextLong());
+		}
+
+	}
+
+	@Test
+	public void split() {
+
+		SplittableRandomIterator first = new SplittableRandomIterator(42);
+		SplittableRandomIterator second = new SplittableRandomIterator(42);
+		SplittableRandomIterator firstSplit = first.split();
+		SplittableRandomIterator secondSplit = second.split();
+
+		Set<Long> values = new HashSet<Long>();
+		for (int i = 0; i < 100; i++) {
+			long value = firstSplit.nextLong();
+			Assert.assertEquals(value, secondSplit.nextLong());
+			Assert.assertEquals(first.nextLong(), second.nextLong());
+			values.add(value);
+		}
+		for (int i = 0; i < 100; i++) {
+			values.add(first.nextLong());
+		}
+		Assert.assertEquals(200, values.size());
+
+	}
+
+	@Test
+	public void iterate_unseeded() {
+
+		SplittableRandomIterator first = new SplittableRandomIterator();
+		SplittableRandomIterator second = new SplittableRandomIterator();
+
+		Assert.assertNotEquals(first.nextLong(), second.nextLong());
+
+	}
+
+	@Test
+	public void characteristics() {
+
+		SplittableRandomIterator iterator = new SplittableRandomIterator(0);
+
+		Assert.assertEquals(CharacterizedIterator.NONNULL, iterator.characteristics());
+		Assert.assertEquals(Long.MAX_VALUE, iterator.estimateSize());
+
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void remove() {
+
+		Iterator<Long> iterator = new SplittableRandomIterator(0);
+
+		iterator.next();
+		iterator.remove();
+
+	}
+
+}
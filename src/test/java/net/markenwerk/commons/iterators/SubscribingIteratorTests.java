@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterators;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+@SuppressWarnings("javadoc")
+public class SubscribingIteratorTests {
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nonPositivePrefetch() {
+
+		new SubscribingIterator<Object>(0);
+
+	}
+
+	@Test
+	public void subscribe_prefetch() {
+
+		RecordingSubscription subscription = new RecordingSubscription();
+		SubscribingIterator<Integer> iterator = new SubscribingIterator<Integer>(4);
+
+		iterator.onSubscribe(subscription);
+
+		Assert.assertEquals(4, subscription.requested);
+
+	}
+
+	@Test
+	public void subscribe_twice() {
+
+		RecordingSubscription subscription = new RecordingSubscription();
+		SubscribingIterator<Integer> iterator = new SubscribingIterator<Integer>(4);
+		iterator.onSubscribe(new RecordingSubscription());
+
+		iterator.onSubscribe(subscription);
+
+		Assert.assertEquals(0, subscription.requested);
+		Assert.assertTrue(subscription.cancelled);
+
+	}
+
+	@Test
+	public void iterate_replenish() {
+
+		RecordingSubscription subscription = new RecordingSubscription();
+		SubscribingIterator<Integer> iterator = new SubscribingIterator<Integer>(4);
+		iterator.onSubscribe(subscription);
+		for (int i = 1; i <= 4; i++) {
+			iterator.onNext(i);
+		}
+
+		Assert.assertEquals(Integer.valueOf(1), iterator.next());
+		Assert.assertEquals(Integer.valueOf(2), iterator.next());
+		Assert.assertEquals(4, subscription.requested);
+		Assert.assertEquals(Integer.valueOf(3), iterator.next());
+		Assert.assertEquals(7, subscription.requested);
+
+	}
+
+	@Test
+	public void iterate_complete() {
+
+		SubscribingIterator<Integer> iterator = new SubscribingIterator<Integer>(4);
+		iterator.onSubscribe(new RecordingSubscription());
+		iterator.onNext(1);
+		iterator.onComplete();
+
+		Assert.assertTrue(iterator.hasNext());
+		Assert.assertEquals(Integer.valueOf(1), iterator.next());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test(expected = PublisherException.class)
+	public void iterate_error() {
+
+		SubscribingIterator<Integer> iterator = new SubscribingIterator<Integer>(4);
+		iterator.onSubscribe(new RecordingSubscription());
+		iterator.onError(new RuntimeException());
+
+		iterator.hasNext();
+
+	}
+
+	@Test
+	public void iterate_publisher() {
+
+		Publisher<Integer> publisher = new IteratorPublisher<Integer>(new CountUpIterator(1, 100));
+		Iterator<Integer> iterator = new SubscribingIterator<Integer>(8);
+		publisher.subscribe((Subscriber<Integer>) iterator);
+
+		for (int i = 1; i <= 100; i++) {
+			Assert.assertEquals(Integer.valueOf(i), iterator.next());
+		}
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void close() {
+
+		RecordingSubscription subscription = new RecordingSubscription();
+		SubscribingIterator<Integer> iterator = new SubscribingIterator<Integer>(4);
+		iterator.onSubscribe(subscription);
+
+		iterator.close();
+
+		Assert.assertTrue(subscription.cancelled);
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test(expected = NullPointerException.class)
+	public void onNext_null() {
+
+		new SubscribingIterator<Integer>(4).onNext(null);
+
+	}
+
+	@Test(expected = NoSuchElementException.class)
+	public void iterate_noNext() {
+
+		SubscribingIterator<Integer> iterator = new SubscribingIterator<Integer>(4);
+		iterator.onComplete();
+
+		iterator.next();
+
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void remove() {
+
+		SubscribingIterator<Integer> iterator = new SubscribingIterator<Integer>(4);
+		iterator.onNext(1);
+
+		iterator.next();
+		iterator.remove();
+
+	}
+
+	private static final class RecordingSubscription implements Subscription {
+
+		private long requested;
+
+		private boolean cancelled;
+
+		@Override
+		public void request(long count) {
+			requested += count;
+		}
+
+		@Override
+		public void cancel() {
+			cancelled = true;
+		}
+
+	}
+
+}
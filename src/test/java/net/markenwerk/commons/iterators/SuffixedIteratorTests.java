@@ -101,6 +101,51 @@ public class SuffixedIteratorTests {
 
 	}
 
+	@Test
+	public void estimateSize() {
+
+		Object[] values = new Object[] { new Object(), new Object() };
+		SuffixedIterator<Object> iterator = new SuffixedIterator<Object>(new ArrayIterator<Object>(values), SUFFIX, SUFFIX);
+
+		for (int i = 4; i > 0; i--) {
+			Assert.assertEquals(i, iterator.estimateSize());
+			iterator.next();
+		}
+		Assert.assertEquals(0, iterator.estimateSize());
+
+	}
+
+	@Test
+	public void estimateSize_noElements() {
+
+		SuffixedIterator<Object> iterator = new SuffixedIterator<Object>(new EmptyIterator<Object>(), SUFFIX);
+
+		Assert.assertEquals(1, iterator.estimateSize());
+		iterator.next();
+		Assert.assertEquals(0, iterator.estimateSize());
+
+	}
+
+	@Test
+	public void characteristics() {
+
+		SuffixedIterator<Integer> iterator = new SuffixedIterator<Integer>(new CountUpIterator(1, 2), 0);
+
+		Assert.assertEquals(CharacterizedIterator.ORDERED | CharacterizedIterator.SIZED
+				| CharacterizedIterator.SUBSIZED | CharacterizedIterator.NONNULL, iterator.characteristics());
+
+	}
+
+	@Test
+	public void characteristics_nullSuffix() {
+
+		SuffixedIterator<Integer> iterator = new SuffixedIterator<Integer>(new CountUpIterator(1, 2), (Integer) null);
+
+		Assert.assertEquals(CharacterizedIterator.ORDERED | CharacterizedIterator.SIZED
+				| CharacterizedIterator.SUBSIZED, iterator.characteristics());
+
+	}
+
 	@Test(expected = NoSuchElementException.class)
 	public void iterate_noNext() {
 
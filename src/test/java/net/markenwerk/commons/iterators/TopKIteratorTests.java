@@ -0,0 +1,215 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterators;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+@SuppressWarnings("javadoc")
+public class TopKIteratorTests {
+
+	private static final Comparator<Integer> COMPARATOR = new Comparator<Integer>() {
+
+		@Override
+		public int compare(Integer first, Integer second) {
+			return first.compareTo(second);
+		}
+
+	};
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullIterator() {
+
+		new TopKIterator<Integer>(null, 1, COMPARATOR);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nonPositiveSize() {
+
+		new TopKIterator<Integer>(new EmptyIterator<Integer>(), 0, COMPARATOR);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullComparator() {
+
+		new TopKIterator<Integer>(new EmptyIterator<Integer>(), 1, null);
+
+	}
+
+	@Test
+	public void iterate() {
+
+		Iterator<Integer> source = new ArrayIterator<Integer>(new Integer[] { 3, 7, 1, 9, 4, 7 });
+		Iterator<Integer> iterator = new TopKIterator<Integer>(source, 3, COMPARATOR);
+
+		Assert.assertEquals(Integer.valueOf(9), iterator.next());
+		Assert.assertEquals(Integer.valueOf(7), iterator.next());
+		Assert.assertEquals(Integer.valueOf(7), iterator.next());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void iterate_smallSource() {
+
+		Iterator<Integer> source = new ArrayIterator<Integer>(new Integer[] { 2, 1 });
+		Iterator<Integer> iterator = new TopKIterator<Integer>(source, 3, COMPARATOR);
+
+		Assert.assertEquals(Integer.valueOf(2), iterator.next());
+		Assert.assertEquals(Integer.valueOf(1), iterator.next());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void iterate_equalValues() {
+
+		Integer first = new Integer(1);
+		Integer second = new Integer(1);
+		Iterator<Integer> source = new ArrayIterator<Integer>(new Integer[] { first, second });
+		Iterator<Integer> iterator = new TopKIterator<Integer>(source, 1, COMPARATOR);
+
+		Assert.assertSame(first, iterator.next());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void iterate_equalValuesAtBoundary() {
+
+		Integer first = new Integer(5);
+		Integer second = new Integer(5);
+		Integer third = new Integer(6);
+		Integer fourth = new Integer(5);
+		Iterator<Integer> source = new ArrayIterator<Integer>(new Integer[] { first, second, third, fourth });
+		Iterator<Integer> iterator = new TopKIterator<Integer>(source, 3, COMPARATOR);
+
+		Assert.assertSame(third, iterator.next());
+		Assert.assertSame(first, iterator.next());
+		Assert.assertSame(second, iterator.next());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void iterate_equalValuesEvicted() {
+
+		Integer first = new Integer(5);
+		Integer second = new Integer(5);
+		Integer third = new Integer(6);
+		Iterator<Integer> source = new ArrayIterator<Integer>(new Integer[] { first, second, third });
+		Iterator<Integer> iterator = new TopKIterator<Integer>(source, 2, COMPARATOR);
+
+		Assert.assertSame(third, iterator.next());
+		Assert.assertSame(first, iterator.next());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void iterate_concurrently() {
+
+		List<Integer> values = randomValues(100000);
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+
+			Iterator<Integer> iterator = new TopKIterator<Integer>(values.iterator(), 100, COMPARATOR, executor);
+
+			List<Integer> sortedValues = new ArrayList<Integer>(values);
+			Collections.sort(sortedValues, Collections.reverseOrder());
+			for (int i = 0; i < 100; i++) {
+				Assert.assertEquals(sortedValues.get(i), iterator.next());
+			}
+			Assert.assertFalse(iterator.hasNext());
+
+		} finally {
+			executor.shutdown();
+		}
+
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void iterate_concurrently_failingComparator() {
+
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+
+			Iterator<Integer> iterator = new TopKIterator<Integer>(randomValues(100).iterator(), 1,
+					new Comparator<Integer>() {
+
+						@Override
+						public int compare(Integer first, Integer second) {
+							throw new IllegalStateException();
+						}
+
+					}, executor);
+
+			iterator.hasNext();
+
+		} finally {
+			executor.shutdown();
+		}
+
+	}
+
+	@Test(expected = NoSuchElementException.class)
+	public void iterate_noNext() {
+
+		Iterator<Integer> iterator = new TopKIterator<Integer>(new EmptyIterator<Integer>(), 1, COMPARATOR);
+
+		iterator.next();
+
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void remove() {
+
+		Iterator<Integer> source = new ArrayIterator<Integer>(new Integer[] { 1 });
+		Iterator<Integer> iterator = new TopKIterator<Integer>(source, 1, COMPARATOR);
+
+		iterator.next();
+		iterator.remove();
+
+	}
+
+	private static List<Integer> randomValues(int count) {
+		Random random = new Random(42);
+		List<Integer> values = new ArrayList<Integer>(count);
+		for (int i = 0; i < count; i++) {
+			values.add(random.nextInt());
+		}
+		return values;
+	}
+
+}
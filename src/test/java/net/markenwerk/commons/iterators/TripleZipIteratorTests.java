@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterators;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import net.markenwerk.commons.datastructures.Triple;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+@SuppressWarnings("javadoc")
+public class TripleZipIteratorTests {
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullFirstIterator() {
+
+		new TripleZipIterator<Object, Object, Object>(null, new EmptyIterator<Object>(), new EmptyIterator<Object>());
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullSecondIterator() {
+
+		new TripleZipIterator<Object, Object, Object>(new EmptyIterator<Object>(), null, new EmptyIterator<Object>());
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullThirdIterator() {
+
+		new TripleZipIterator<Object, Object, Object>(new EmptyIterator<Object>(), new EmptyIterator<Object>(), null);
+
+	}
+
+	@Test
+	public void iterate() {
+
+		Iterator<Triple<String, Integer, Long>> iterator = new TripleZipIterator<String, Integer, Long>(
+				new ArrayIterator<String>("a", "b"), new ArrayIterator<Integer>(1, 2), new LongArrayIterator(3));
+
+		Assert.assertTrue(iterator.hasNext());
+		Triple<String, Integer, Long> first = iterator.next();
+		Assert.assertEquals("a", first.getFirst());
+		Assert.assertEquals(Integer.valueOf(1), first.getSecond());
+		Assert.assertEquals(Long.valueOf(3), first.getThird());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void iterate_advance() {
+
+		TripleZipIterator<String, Integer, Long> iterator = new TripleZipIterator<String, Integer, Long>(
+				new ArrayIterator<String>("a"), new ArrayIterator<Integer>(1), new LongArrayIterator(3));
+
+		iterator.advance();
+		Assert.assertEquals("a", iterator.getFirst());
+		Assert.assertEquals(Integer.valueOf(1), iterator.getSecond());
+		Assert.assertEquals(Long.valueOf(3), iterator.getThird());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test(expected = NoSuchElementException.class)
+	public void iterate_noNext() {
+
+		TripleZipIterator<Object, Object, Object> iterator = new TripleZipIterator<Object, Object, Object>(
+				new ObjectIterator<Object>(new Object()), new ObjectIterator<Object>(new Object()),
+				new EmptyIterator<Object>());
+
+		iterator.advance();
+
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void remove() {
+
+		Iterator<Triple<Object, Object, Object>> iterator = new TripleZipIterator<Object, Object, Object>(
+				new ObjectIterator<Object>(new Object()), new ObjectIterator<Object>(new Object()),
+				new ObjectIterator<Object>(new Object()));
+
+		iterator.next();
+		iterator.remove();
+
+	}
+
+}
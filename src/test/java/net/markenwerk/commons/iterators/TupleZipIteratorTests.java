@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterators;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import net.markenwerk.commons.datastructures.Tuple;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+@SuppressWarnings("javadoc")
+public class TupleZipIteratorTests {
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullFirstIterator() {
+
+		new TupleZipIterator<Object, Object>(null, new EmptyIterator<Object>());
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullSecondIterator() {
+
+		new TupleZipIterator<Object, Object>(new EmptyIterator<Object>(), null);
+
+	}
+
+	@Test
+	public void iterate() {
+
+		Iterator<Tuple<String, Integer>> iterator = new TupleZipIterator<String, Integer>(new ArrayIterator<String>(
+				"a", "b"), new ArrayIterator<Integer>(1, 2, 3));
+
+		Assert.assertTrue(iterator.hasNext());
+		Tuple<String, Integer> first = iterator.next();
+		Assert.assertEquals("a", first.getFirst());
+		Assert.assertEquals(Integer.valueOf(1), first.getSecond());
+		Assert.assertTrue(iterator.hasNext());
+		Tuple<String, Integer> second = iterator.next();
+		Assert.assertEquals("b", second.getFirst());
+		Assert.assertEquals(Integer.valueOf(2), second.getSecond());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void iterate_advance() {
+
+		TupleZipIterator<String, Integer> iterator = new TupleZipIterator<String, Integer>(
+				new ArrayIterator<String>("a", "b"), new ArrayIterator<Integer>(1, 2));
+
+		Assert.assertNull(iterator.getFirst());
+		Assert.assertNull(iterator.getSecond());
+
+		iterator.advance();
+		Assert.assertEquals("a", iterator.getFirst());
+		Assert.assertEquals(Integer.valueOf(1), iterator.getSecond());
+
+		iterator.advance();
+		Assert.assertEquals("b", iterator.getFirst());
+		Assert.assertEquals(Integer.valueOf(2), iterator.getSecond());
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test(expected = NoSuchElementException.class)
+	public void iterate_noNext() {
+
+		Iterator<Tuple<Object, Object>> iterator = new TupleZipIterator<Object, Object>(new ObjectIterator<Object>(
+				new Object()), new EmptyIterator<Object>());
+
+		iterator.next();
+
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void remove() {
+
+		Iterator<Tuple<Object, Object>> iterator = new TupleZipIterator<Object, Object>(new ObjectIterator<Object>(
+				new Object()), new ObjectIterator<Object>(new Object()));
+
+		iterator.next();
+		iterator.remove();
+
+	}
+
+}
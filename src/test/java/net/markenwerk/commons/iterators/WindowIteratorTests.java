@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterators;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+@SuppressWarnings("javadoc")
+public class WindowIteratorTests {
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullIterator() {
+
+		new WindowIterator<Object>(null, 1, 1);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nonPositiveSize() {
+
+		new WindowIterator<Object>(new EmptyIterator<Object>(), 0, 1);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nonPositiveStep() {
+
+		new WindowIterator<Object>(new EmptyIterator<Object>(), 1, 0);
+
+	}
+
+	@Test
+	public void iterate_tooFewElements() {
+
+		Iterator<List<Integer>> iterator = new WindowIterator<Integer>(new ArrayIterator<Integer>(1, 2), 3, 1);
+
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void iterate_sliding() {
+
+		Iterator<List<Integer>> iterator = new WindowIterator<Integer>(new ArrayIterator<Integer>(1, 2, 3, 4, 5), 3,
+				1);
+
+		Assert.assertTrue(iterator.hasNext());
+		assertWindow(iterator.next(), 1, 2, 3);
+		Assert.assertTrue(iterator.hasNext());
+		assertWindow(iterator.next(), 2, 3, 4);
+		Assert.assertTrue(iterator.hasNext());
+		assertWindow(iterator.next(), 3, 4, 5);
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void iterate_tumbling() {
+
+		Iterator<List<Integer>> iterator = new WindowIterator<Integer>(new ArrayIterator<Integer>(1, 2, 3, 4, 5), 2,
+				2);
+
+		assertWindow(iterator.next(), 1, 2);
+		assertWindow(iterator.next(), 3, 4);
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void iterate_hopping() {
+
+		Iterator<List<Integer>> iterator = new WindowIterator<Integer>(new ArrayIterator<Integer>(1, 2, 3, 4, 5, 6,
+				7), 2, 3);
+
+		assertWindow(iterator.next(), 1, 2);
+		assertWindow(iterator.next(), 4, 5);
+		Assert.assertFalse(iterator.hasNext());
+
+	}
+
+	@Test
+	public void iterate_hasNextKeepsWindow() {
+
+		Iterator<List<Integer>> iterator = new WindowIterator<Integer>(new ArrayIterator<Integer>(1, 2, 3), 2, 1);
+
+		List<Integer> window = iterator.next();
+		Assert.assertTrue(iterator.hasNext());
+		assertWindow(window, 1, 2);
+
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void iterate_windowReadOnly() {
+
+		Iterator<List<Integer>> iterator = new WindowIterator<Integer>(new ArrayIterator<Integer>(1), 1, 1);
+
+		iterator.next().set(0, 2);
+
+	}
+
+	@Test(expected = NoSuchElementException.class)
+	public void iterate_noNext() {
+
+		Iterator<List<Object>> iterator = new WindowIterator<Object>(new EmptyIterator<Object>(), 1, 1);
+
+		iterator.next();
+
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void remove() {
+
+		Iterator<List<Integer>> iterator = new WindowIterator<Integer>(new ArrayIterator<Integer>(1), 1, 1);
+
+		iterator.next();
+		iterator.remove();
+
+	}
+
+	private static void assertWindow(List<Integer> window, int... values) {
+		Assert.assertEquals(values.length, window.size());
+		for (int i = 0; i < values.length; i++) {
+			Assert.assertEquals(Integer.valueOf(values[i]), window.get(i));
+		}
+	}
+
+}
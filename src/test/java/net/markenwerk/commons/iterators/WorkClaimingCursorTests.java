@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2016 Torsten Krause, Markenwerk GmbH
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package net.markenwerk.commons.iterators;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+@SuppressWarnings("javadoc")
+public class WorkClaimingCursorTests {
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nullIterator() {
+
+		new WorkClaimingCursor<Integer>(null);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nonPositiveParallelism() {
+
+		new WorkClaimingCursor<Integer>(new CountUpIterator(0, 9), 0, 1);
+
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void create_nonPositiveMinimumChunkSize() {
+
+		new WorkClaimingCursor<Integer>(new CountUpIterator(0, 9), 1, 0);
+
+	}
+
+	@Test
+	public void iterate() {
+
+		CountUpIterator source = new CountUpIterator(0, 99);
+		source.next();
+		WorkClaimingCursor<Integer> cursor = new WorkClaimingCursor<Integer>(source, 4, 1);
+
+		Assert.assertFalse(source.hasNext());
+		Assert.assertEquals(99, cursor.unclaimed());
+
+		Iterator<Integer> iterator = cursor.iterator();
+		for (int i = 1; i < 100; i++) {
+			Assert.assertTrue(iterator.hasNext());
+			Assert.assertEquals(Integer.valueOf(i), iterator.next());
+		}
+		Assert.assertFalse(iterator.hasNext());
+		Assert.assertEquals(0, cursor.unclaimed());
+
+	}
+
+	@Test
+	public void iterate_interleaved() {
+
+		WorkClaimingCursor<Integer> cursor = new WorkClaimingCursor<Integer>(new CountUpIterator(0, 999), 2, 8);
+		Iterator<Integer> first = cursor.iterator();
+		Iterator<Integer> second = cursor.iterator();
+
+		Set<Integer> values = new HashSet<Integer>();
+		while (first.hasNext() || second.hasNext()) {
+			if (first.hasNext()) {
+				Assert.assertTrue(values.add(first.next()));
+			}
+			if (second.hasNext()) {
+				Assert.assertTrue(values.add(second.next()));
+			}
+		}
+		Assert.assertEquals(1000, values.size());
+
+	}
+
+	@Test
+	public void iterate_concurrently() throws Exception {
+
+		final WorkClaimingCursor<Integer> cursor = new WorkClaimingCursor<Integer>(new CountUpIterator(0, 99999));
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+
+			List<Future<List<Integer>>> futures = new ArrayList<Future<List<Integer>>>();
+			for (int i = 0; i < 4; i++) {
+				futures.add(executor.submit(new Callable<List<Integer>>() {
+
+					@Override
+					public List<Integer> call() {
+						List<Integer> values = new ArrayList<Integer>();
+						for (Integer value : cursor) {
+							values.add(value);
+						}
+						return values;
+					}
+
+				}));
+			}
+
+			Set<Integer> values = new HashSet<Integer>();
+			int count = 0;
+			for (Future<List<Integer>> future : futures) {
+				List<Integer> claimedValues = future.get();
+				values.addAll(claimedValues);
+				count += claimedValues.size();
+			}
+			Assert.assertEquals(100000, count);
+			Assert.assertEquals(100000, values.size());
+
+		} finally {
+			executor.shutdown();
+		}
+
+	}
+
+	@Test(expected = NoSuchElementException.class)
+	public void iterate_noNext() {
+
+		Iterator<Object> iterator = new WorkClaimingCursor<Object>(new ArrayIterator<Object>()).iterator();
+
+		iterator.next();
+
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void remove() {
+
+		Iterator<Object> iterator = new WorkClaimingCursor<Object>(new ArrayIterator<Object>(new Object()))
+				.iterator();
+
+		iterator.next();
+		iterator.remove();
+
+	}
+
+}